@@ -16,7 +16,11 @@ android {
         versionCode = 1
         versionName = "1.0"
 
-        testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+        // AndroidJUnitRunner를 확장한 러너. 일반 계측 테스트도 그대로 실행됨
+        testInstrumentationRunner = "androidx.benchmark.junit4.AndroidBenchmarkRunner"
+
+        // 현재 날씨 요청 헤징(응답이 늦으면 한 번 더 요청) 사용 여부
+        buildConfigField("boolean", "HEDGE_CURRENT_WEATHER", "true")
     }
 
     buildTypes {
@@ -28,6 +32,18 @@ android {
                 "proguard-rules.pro"
             )
         }
+        // 마이크로벤치마크용: 디버깅 불가능한 빌드로 측정하되, 측정 대상 클래스가 제거되지 않도록 난독화/축소는 끔
+        create("benchmark") {
+            initWith(getByName("release"))
+            signingConfig = signingConfigs.getByName("debug")
+            isMinifyEnabled = false
+            isShrinkResources = false
+            matchingFallbacks += listOf("release")
+        }
+    }
+    // ./gradlew connectedAndroidTest -Pbenchmark 로 벤치마크 빌드 타입에서 계측 테스트 실행
+    if (project.hasProperty("benchmark")) {
+        testBuildType = "benchmark"
     }
     kotlin {
         jvmToolchain(17)
@@ -35,6 +51,7 @@ android {
 
     buildFeatures {
         compose = true
+        buildConfig = true
     }
     composeOptions {
         kotlinCompilerExtensionVersion = "1.5.8"
@@ -42,6 +59,12 @@ android {
     lint {
         baseline = file("lint-baseline.xml")
     }
+    testOptions {
+        // JVM 단위 테스트에서 android.util.Log 등은 기본값을 반환
+        unitTests.isReturnDefaultValues = true
+        // Robolectric 테스트에서 앱 리소스와 매니페스트를 사용
+        unitTests.isIncludeAndroidResources = true
+    }
 }
 
 dependencies {
@@ -82,8 +105,14 @@ dependencies {
     implementation(libs.androidx.work.runtime.ktx)
 
     testImplementation(libs.junit)
+    testImplementation(libs.squareup.mockwebserver)
+    testImplementation(libs.robolectric)
+    testImplementation(libs.androidx.test.core)
+    testImplementation(libs.androidx.work.testing)
+    testImplementation(libs.kotlinx.coroutines.test)
     androidTestImplementation(libs.androidx.junit)
     androidTestImplementation(libs.androidx.espresso.core)
+    androidTestImplementation(libs.androidx.benchmark.junit4)
     androidTestImplementation(platform(libs.androidx.compose.bom))
     androidTestImplementation(libs.androidx.compose.ui.test.junit4)
     debugImplementation(platform(libs.androidx.compose.bom))
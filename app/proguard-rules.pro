@@ -18,4 +18,15 @@
 
 # If you keep the line number information, uncomment this to
 # hide the original source file name.
-#-renamesourcefileattribute SourceFile
\ No newline at end of file
+#-renamesourcefileattribute SourceFile
+# Gson: 네트워크 DTO와 GeocodeResult는 WeatherGson의 수동 TypeAdapter로 읽고 쓰므로 규칙이 필요 없음.
+# PreferenceManager가 리플렉션으로 저장하는 클래스는 필드 이름이 JSON 키이므로 유지.
+-keepclassmembers class com.example.weatherproject.data.WeatherState { <fields>; }
+-keepclassmembers class com.example.weatherproject.data.CurrentWeather { <fields>; }
+-keepclassmembers class com.example.weatherproject.data.WeatherDetails { <fields>; }
+-keepclassmembers class com.example.weatherproject.data.HourlyForecast { <fields>; }
+-keepclassmembers class com.example.weatherproject.data.WeeklyForecast { <fields>; }
+-keepclassmembers class com.example.weatherproject.util.PreparedBriefing { <fields>; }
+# Gson은 enum을 상수 이름으로 저장
+-keepclassmembers enum com.example.weatherproject.data.** { <fields>; }
+-keepclassmembers enum com.example.weatherproject.network.CircuitState { <fields>; }
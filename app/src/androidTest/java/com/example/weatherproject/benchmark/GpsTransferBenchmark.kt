@@ -0,0 +1,89 @@
+package com.example.weatherproject.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.example.weatherproject.util.GpsTransfer
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import kotlin.math.PI
+import kotlin.math.cos
+import kotlin.math.ln
+import kotlin.math.pow
+import kotlin.math.sin
+import kotlin.math.tan
+import kotlin.random.Random
+
+/**
+ * 위경도 -> 기상청 격자 변환 비용 측정 (측정 1회 = POINTS개 변환).
+ *
+ * - precomputedPacked: 현재 방식. 투영 상수를 미리 계산하고 결과를 Long 하나에 담아 Pair를 만들지 않음
+ * - perCallConstants: 이전 방식. 호출마다 투영 상수를 다시 계산하고 Pair로 돌려줌
+ */
+@RunWith(AndroidJUnit4::class)
+class GpsTransferBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    // 기상청 격자 범위 안쪽의 위경도 (한반도 주변)
+    private val random = Random(42)
+    private val lats = DoubleArray(POINTS) { 33.0 + random.nextDouble() * 10.0 }
+    private val lons = DoubleArray(POINTS) { 124.0 + random.nextDouble() * 8.0 }
+
+    @Test
+    fun precomputedPacked() {
+        benchmarkRule.measureRepeated {
+            var sink = 0
+            for (i in 0 until POINTS) {
+                val packed = GpsTransfer.convertToGridPacked(lats[i], lons[i])
+                sink += GpsTransfer.unpackNx(packed) + GpsTransfer.unpackNy(packed)
+            }
+            check(sink > 0)
+        }
+    }
+
+    @Test
+    fun perCallConstants() {
+        benchmarkRule.measureRepeated {
+            var sink = 0
+            for (i in 0 until POINTS) {
+                val (x, y) = legacyGridPosition(lats[i], lons[i])
+                sink += (x + 0.5).toInt() + (y + 0.5).toInt()
+            }
+            check(sink > 0)
+        }
+    }
+
+    // 상수를 미리 계산하기 전의 GpsTransfer.convertToGridPosition
+    private fun legacyGridPosition(lat: Double, lon: Double): Pair<Double, Double> {
+        val degrad = PI / 180.0
+
+        val re = 6371.00877 / 5.0
+        val slat1 = 30.0 * degrad
+        val slat2 = 60.0 * degrad
+        val olon = 126.0 * degrad
+        val olat = 38.0 * degrad
+
+        var sn = tan(PI * 0.25 + slat2 * 0.5) / tan(PI * 0.25 + slat1 * 0.5)
+        sn = ln(cos(slat1) / cos(slat2)) / ln(sn)
+        var sf = tan(PI * 0.25 + slat1 * 0.5)
+        sf = sf.pow(sn) * cos(slat1) / sn
+        var ro = tan(PI * 0.25 + olat * 0.5)
+        ro = re * sf / ro.pow(sn)
+
+        var ra = tan(PI * 0.25 + lat * degrad * 0.5)
+        ra = re * sf / ra.pow(sn)
+        var theta = lon * degrad - olon
+        if (theta > PI) theta -= 2.0 * PI
+        if (theta < -PI) theta += 2.0 * PI
+        theta *= sn
+
+        return Pair(ra * sin(theta) + 43.0, ro - ra * cos(theta) + 136.0)
+    }
+
+    companion object {
+        private const val POINTS = 1_000
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.weatherproject.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.example.weatherproject.network.HourlyForecastDecoder
+import com.example.weatherproject.network.HourlyForecastResponse
+import com.google.gson.Gson
+import com.google.gson.stream.JsonReader
+import org.junit.Assert.assertEquals
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.io.StringReader
+
+/**
+ * 시간별 예보 응답 하나를 처리하는 비용 측정 (시간과 할당 수).
+ *
+ * - streamingDecoder: 현재 방식. 지나간 예보는 객체를 만들지 않고 건너뛰고, DEFAULT_LIMIT개를 채우면 멈춤
+ * - fullParseThenFilter: 이전 방식. 응답 전체를 리플렉션 Gson으로 파싱한 뒤 날짜+시간 문자열로 거름
+ */
+@RunWith(AndroidJUnit4::class)
+class HourlyForecastDecoderBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    // 서버 응답과 같은 모양: 오늘 00시부터 3일치 1시간 간격 예보
+    private val json = forecastJson()
+
+    @Test
+    fun streamingDecoder() {
+        assertEquals(parseThenFilter(), decode())
+
+        benchmarkRule.measureRepeated { decode() }
+    }
+
+    @Test
+    fun fullParseThenFilter() {
+        benchmarkRule.measureRepeated { parseThenFilter() }
+    }
+
+    private fun decode(): HourlyForecastResponse =
+        HourlyForecastDecoder.decode(JsonReader(StringReader(json)), NOW_DATE, NOW_TIME)
+
+    private fun parseThenFilter(): HourlyForecastResponse {
+        val response = reflectiveGson.fromJson(json, HourlyForecastResponse::class.java)
+        val currentDateTime = (NOW_DATE + NOW_TIME).toLongOrNull() ?: 0L
+        val upcoming = response.weather
+            .filter { item -> ((item.date + item.time).toLongOrNull() ?: 0L) >= currentDateTime }
+            .take(HourlyForecastDecoder.DEFAULT_LIMIT)
+        return response.copy(weather = upcoming)
+    }
+
+    private fun forecastJson(): String {
+        val items = (0 until 72).joinToString(",") { hour ->
+            val date = "2024052${hour / 24}"
+            val time = "%02d00".format(hour % 24)
+            """{"date":"$date","time":"$time","temp":${15.0 + hour % 10},"sky":"구름많음","pty":"없음","rain_amount":"강수없음","pop":${hour % 5 * 10}}"""
+        }
+        return """{"위치좌표":{"nx":60,"ny":127},"날씨":[$items]}"""
+    }
+
+    companion object {
+        private const val NOW_DATE = "20240520"
+        private const val NOW_TIME = "1400"
+        private val reflectiveGson = Gson()
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.weatherproject.benchmark
+
+import android.content.ContentValues
+import android.database.Cursor
+import android.database.sqlite.SQLiteDatabase
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.room.Room
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.HourlyForecast
+import com.example.weatherproject.data.PrecipitationType
+import com.example.weatherproject.data.SkyCondition
+import com.example.weatherproject.data.WeatherDetails
+import com.example.weatherproject.data.WeatherState
+import com.example.weatherproject.data.WeeklyForecast
+import com.example.weatherproject.data.local.AppDatabase
+import com.example.weatherproject.data.repository.GridKey
+import com.example.weatherproject.data.repository.WeatherCache
+import com.example.weatherproject.network.WeatherGson
+import com.google.gson.reflect.TypeToken
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withContext
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * 디스크 캐시 한 건을 WeatherState로 복원하는 비용 측정 (메모리 DB의 Room/SQLite 입출력 포함).
+ *
+ * - slotRows: 현재 방식. 시간별/주간 예보를 슬롯 테이블에서 읽어 그대로 매핑 (WeatherCache, 메모리 캐시 없음)
+ * - jsonColumns: 이전 방식(DB 버전 8). 예보를 JSON 문자열 열에 저장하고 읽을 때마다 TypeToken으로 다시 파싱
+ *
+ * ./gradlew connectedAndroidTest -Pbenchmark 로 실행하면 시간과 할당 수가 함께 기록됩니다.
+ */
+@RunWith(AndroidJUnit4::class)
+class WeatherCacheBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val grid = GridKey(60, 127)
+    private val state = weatherState()
+    private lateinit var db: AppDatabase
+
+    @Before
+    fun setUp() {
+        db = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), AppDatabase::class.java).build()
+    }
+
+    @After
+    fun tearDown() {
+        db.close()
+    }
+
+    @Test
+    fun slotRows() = runBlocking {
+        WeatherCache(db.weatherDao()).put(grid, state)
+        // 메모리 캐시 없이 매번 테이블에서 읽음
+        val cache = WeatherCache(db.weatherDao(), memoryCapacity = 0)
+        assertEquals(state.hourlyForecast, cache.get(grid)!!.hourlyForecast)
+
+        benchmarkRule.measureRepeated {
+            runBlocking { cache.get(grid)!! }
+        }
+    }
+
+    @Test
+    fun jsonColumns() = runBlocking {
+        createLegacyTable()
+        assertEquals(state.hourlyForecast, readLegacy().hourlyForecast)
+
+        benchmarkRule.measureRepeated {
+            runBlocking { readLegacy() }
+        }
+    }
+
+    // 버전 8의 weather_cache 스키마 (이름만 바꿈)
+    private fun createLegacyTable() {
+        val sqlite = db.openHelper.writableDatabase
+        sqlite.execSQL(
+            "CREATE TABLE `legacy_weather_cache` (`nx` INTEGER NOT NULL, `ny` INTEGER NOT NULL, " +
+                "`current_temperature` REAL, `current_maxTemp` REAL, `current_minTemp` REAL, `current_feelsLike` REAL, " +
+                "`current_sky` TEXT NOT NULL, `current_precipitation` TEXT NOT NULL, " +
+                "`details_humidity` REAL, `details_precipitation` REAL, `details_windSpeed` REAL, " +
+                "`details_pm10` TEXT NOT NULL, `details_pressure` REAL, `details_visibility` REAL, `details_uvIndex` INTEGER, " +
+                "`hourlyForecastJson` TEXT NOT NULL, `weeklyForecastJson` TEXT NOT NULL, " +
+                "`latitude` REAL NOT NULL, `longitude` REAL NOT NULL, `address` TEXT NOT NULL, `lastUpdatedAt` INTEGER, " +
+                "`cachedAt` INTEGER NOT NULL, `lastAccessedAt` INTEGER NOT NULL, PRIMARY KEY(`nx`, `ny`))"
+        )
+        val current = state.currentWeather
+        val details = state.weatherDetails
+        val values = ContentValues().apply {
+            put("nx", grid.nx)
+            put("ny", grid.ny)
+            put("current_temperature", current.temperature)
+            put("current_maxTemp", current.maxTemp)
+            put("current_minTemp", current.minTemp)
+            put("current_feelsLike", current.feelsLike)
+            put("current_sky", current.sky.name)
+            put("current_precipitation", current.precipitationType.name)
+            put("details_humidity", details.humidity)
+            put("details_precipitation", details.precipitation)
+            put("details_windSpeed", details.windSpeed)
+            put("details_pm10", details.pm10)
+            put("details_pressure", details.pressure)
+            put("details_visibility", details.visibility)
+            put("details_uvIndex", details.uvIndex)
+            put("hourlyForecastJson", gson.toJson(state.hourlyForecast))
+            put("weeklyForecastJson", gson.toJson(state.weeklyForecast))
+            put("latitude", state.latitude)
+            put("longitude", state.longitude)
+            put("address", state.address)
+            put("lastUpdatedAt", state.lastUpdatedAt)
+            put("cachedAt", 0L)
+            put("lastAccessedAt", 0L)
+        }
+        sqlite.insert("legacy_weather_cache", SQLiteDatabase.CONFLICT_REPLACE, values)
+    }
+
+    // 이전 WeatherCache.toWeatherState와 같은 매핑. Room의 suspend DAO처럼 쿼리 스레드에서 읽음
+    private suspend fun readLegacy(): WeatherState = withContext(db.queryExecutor.asCoroutineDispatcher()) {
+        db.openHelper.readableDatabase
+            .query("SELECT * FROM legacy_weather_cache WHERE nx = ? AND ny = ?", arrayOf<Any>(grid.nx, grid.ny))
+            .use { cursor ->
+                check(cursor.moveToFirst())
+                WeatherState(
+                    isLoading = false,
+                    currentWeather = CurrentWeather(
+                        temperature = cursor.doubleOrNull("current_temperature"),
+                        maxTemp = cursor.doubleOrNull("current_maxTemp"),
+                        minTemp = cursor.doubleOrNull("current_minTemp"),
+                        feelsLike = cursor.doubleOrNull("current_feelsLike"),
+                        sky = SkyCondition.valueOf(cursor.string("current_sky")),
+                        precipitationType = PrecipitationType.valueOf(cursor.string("current_precipitation"))
+                    ),
+                    weatherDetails = WeatherDetails(
+                        humidity = cursor.doubleOrNull("details_humidity"),
+                        precipitation = cursor.doubleOrNull("details_precipitation"),
+                        windSpeed = cursor.doubleOrNull("details_windSpeed"),
+                        pm10 = cursor.string("details_pm10"),
+                        pressure = cursor.doubleOrNull("details_pressure"),
+                        visibility = cursor.doubleOrNull("details_visibility"),
+                        uvIndex = cursor.doubleOrNull("details_uvIndex")?.toInt()
+                    ),
+                    hourlyForecast = gson.fromJson(cursor.string("hourlyForecastJson"), hourlyType),
+                    weeklyForecast = gson.fromJson(cursor.string("weeklyForecastJson"), weeklyType),
+                    latitude = cursor.doubleOrNull("latitude"),
+                    longitude = cursor.doubleOrNull("longitude"),
+                    address = cursor.string("address"),
+                    lastUpdatedAt = cursor.getLong(cursor.getColumnIndexOrThrow("lastUpdatedAt"))
+                )
+            }
+    }
+
+    private fun Cursor.string(column: String): String = getString(getColumnIndexOrThrow(column))
+
+    private fun Cursor.doubleOrNull(column: String): Double? {
+        val index = getColumnIndexOrThrow(column)
+        return if (isNull(index)) null else getDouble(index)
+    }
+
+    private fun weatherState(): WeatherState {
+        // 서버 응답과 비슷하게 3일치 시간별 예보, 7일치 주간 예보
+        val hourly = (0 until 72).map { hour ->
+            HourlyForecast(
+                date = "2024052${hour / 24}",
+                time = "%02d00".format(hour % 24),
+                temperature = 10.0 + hour % 12,
+                feelsLike = 8.0 + hour % 12,
+                sky = SkyCondition.CLEAR,
+                precipitationType = if (hour % 9 == 0) PrecipitationType.RAIN else PrecipitationType.NONE
+            )
+        }
+        val weekly = (0 until 7).map { day ->
+            WeeklyForecast("2024052$day", SkyCondition.CLEAR, SkyCondition.OVERCAST, maxTemp = 20.0 + day, minTemp = 10.0 + day)
+        }
+        return WeatherState(
+            isLoading = false,
+            currentWeather = CurrentWeather(21.0, 24.0, 14.0, 20.0, SkyCondition.MOSTLY_CLOUDY, PrecipitationType.NONE),
+            weatherDetails = WeatherDetails(humidity = 40.0, precipitation = 0.0, windSpeed = 2.3, pm10 = "보통"),
+            hourlyForecast = hourly,
+            weeklyForecast = weekly,
+            latitude = 37.5665,
+            longitude = 126.978,
+            address = "서울특별시 중구",
+            lastUpdatedAt = 1_716_181_200_000L
+        )
+    }
+
+    companion object {
+        // 이전 방식도 앱에서 쓰던 Gson(WeatherGson)으로 파싱
+        private val gson = WeatherGson.instance
+        private val hourlyType = object : TypeToken<List<HourlyForecast>>() {}.type
+        private val weeklyType = object : TypeToken<List<WeeklyForecast>>() {}.type
+    }
+}
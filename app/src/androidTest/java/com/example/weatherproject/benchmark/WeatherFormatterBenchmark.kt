@@ -0,0 +1,119 @@
+package com.example.weatherproject.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.SkyCondition
+import com.example.weatherproject.data.WeatherDetails
+import com.example.weatherproject.util.WeatherFormatter
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * 날씨 값을 표시하고 다시 읽는 비용 측정 (측정 1회 = STATES개 상태). 차이는 주로 할당 수에서 드러납니다.
+ *
+ * - numericModel: 현재 방식. 값은 숫자로 두고 화면에 표시할 때만 WeatherFormatter로 문자열을 만듦
+ * - stringModel: 이전 방식. 값을 문자열로 저장하고, 쓰는 곳마다 Regex로 다시 숫자로 읽음
+ */
+@RunWith(AndroidJUnit4::class)
+class WeatherFormatterBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val states = List(STATES) { index ->
+        val temp = -15.0 + index % 50 + 0.5
+        Pair(
+            CurrentWeather(
+                temperature = temp,
+                maxTemp = temp + 5,
+                minTemp = temp - 5,
+                feelsLike = temp - 2,
+                sky = SkyCondition.values()[index % SkyCondition.values().size]
+            ),
+            WeatherDetails(
+                humidity = (index % 100).toDouble(),
+                precipitation = (index % 4) * 0.5,
+                windSpeed = (index % 13) * 0.7
+            )
+        )
+    }
+
+    @Test
+    fun numericModel() {
+        benchmarkRule.measureRepeated {
+            var sink = 0
+            for ((current, details) in states) {
+                // 화면에 표시할 때 같은 개수의 문자열을 만듦
+                sink += WeatherFormatter.temperature(current.temperature).length +
+                    WeatherFormatter.temperature(current.feelsLike).length +
+                    WeatherFormatter.temperature(current.maxTemp).length +
+                    WeatherFormatter.temperature(current.minTemp).length +
+                    WeatherFormatter.humidity(details.humidity).length +
+                    WeatherFormatter.precipitation(details.precipitation).length +
+                    WeatherFormatter.windSpeed(details.windSpeed).length
+                sink += (current.feelsLike?.toInt() ?: 0) + (details.humidity?.toInt() ?: 0)
+            }
+            check(sink != 0)
+        }
+    }
+
+    @Test
+    fun stringModel() {
+        benchmarkRule.measureRepeated {
+            var sink = 0
+            for ((current, details) in states) {
+                val strings = legacyStrings(current, details)
+                val parsed = legacyParse(strings)
+                sink += strings.temperature.length + parsed.feelsLike + parsed.humidity
+            }
+            check(sink != 0)
+        }
+    }
+
+    private class LegacyStrings(
+        val temperature: String,
+        val feelsLike: String,
+        val maxTemp: String,
+        val minTemp: String,
+        val humidity: String,
+        val precipitation: String,
+        val wind: String
+    )
+
+    private class LegacyValues(
+        val feelsLike: Int,
+        val maxTemp: Int?,
+        val minTemp: Int?,
+        val windSpeed: Double,
+        val humidity: Int,
+        val precipitation: Double
+    )
+
+    // 숫자 모델로 바꾸기 전 WeatherRepositoryImpl.mapResponseToWeatherState가 만들던 문자열
+    private fun legacyStrings(current: CurrentWeather, details: WeatherDetails) = LegacyStrings(
+        temperature = "${current.temperature?.toInt() ?: 0}°",
+        feelsLike = "${current.feelsLike?.toInt() ?: 0}°",
+        maxTemp = "${current.maxTemp?.toInt() ?: 0}°",
+        minTemp = "${current.minTemp?.toInt() ?: 0}°",
+        humidity = "${details.humidity?.toInt() ?: 0}%",
+        precipitation = "${details.precipitation ?: 0.0} mm",
+        wind = "${details.windSpeed ?: 0.0} m/s"
+    )
+
+    // 숫자 모델로 바꾸기 전 WeatherSummarizer.getSummary가 문자열에서 숫자를 다시 읽던 방식
+    private fun legacyParse(strings: LegacyStrings) = LegacyValues(
+        feelsLike = strings.feelsLike.replace(Regex("[^0-9-]"), "").toIntOrNull() ?: 0,
+        maxTemp = strings.maxTemp.replace(Regex("[^0-9-]"), "").toIntOrNull(),
+        minTemp = strings.minTemp.replace(Regex("[^0-9-]"), "").toIntOrNull(),
+        windSpeed = strings.wind.replace(Regex("[^0-9.]"), "").toDoubleOrNull() ?: 0.0,
+        humidity = strings.humidity.replace(Regex("[^0-9]"), "").toIntOrNull() ?: 0,
+        precipitation = strings.precipitation.replace(Regex("[^0-9.]"), "").toDoubleOrNull() ?: 0.0
+    )
+
+    companion object {
+        private const val STATES = 100
+    }
+}
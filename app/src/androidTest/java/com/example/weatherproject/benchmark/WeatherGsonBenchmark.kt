@@ -0,0 +1,69 @@
+package com.example.weatherproject.benchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.example.weatherproject.network.CurrentWeatherResponse
+import com.example.weatherproject.network.HourlyForecastResponse
+import com.example.weatherproject.network.WeatherGson
+import com.example.weatherproject.network.WeeklyForecastResponse
+import com.google.gson.Gson
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * 수동 TypeAdapter(WeatherGson)와 리플렉션 Gson의 파싱 비용 측정 (시간과 할당 수).
+ *
+ * - firstDecode: 매번 새 Gson으로 세 응답을 파싱. 앱 시작 직후처럼 리플렉션 어댑터를 만드는 비용이 포함됨
+ * - decode: 같은 Gson을 재사용해 세 응답을 파싱
+ */
+@RunWith(AndroidJUnit4::class)
+class WeatherGsonBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    @Test
+    fun firstDecode_reflective() {
+        benchmarkRule.measureRepeated { decodeAll(Gson()) }
+    }
+
+    @Test
+    fun firstDecode_adapters() {
+        benchmarkRule.measureRepeated { decodeAll(WeatherGson.create()) }
+    }
+
+    @Test
+    fun decode_reflective() {
+        val gson = Gson()
+        benchmarkRule.measureRepeated { decodeAll(gson) }
+    }
+
+    @Test
+    fun decode_adapters() {
+        val gson = WeatherGson.instance
+        benchmarkRule.measureRepeated { decodeAll(gson) }
+    }
+
+    private fun decodeAll(gson: Gson): Int =
+        gson.fromJson(CURRENT_JSON, CurrentWeatherResponse::class.java).location.nx +
+            gson.fromJson(FORECAST_JSON, HourlyForecastResponse::class.java).weather.size +
+            gson.fromJson(WEEK_JSON, WeeklyForecastResponse::class.java).weather.size
+
+    companion object {
+        private const val CURRENT_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":{"기온(°C)":21.5,"1시간 강수량(mm)":0.0,"습도(%)":40,"풍속(m/s)":2.3,""" +
+                """"일 최저기온(°C)":14.0,"일 최고기온(°C)":24.0,"하늘상태":"맑음","강수형태":"없음","미세먼지":"보통"}}"""
+        private const val FORECAST_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":[""" +
+                """{"date":"20240520","time":"1400","temp":20.0,"sky":"맑음","pty":"없음","rain_amount":"강수없음","pop":0},""" +
+                """{"date":"20240520","time":"1500","temp":21.0,"sky":"구름많음","pty":"없음","rain_amount":"강수없음","pop":20},""" +
+                """{"date":"20240520","time":"1600","temp":19.5,"sky":"흐림","pty":"비","rain_amount":"1mm","pop":60}]}"""
+        private const val WEEK_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":[""" +
+                """{"date":"20240520","min_temp":10.0,"max_temp":20.0,"sky_am":"맑음","sky_pm":"흐림","pop":10},""" +
+                """{"date":"20240521","min_temp":11.0,"max_temp":22.0,"sky_am":"구름많음","sky_pm":"비","pop":60},""" +
+                """{"date":"20240522","min_temp":null,"max_temp":18.0,"sky_am":"흐림","sky_pm":"맑음","pop":30}]}"""
+    }
+}
@@ -24,6 +24,7 @@ import com.example.weatherproject.ui.SearchViewModel
 import com.example.weatherproject.ui.WeatherNavHost
 import com.example.weatherproject.ui.theme.WeatherProjectTheme
 import com.example.weatherproject.util.LocationPermissionHelper
+import com.example.weatherproject.util.WeatherFormatter
 import dagger.hilt.android.AndroidEntryPoint
 
 
@@ -57,7 +58,7 @@ class MainActivity : ComponentActivity() {
             WeatherProjectTheme {
                 val weatherState by mainViewModel.uiState.collectAsState()
 
-                val backgroundBrush = getWeatherGradient(weatherState.currentWeather.iconUrl)
+                val backgroundBrush = getWeatherGradient(WeatherFormatter.iconUrl(weatherState.currentWeather))
 
                 Box(
                     modifier = Modifier
@@ -160,11 +161,11 @@ class MainActivity : ComponentActivity() {
             val weatherDetails = weatherState.weatherDetails
             val pm10Status = com.example.weatherproject.util.PmStatusHelper.getStatus(weatherDetails.pm10)
 
-            val tempValue = weather.temperature.replace("°", "")
-            val feelsLikeValue = weather.feelsLike.replace("°", "")
+            val tempValue = WeatherFormatter.degrees(weather.temperature)
+            val feelsLikeValue = WeatherFormatter.degrees(weather.feelsLike)
 
             val notificationContent = "날씨 : %s 기온: %s도(체감온도 : %s도 ) 미세먼지 : %s".format(
-                weather.description,
+                WeatherFormatter.description(weather),
                 tempValue,
                 feelsLikeValue,
                 pm10Status
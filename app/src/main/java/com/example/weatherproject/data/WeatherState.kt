@@ -1,6 +1,7 @@
 package com.example.weatherproject.data
 
 import androidx.compose.runtime.Immutable
+import com.example.weatherproject.network.CircuitState
 
 @Immutable
 data class WeatherState(
@@ -12,49 +13,130 @@ data class WeatherState(
     val latitude: Double? = null,
     val longitude: Double? = null,
     val address: String = "위치 정보 없음",
-    val lastUpdated: String = "업데이트 정보 없음",
+    val lastUpdatedAt: Long? = null, // 서버에서 받아온 시각 (epoch millis)
     val error: String? = null,
-    val yesterdayComparisonText: String? = null // 어제 대비 기온 차이 텍스트
+    val yesterdayTempDiff: Int? = null, // 어제 대비 기온 차이 (°C)
+    val freshness: DataFreshness = DataFreshness.NONE, // 데이터 신선도 (캐시/최신)
+    val circuitState: CircuitState = CircuitState.CLOSED, // 현재 날씨 API 서킷 브레이커 상태
+    val tempAdjustment: Int = 0 // feelsLike(현재/시간별)에 반영된 사용자 체감 보정값 (°C)
 )
 
+/**
+ * 화면에 표시 중인 날씨 데이터의 신선도.
+ */
+enum class DataFreshness {
+    NONE,   // 아직 데이터 없음
+    CACHED, // 캐시된 데이터 (서버 갱신 중)
+    FRESH,  // 서버에서 방금 받은 데이터
+    STALE   // 서버 갱신 실패, 캐시된 데이터 유지 중
+}
+
+/**
+ * 하늘 상태.
+ */
+enum class SkyCondition(val label: String) {
+    CLEAR("맑음"),
+    PARTLY_CLOUDY("구름조금"),
+    MOSTLY_CLOUDY("구름많음"),
+    OVERCAST("흐림"),
+    UNKNOWN("정보 없음");
+
+    val isCloudy: Boolean
+        get() = this == PARTLY_CLOUDY || this == MOSTLY_CLOUDY || this == OVERCAST
+
+    companion object {
+        /**
+         * 서버가 보내는 하늘상태 문자열("맑음", "구름많음" ...) 또는 기상청 SKY 코드("1", "3", "4")를 변환합니다.
+         */
+        fun fromApi(value: String?): SkyCondition = when {
+            value == null -> UNKNOWN
+            value == "1" || value.contains("맑음") -> CLEAR
+            value == "4" || value.contains("흐림") -> OVERCAST
+            value == "3" || value.contains("구름많") -> MOSTLY_CLOUDY
+            value == "2" || value.contains("구름") -> PARTLY_CLOUDY
+            else -> UNKNOWN
+        }
+    }
+}
+
+/**
+ * 강수 형태 (기상청 PTY).
+ */
+enum class PrecipitationType(val label: String) {
+    NONE("없음"),
+    RAIN("비"),      // 1, 5(빗방울)
+    SLEET("비/눈"),  // 2, 6(빗방울눈날림)
+    SNOW("눈"),      // 3, 7(눈날림)
+    SHOWER("소나기"); // 4
+
+    val isRain: Boolean
+        get() = this == RAIN || this == SHOWER
+
+    val isSnow: Boolean
+        get() = this == SLEET || this == SNOW
+
+    companion object {
+        /**
+         * 서버가 보내는 강수형태 문자열("없음", "비", "비/눈" ...) 또는 PTY 코드("0" ~ "7")를 변환합니다.
+         */
+        fun fromApi(value: String?): PrecipitationType = when (value) {
+            null, "", "0" -> NONE
+            "1", "5" -> RAIN
+            "2", "6" -> SLEET
+            "3", "7" -> SNOW
+            "4" -> SHOWER
+            else -> when {
+                value.contains("진눈깨비") -> SLEET
+                value.contains("눈") && (value.contains("비") || value.contains("빗방울")) -> SLEET
+                value.contains("눈") -> SNOW
+                value.contains("소나기") -> SHOWER
+                value.contains("비") || value.contains("빗방울") -> RAIN
+                else -> NONE
+            }
+        }
+    }
+}
+
+/**
+ * 현재 날씨. 값은 숫자로만 가지고 있으며, 화면/알림에 표시할 때 WeatherFormatter로 문자열을 만듭니다.
+ * 기온 단위는 °C이며, 값이 없으면 null입니다.
+ */
 @Immutable
 data class CurrentWeather(
-    val iconUrl: String = "",
-    val temperature: String = "--°",
-    val description: String = "날씨 정보를 불러오는 중...",
-    val maxTemp: String = "--°",
-    val minTemp: String = "--°",
-    val feelsLike: String = "--°"
+    val temperature: Double? = null,
+    val maxTemp: Double? = null,
+    val minTemp: Double? = null,
+    val feelsLike: Double? = null, // 사용자 보정값까지 반영된 체감온도
+    val sky: SkyCondition = SkyCondition.UNKNOWN,
+    val precipitationType: PrecipitationType = PrecipitationType.NONE
 )
 
 @Immutable
 data class WeatherDetails(
-    val feelsLike: String = "--°",
-    val humidity: String = "--%",
-    val precipitation: String = "-- mm",
-    val wind: String = "-- m/s",
-    val pm10: String = "정보없음",
-    val pressure: String = "-- hPa",
-    val visibility: String = "-- km",
-    val uvIndex: String = "--"
+    val humidity: Double? = null,      // %
+    val precipitation: Double? = null, // 1시간 강수량 (mm)
+    val windSpeed: Double? = null,     // m/s
+    val pm10: String = "정보없음",      // 미세먼지 (서버가 주는 값 그대로)
+    val pressure: Double? = null,      // hPa
+    val visibility: Double? = null,    // km
+    val uvIndex: Int? = null
 )
 
-// ⭐️ 이 부분이 빠져있었습니다!
 @Immutable
 data class HourlyForecast(
-    val time: String = "",
-    val iconUrl: String = "",
-    val temperature: String = "--°",
-    val pty: String = "0" // 강수 형태 코드
+    val date: String = "", // yyyyMMdd
+    val time: String = "", // HHmm
+    val temperature: Double? = null,
+    val feelsLike: Double? = null, // 사용자 체감 보정 포함
+    val sky: SkyCondition = SkyCondition.UNKNOWN,
+    val precipitationType: PrecipitationType = PrecipitationType.NONE
 )
 
 @Immutable
 data class WeeklyForecast(
-    val day: String = "",
-    val iconAm: String = "",
-    val iconPm: String = "",
-    val skyAm: String = "",
-    val skyPm: String = "",
-    val maxTemp: String = "--°",
-    val minTemp: String = "--°"
+    val date: String = "", // yyyyMMdd
+    val skyAm: SkyCondition = SkyCondition.UNKNOWN,
+    val skyPm: SkyCondition = SkyCondition.UNKNOWN,
+    val maxTemp: Double? = null,
+    val minTemp: Double? = null
 )
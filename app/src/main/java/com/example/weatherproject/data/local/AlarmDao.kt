@@ -11,6 +11,16 @@ interface AlarmDao {
     @Query("SELECT * FROM alarms")
     suspend fun getAllAlarmsSnapshot(): List<AlarmEntity>
 
+    @Query("SELECT * FROM alarms WHERE isEnabled = 1")
+    suspend fun getEnabledAlarmsSnapshot(): List<AlarmEntity>
+
+    // 알람 타임라인: nextTriggerAt 인덱스로 가장 이른 알람 / 시각이 된 알람을 바로 찾음
+    @Query("SELECT * FROM alarms WHERE nextTriggerAt IS NOT NULL ORDER BY nextTriggerAt ASC LIMIT 1")
+    suspend fun getEarliestAlarm(): AlarmEntity?
+
+    @Query("SELECT * FROM alarms WHERE nextTriggerAt IS NOT NULL AND nextTriggerAt <= :time ORDER BY nextTriggerAt ASC")
+    suspend fun getAlarmsDueBy(time: Long): List<AlarmEntity>
+
     @Query("SELECT * FROM alarms WHERE id = :id")
     suspend fun getAlarmById(id: Int): AlarmEntity?
 
@@ -20,6 +30,9 @@ interface AlarmDao {
     @Update
     suspend fun updateAlarm(alarm: AlarmEntity)
 
+    @Update
+    suspend fun updateAlarms(alarms: List<AlarmEntity>)
+
     @Delete
     suspend fun deleteAlarm(alarm: AlarmEntity)
 
@@ -1,14 +1,16 @@
 package com.example.weatherproject.data.local
 
 import androidx.room.Entity
+import androidx.room.Index
 import androidx.room.PrimaryKey
 
-@Entity(tableName = "alarms")
+@Entity(tableName = "alarms", indices = [Index(value = ["nextTriggerAt"])])
 data class AlarmEntity(
     @PrimaryKey(autoGenerate = true) val id: Int = 0,
     val hour: Int,
     val minute: Int,
-    val days: List<String>, // 요일 반복일 때 사용 (비어있으면 selectedDate 사용)
+    val dayMask: Int, // 요일 반복일 때 사용하는 AlarmDays 비트마스크 (0이면 selectedDate 사용)
     val selectedDate: Long?, // 날짜 지정일 때 사용 (null이면 요일 반복)
-    val isEnabled: Boolean
-)
\ No newline at end of file
+    val isEnabled: Boolean,
+    val nextTriggerAt: Long? = null // 다음에 울릴 시각 (꺼져 있거나 더 울릴 일이 없으면 null), AlarmTimeline이 관리
+)
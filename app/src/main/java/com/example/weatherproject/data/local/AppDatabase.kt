@@ -4,13 +4,12 @@ import android.content.Context
 import androidx.room.Database
 import androidx.room.Room
 import androidx.room.RoomDatabase
-import androidx.room.TypeConverters
 
-@Database(entities = [AlarmEntity::class, WeatherCacheEntity::class], version = 4, exportSchema = false)
-@TypeConverters(Converters::class)
+@Database(entities = [AlarmEntity::class, WeatherCacheEntity::class, HourlyForecastEntity::class, WeeklyForecastEntity::class, GeocodeCacheEntity::class], version = 10, exportSchema = false)
 abstract class AppDatabase : RoomDatabase() {
     abstract fun alarmDao(): AlarmDao
     abstract fun weatherDao(): WeatherDao
+    abstract fun geocodeDao(): GeocodeDao
 
     companion object {
         @Volatile
@@ -23,7 +22,9 @@ abstract class AppDatabase : RoomDatabase() {
                     AppDatabase::class.java,
                     "weather_database"
                 )
-                .fallbackToDestructiveMigration() // 추가: 버전 변경 시 DB 초기화
+                // 알람(사용자 데이터)은 마이그레이션으로 보존. 경로가 없는 오래된 버전만 초기화
+                .addMigrations(*Migrations.all(context.applicationContext))
+                .fallbackToDestructiveMigration()
                 .build()
                 INSTANCE = instance
                 instance
@@ -1,16 +0,0 @@
-package com.example.weatherproject.data.local
-
-import androidx.room.TypeConverter
-
-class Converters {
-    @TypeConverter
-    fun fromString(value: String): List<String> {
-        if (value.isEmpty()) return emptyList()
-        return value.split(",")
-    }
-
-    @TypeConverter
-    fun fromList(list: List<String>): String {
-        return list.joinToString(",")
-    }
-}
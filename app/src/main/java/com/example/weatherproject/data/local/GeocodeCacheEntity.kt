@@ -0,0 +1,17 @@
+package com.example.weatherproject.data.local
+
+import androidx.room.Entity
+import androidx.room.PrimaryKey
+
+/**
+ * 지오코딩 결과 캐시.
+ * 역지오코딩(좌표 → 주소)은 양자화된 좌표로, 지오코딩(검색어 → 좌표)은 정규화된 검색어로 키를 만듭니다.
+ */
+@Entity(tableName = "geocode_cache")
+data class GeocodeCacheEntity(
+    @PrimaryKey
+    val cacheKey: String,      // "rev:위도칸,경도칸" 또는 "fwd:검색어"
+    val resultsJson: String,   // List<GeocodeResult> (JSON String)
+    val cachedAt: Long,        // 저장 시각 (TTL 기준)
+    val lastAccessedAt: Long   // 마지막 조회 시각 (LRU 정리 기준)
+)
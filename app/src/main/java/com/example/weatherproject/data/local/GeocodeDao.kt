@@ -0,0 +1,37 @@
+package com.example.weatherproject.data.local
+
+import androidx.room.Dao
+import androidx.room.Insert
+import androidx.room.OnConflictStrategy
+import androidx.room.Query
+
+@Dao
+interface GeocodeDao {
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    suspend fun upsert(entry: GeocodeCacheEntity)
+
+    @Query("SELECT * FROM geocode_cache WHERE cacheKey = :cacheKey")
+    suspend fun get(cacheKey: String): GeocodeCacheEntity?
+
+    /**
+     * 캐시를 조회했음을 기록합니다. (LRU 정리 기준)
+     */
+    @Query("UPDATE geocode_cache SET lastAccessedAt = :accessedAt WHERE cacheKey = :cacheKey")
+    suspend fun touch(cacheKey: String, accessedAt: Long)
+
+    /**
+     * cachedBefore 이전에 저장된(유효기간이 지난) 항목을 삭제합니다.
+     */
+    @Query("DELETE FROM geocode_cache WHERE cachedAt < :cachedBefore")
+    suspend fun deleteExpired(cachedBefore: Long)
+
+    /**
+     * 최근에 조회된 maxEntries개만 남기고 나머지를 삭제합니다.
+     */
+    @Query(
+        "DELETE FROM geocode_cache WHERE cacheKey NOT IN " +
+            "(SELECT cacheKey FROM geocode_cache ORDER BY lastAccessedAt DESC LIMIT :maxEntries)"
+    )
+    suspend fun evict(maxEntries: Int)
+}
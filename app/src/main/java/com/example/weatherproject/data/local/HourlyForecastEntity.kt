@@ -0,0 +1,20 @@
+package com.example.weatherproject.data.local
+
+import androidx.room.Entity
+
+/**
+ * 격자 좌표(nx, ny)별 시간별 예보. 한 시각(slotTime)당 한 행입니다.
+ * 기본 키(nx, ny, slotTime) 인덱스로 "다음 N시간", "다음 강수 시각" 같은 범위 조회를 처리합니다.
+ */
+@Entity(tableName = "hourly_forecast", primaryKeys = ["nx", "ny", "slotTime"])
+data class HourlyForecastEntity(
+    val nx: Int,
+    val ny: Int,
+    val slotTime: Long,           // 예보 시각 (epoch millis, ForecastTime 기준)
+    val date: String,             // yyyyMMdd
+    val time: String,             // HHmm
+    val temperature: Double?,
+    val feelsLike: Double?,
+    val sky: String,              // SkyCondition 이름
+    val precipitationType: String // PrecipitationType 이름
+)
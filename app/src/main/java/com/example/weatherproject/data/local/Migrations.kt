@@ -0,0 +1,143 @@
+package com.example.weatherproject.data.local
+
+import android.content.Context
+import android.util.Log
+import androidx.room.migration.Migration
+import androidx.sqlite.db.SupportSQLiteDatabase
+import com.example.weatherproject.util.AlarmDays
+import com.example.weatherproject.util.AlarmScheduler
+
+/**
+ * Room 스키마 마이그레이션.
+ * 알람은 사용자가 만든 데이터이므로 버전이 바뀌어도 보존합니다.
+ * 날씨/지오코딩 캐시는 다시 받을 수 있으므로 스키마가 바뀐 경우 새로 만듭니다.
+ */
+object Migrations {
+
+    fun all(context: Context): Array<Migration> = arrayOf(
+        // 버전 4 ~ 7의 알람 테이블은 모두 같은 스키마 (요일 = 쉼표로 이은 문자열)
+        AlarmDayMaskMigration(context, 4),
+        AlarmDayMaskMigration(context, 5),
+        AlarmDayMaskMigration(context, 6),
+        AlarmDayMaskMigration(context, 7),
+        MIGRATION_8_9,
+        MIGRATION_9_10
+    )
+
+    /**
+     * 8 → 9: 시간별/주간 예보를 weather_cache의 JSON 열에서 슬롯별 테이블로 옮김.
+     * 캐시이므로 JSON을 다시 파싱해 옮기지 않고 weather_cache를 새 스키마로 비웁니다. (알람은 그대로)
+     */
+    val MIGRATION_8_9 = object : Migration(8, 9) {
+        override fun migrate(db: SupportSQLiteDatabase) {
+            db.execSQL("DROP TABLE IF EXISTS `weather_cache`")
+            db.execSQL(
+                "CREATE TABLE IF NOT EXISTS `weather_cache` (`nx` INTEGER NOT NULL, `ny` INTEGER NOT NULL, " +
+                    "`current_temperature` REAL, `current_maxTemp` REAL, `current_minTemp` REAL, `current_feelsLike` REAL, " +
+                    "`current_sky` TEXT NOT NULL, `current_precipitation` TEXT NOT NULL, " +
+                    "`details_humidity` REAL, `details_precipitation` REAL, `details_windSpeed` REAL, " +
+                    "`details_pm10` TEXT NOT NULL, `details_pressure` REAL, `details_visibility` REAL, `details_uvIndex` INTEGER, " +
+                    "`latitude` REAL NOT NULL, `longitude` REAL NOT NULL, `address` TEXT NOT NULL, `lastUpdatedAt` INTEGER, " +
+                    "`cachedAt` INTEGER NOT NULL, `lastAccessedAt` INTEGER NOT NULL, PRIMARY KEY(`nx`, `ny`))"
+            )
+            db.execSQL(
+                "CREATE TABLE IF NOT EXISTS `hourly_forecast` (`nx` INTEGER NOT NULL, `ny` INTEGER NOT NULL, " +
+                    "`slotTime` INTEGER NOT NULL, `date` TEXT NOT NULL, `time` TEXT NOT NULL, `temperature` REAL, " +
+                    "`feelsLike` REAL, `sky` TEXT NOT NULL, `precipitationType` TEXT NOT NULL, " +
+                    "PRIMARY KEY(`nx`, `ny`, `slotTime`))"
+            )
+            db.execSQL(
+                "CREATE TABLE IF NOT EXISTS `weekly_forecast` (`nx` INTEGER NOT NULL, `ny` INTEGER NOT NULL, " +
+                    "`date` TEXT NOT NULL, `skyAm` TEXT NOT NULL, `skyPm` TEXT NOT NULL, `maxTemp` REAL, `minTemp` REAL, " +
+                    "PRIMARY KEY(`nx`, `ny`, `date`))"
+            )
+        }
+    }
+
+    // 9 → 10: 캐시된 체감온도에 반영된 사용자 보정값 저장
+    val MIGRATION_9_10 = object : Migration(9, 10) {
+        override fun migrate(db: SupportSQLiteDatabase) {
+            db.execSQL("ALTER TABLE weather_cache ADD COLUMN tempAdjustment INTEGER NOT NULL DEFAULT 0")
+        }
+    }
+}
+
+/**
+ * startVersion(4 ~ 7) → 8.
+ *
+ * - 알람의 요일 목록("월,수,금")을 AlarmDays 비트마스크로 바꾸고, 다음 울릴 시각(nextTriggerAt)을 채웁니다.
+ * - 이전 버전은 알람마다 알람 ID를 requestCode로 PendingIntent를 등록했으므로, 그 예약을 한 번 취소합니다.
+ *   (새 타임라인 등록은 앱 업데이트/재부팅 시 BootReceiver가 AlarmTimeline.rebuild로 합니다.)
+ * - 7보다 이전 버전이면 그 사이 바뀐 캐시 테이블을 버전 8 스키마로 새로 만듭니다.
+ */
+private class AlarmDayMaskMigration(
+    private val context: Context,
+    startVersion: Int
+) : Migration(startVersion, 8) {
+
+    override fun migrate(db: SupportSQLiteDatabase) {
+        db.execSQL(
+            "CREATE TABLE IF NOT EXISTS `alarms_new` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, " +
+                "`hour` INTEGER NOT NULL, `minute` INTEGER NOT NULL, `dayMask` INTEGER NOT NULL, " +
+                "`selectedDate` INTEGER, `isEnabled` INTEGER NOT NULL, `nextTriggerAt` INTEGER)"
+        )
+
+        val now = System.currentTimeMillis()
+        val alarmIds = ArrayList<Int>()
+        db.query("SELECT `id`, `hour`, `minute`, `days`, `selectedDate`, `isEnabled` FROM `alarms`").use { cursor ->
+            while (cursor.moveToNext()) {
+                val alarm = AlarmEntity(
+                    id = cursor.getInt(0),
+                    hour = cursor.getInt(1),
+                    minute = cursor.getInt(2),
+                    dayMask = AlarmDays.fromLabels(cursor.getString(3).orEmpty().split(",")),
+                    selectedDate = if (cursor.isNull(4)) null else cursor.getLong(4),
+                    isEnabled = cursor.getInt(5) != 0
+                )
+                db.execSQL(
+                    "INSERT INTO `alarms_new` (`id`, `hour`, `minute`, `dayMask`, `selectedDate`, `isEnabled`, `nextTriggerAt`) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    arrayOf<Any?>(
+                        alarm.id,
+                        alarm.hour,
+                        alarm.minute,
+                        alarm.dayMask,
+                        alarm.selectedDate,
+                        if (alarm.isEnabled) 1 else 0,
+                        AlarmScheduler.getNextTriggerTimeMillis(alarm, now)
+                    )
+                )
+                alarmIds.add(alarm.id)
+            }
+        }
+
+        db.execSQL("DROP TABLE `alarms`")
+        db.execSQL("ALTER TABLE `alarms_new` RENAME TO `alarms`")
+        db.execSQL("CREATE INDEX IF NOT EXISTS `index_alarms_nextTriggerAt` ON `alarms` (`nextTriggerAt`)")
+
+        if (startVersion < 7) recreateCacheTables(db)
+
+        alarmIds.forEach { AlarmScheduler.cancelLegacy(context, it) }
+        Log.d("Migrations", "Migrated ${alarmIds.size} alarms from version $startVersion to $endVersion")
+    }
+
+    // 버전 8의 weather_cache / geocode_cache 스키마
+    private fun recreateCacheTables(db: SupportSQLiteDatabase) {
+        db.execSQL("DROP TABLE IF EXISTS `weather_cache`")
+        db.execSQL(
+            "CREATE TABLE IF NOT EXISTS `weather_cache` (`nx` INTEGER NOT NULL, `ny` INTEGER NOT NULL, " +
+                "`current_temperature` REAL, `current_maxTemp` REAL, `current_minTemp` REAL, `current_feelsLike` REAL, " +
+                "`current_sky` TEXT NOT NULL, `current_precipitation` TEXT NOT NULL, " +
+                "`details_humidity` REAL, `details_precipitation` REAL, `details_windSpeed` REAL, " +
+                "`details_pm10` TEXT NOT NULL, `details_pressure` REAL, `details_visibility` REAL, `details_uvIndex` INTEGER, " +
+                "`hourlyForecastJson` TEXT NOT NULL, `weeklyForecastJson` TEXT NOT NULL, " +
+                "`latitude` REAL NOT NULL, `longitude` REAL NOT NULL, `address` TEXT NOT NULL, `lastUpdatedAt` INTEGER, " +
+                "`cachedAt` INTEGER NOT NULL, `lastAccessedAt` INTEGER NOT NULL, PRIMARY KEY(`nx`, `ny`))"
+        )
+        db.execSQL("DROP TABLE IF EXISTS `geocode_cache`")
+        db.execSQL(
+            "CREATE TABLE IF NOT EXISTS `geocode_cache` (`cacheKey` TEXT NOT NULL, `resultsJson` TEXT NOT NULL, " +
+                "`cachedAt` INTEGER NOT NULL, `lastAccessedAt` INTEGER NOT NULL, PRIMARY KEY(`cacheKey`))"
+        )
+    }
+}
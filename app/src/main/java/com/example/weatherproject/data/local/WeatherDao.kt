@@ -1,30 +1,149 @@
 package com.example.weatherproject.data.local
 
 import androidx.room.Dao
-import androidx.room.Insert
-import androidx.room.OnConflictStrategy
 import androidx.room.Query
+import androidx.room.Transaction
+import androidx.room.Upsert
 
 @Dao
 interface WeatherDao {
 
     /**
-     * 날씨 캐시 정보를 삽입하거나 교체합니다.
-     * OnConflictStrategy.REPLACE는 ID가 1인 기존 데이터가 있으면 새 데이터로 덮어쓰도록 합니다.
+     * 날씨 캐시 정보를 삽입하거나 갱신합니다.
+     * 같은 격자(nx, ny)의 기존 행이 있으면 삭제 후 삽입하지 않고 그 행을 그대로 갱신합니다.
      */
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    @Upsert
     suspend fun upsertWeatherCache(weatherCache: WeatherCacheEntity)
 
     /**
-     * 저장된 날씨 캐시 정보를 가져옵니다.
-     * ID가 1인 데이터를 조회합니다.
+     * 지정한 격자의 날씨 캐시 정보를 가져옵니다.
      */
-    @Query("SELECT * FROM weather_cache WHERE id = 1")
-    suspend fun getWeatherCache(): WeatherCacheEntity?
+    @Query("SELECT * FROM weather_cache WHERE nx = :nx AND ny = :ny")
+    suspend fun getWeatherCache(nx: Int, ny: Int): WeatherCacheEntity?
 
     /**
-     * 모든 날씨 캐시를 삭제합니다. (선택적)
+     * 가장 최근에 저장된 날씨 캐시 정보를 가져옵니다. (위치를 모를 때 사용)
+     */
+    @Query("SELECT * FROM weather_cache ORDER BY cachedAt DESC LIMIT 1")
+    suspend fun getLatestWeatherCache(): WeatherCacheEntity?
+
+    /**
+     * 지정한 격자의 날씨 캐시와 예보를 한 트랜잭션에서 함께 가져옵니다.
+     */
+    @Transaction
+    suspend fun getWeatherCacheWithForecast(nx: Int, ny: Int): WeatherCacheWithForecast? {
+        val cache = getWeatherCache(nx, ny) ?: return null
+        return WeatherCacheWithForecast(cache, getHourlyForecast(nx, ny), getWeeklyForecast(nx, ny))
+    }
+
+    /**
+     * 캐시를 조회했음을 기록합니다. (LRU 정리 기준)
+     */
+    @Query("UPDATE weather_cache SET lastAccessedAt = :accessedAt WHERE nx = :nx AND ny = :ny")
+    suspend fun touchWeatherCache(nx: Int, ny: Int, accessedAt: Long)
+
+    @Query("SELECT * FROM hourly_forecast WHERE nx = :nx AND ny = :ny ORDER BY slotTime")
+    suspend fun getHourlyForecast(nx: Int, ny: Int): List<HourlyForecastEntity>
+
+    /**
+     * from 이후 hours개의 시간별 예보를 가져옵니다. (기본 키 인덱스 범위 조회)
      */
+    @Query("SELECT * FROM hourly_forecast WHERE nx = :nx AND ny = :ny AND slotTime >= :from ORDER BY slotTime LIMIT :hours")
+    suspend fun getHourlyForecastFrom(nx: Int, ny: Int, from: Long, hours: Int): List<HourlyForecastEntity>
+
+    /**
+     * from 이후 처음으로 강수(비/눈)가 예보된 시간을 가져옵니다.
+     */
+    @Query("SELECT * FROM hourly_forecast WHERE nx = :nx AND ny = :ny AND slotTime >= :from AND precipitationType != 'NONE' ORDER BY slotTime LIMIT 1")
+    suspend fun getNextPrecipitationSlot(nx: Int, ny: Int, from: Long): HourlyForecastEntity?
+
+    @Query("SELECT * FROM weekly_forecast WHERE nx = :nx AND ny = :ny ORDER BY date")
+    suspend fun getWeeklyForecast(nx: Int, ny: Int): List<WeeklyForecastEntity>
+
+    @Upsert
+    suspend fun upsertHourlyForecast(slots: List<HourlyForecastEntity>)
+
+    @Upsert
+    suspend fun upsertWeeklyForecast(days: List<WeeklyForecastEntity>)
+
+    @Query("DELETE FROM hourly_forecast WHERE nx = :nx AND ny = :ny AND slotTime NOT IN (:slotTimes)")
+    suspend fun deleteHourlyForecastExcept(nx: Int, ny: Int, slotTimes: List<Long>)
+
+    @Query("DELETE FROM weekly_forecast WHERE nx = :nx AND ny = :ny AND date NOT IN (:dates)")
+    suspend fun deleteWeeklyForecastExcept(nx: Int, ny: Int, dates: List<String>)
+
+    /**
+     * 격자의 예보를 새 예보로 맞춥니다.
+     * 저장된 슬롯과 비교해 바뀐 슬롯만 upsert하고, 새 예보에 없는 슬롯은 삭제합니다.
+     */
+    @Transaction
+    suspend fun replaceForecast(nx: Int, ny: Int, hourly: List<HourlyForecastEntity>, weekly: List<WeeklyForecastEntity>) {
+        val storedHourly = getHourlyForecast(nx, ny).associateBy { it.slotTime }
+        deleteHourlyForecastExcept(nx, ny, hourly.map { it.slotTime })
+        val changedHourly = hourly.filter { storedHourly[it.slotTime] != it }
+        if (changedHourly.isNotEmpty()) upsertHourlyForecast(changedHourly)
+
+        val storedWeekly = getWeeklyForecast(nx, ny).associateBy { it.date }
+        deleteWeeklyForecastExcept(nx, ny, weekly.map { it.date })
+        val changedWeekly = weekly.filter { storedWeekly[it.date] != it }
+        if (changedWeekly.isNotEmpty()) upsertWeeklyForecast(changedWeekly)
+    }
+
+    /**
+     * 날씨 캐시 한 행과 그 격자의 예보를 저장하고 오래된 캐시를 정리합니다.
+     * 한 트랜잭션이므로 읽는 쪽에서 새 요약과 이전 예보가 섞여 보이지 않습니다.
+     */
+    @Transaction
+    suspend fun saveWeatherCache(
+        weatherCache: WeatherCacheEntity,
+        hourly: List<HourlyForecastEntity>,
+        weekly: List<WeeklyForecastEntity>,
+        maxEntries: Int
+    ) {
+        upsertWeatherCache(weatherCache)
+        replaceForecast(weatherCache.nx, weatherCache.ny, hourly, weekly)
+        evictWeatherCache(maxEntries)
+    }
+
+    @Query(
+        "DELETE FROM weather_cache WHERE rowid NOT IN " +
+            "(SELECT rowid FROM weather_cache ORDER BY lastAccessedAt DESC LIMIT :maxEntries)"
+    )
+    suspend fun evictWeatherCacheRows(maxEntries: Int)
+
+    // weather_cache에 없는 격자의 예보 행 삭제
+    @Query("DELETE FROM hourly_forecast WHERE NOT EXISTS (SELECT 1 FROM weather_cache c WHERE c.nx = hourly_forecast.nx AND c.ny = hourly_forecast.ny)")
+    suspend fun deleteOrphanHourlyForecast()
+
+    @Query("DELETE FROM weekly_forecast WHERE NOT EXISTS (SELECT 1 FROM weather_cache c WHERE c.nx = weekly_forecast.nx AND c.ny = weekly_forecast.ny)")
+    suspend fun deleteOrphanWeeklyForecast()
+
+    /**
+     * 최근에 조회된 maxEntries개만 남기고 나머지 캐시와 그 격자의 예보를 삭제합니다.
+     */
+    @Transaction
+    suspend fun evictWeatherCache(maxEntries: Int) {
+        evictWeatherCacheRows(maxEntries)
+        deleteOrphanHourlyForecast()
+        deleteOrphanWeeklyForecast()
+    }
+
+    @Query("DELETE FROM hourly_forecast")
+    suspend fun clearHourlyForecast()
+
+    @Query("DELETE FROM weekly_forecast")
+    suspend fun clearWeeklyForecast()
+
     @Query("DELETE FROM weather_cache")
-    suspend fun clearCache()
+    suspend fun clearWeatherCache()
+
+    /**
+     * 모든 날씨 캐시를 삭제합니다. (선택적)
+     */
+    @Transaction
+    suspend fun clearCache() {
+        clearHourlyForecast()
+        clearWeeklyForecast()
+        clearWeatherCache()
+    }
 }
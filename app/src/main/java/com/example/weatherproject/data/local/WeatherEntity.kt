@@ -1,37 +1,54 @@
 package com.example.weatherproject.data.local
 
+import androidx.room.ColumnInfo
 import androidx.room.Entity
-import androidx.room.PrimaryKey
 
-@Entity(tableName = "weather_cache")
+/**
+ * 격자 좌표(nx, ny)별 날씨 캐시.
+ * 위치마다 한 행씩 저장되며, lastAccessedAt 기준으로 오래된 행부터 정리됩니다.
+ * 시간별/주간 예보는 hourly_forecast, weekly_forecast 테이블에 슬롯마다 한 행씩 따로 저장합니다.
+ */
+@Entity(tableName = "weather_cache", primaryKeys = ["nx", "ny"])
 data class WeatherCacheEntity(
-    @PrimaryKey val id: Int = 1,
+    // 기상청 격자 좌표
+    val nx: Int,
+    val ny: Int,
 
     // currentWeather
-    val current_iconUrl: String,
-    val current_temperature: String,
-    val current_description: String,
-    val current_maxTemp: String,
-    val current_minTemp: String,
-    val current_feelsLike: String,
+    val current_temperature: Double?,
+    val current_maxTemp: Double?,
+    val current_minTemp: Double?,
+    val current_feelsLike: Double?,
+    val current_sky: String,          // SkyCondition 이름
+    val current_precipitation: String, // PrecipitationType 이름
 
     // weatherDetails
-    val details_feelsLike: String,
-    val details_humidity: String,
-    val details_precipitation: String,
-    val details_wind: String,
+    val details_humidity: Double?,
+    val details_precipitation: Double?,
+    val details_windSpeed: Double?,
     val details_pm10: String,
-    val details_pressure: String,
-    val details_visibility: String,
-    val details_uvIndex: String,
+    val details_pressure: Double?,
+    val details_visibility: Double?,
+    val details_uvIndex: Int?,
 
-    // forecast (JSON String)
-    val hourlyForecastJson: String,
-    val weeklyForecastJson: String,
+    // current_feelsLike와 시간별 예보 feelsLike에 반영된 사용자 체감 보정값
+    @ColumnInfo(defaultValue = "0")
+    val tempAdjustment: Int,
 
     // metadata
     val latitude: Double,
     val longitude: Double,
     val address: String,
-    val lastUpdated: String
+    val lastUpdatedAt: Long?,
+    val cachedAt: Long,       // 저장 시각 (epoch millis)
+    val lastAccessedAt: Long  // 마지막 조회 시각 (LRU 정리 기준)
+)
+
+/**
+ * 날씨 캐시 한 행과 같은 격자의 시간별/주간 예보 행을 함께 읽은 결과.
+ */
+data class WeatherCacheWithForecast(
+    val cache: WeatherCacheEntity,
+    val hourlyForecast: List<HourlyForecastEntity>,
+    val weeklyForecast: List<WeeklyForecastEntity>
 )
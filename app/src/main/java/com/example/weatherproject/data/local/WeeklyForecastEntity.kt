@@ -0,0 +1,17 @@
+package com.example.weatherproject.data.local
+
+import androidx.room.Entity
+
+/**
+ * 격자 좌표(nx, ny)별 주간 예보. 하루(date)당 한 행입니다.
+ */
+@Entity(tableName = "weekly_forecast", primaryKeys = ["nx", "ny", "date"])
+data class WeeklyForecastEntity(
+    val nx: Int,
+    val ny: Int,
+    val date: String,   // yyyyMMdd (문자열 순서 = 날짜 순서)
+    val skyAm: String,  // SkyCondition 이름
+    val skyPm: String,
+    val maxTemp: Double?,
+    val minTemp: Double?
+)
@@ -0,0 +1,132 @@
+package com.example.weatherproject.data.repository
+
+import java.util.Calendar
+import java.util.TimeZone
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 날씨 API 엔드포인트 구분.
+ */
+enum class WeatherEndpoint {
+    CURRENT,  // /api/weather/current (초단기실황, 매시 발표)
+    FORECAST, // /api/weather/forecast (단기예보, 02/05/08/11/14/17/20/23시 발표)
+    WEEK,     // /api/weather/week (중기예보, 06/18시 발표)
+    CCTV      // /get_cctv (발표 개념 없음)
+}
+
+/**
+ * 기상청 발표 시각 기준의 캐시 유효기간 정책.
+ * 다음 발표 자료가 올라오기 전까지는 같은 데이터가 내려오므로 다시 요청할 필요가 없습니다.
+ */
+object ForecastFreshnessPolicy {
+
+    private val KST: TimeZone = TimeZone.getTimeZone("Asia/Seoul")
+
+    private val FORECAST_BASE_HOURS = intArrayOf(2, 5, 8, 11, 14, 17, 20, 23)
+    private val WEEK_BASE_HOURS = intArrayOf(6, 18)
+
+    private const val CURRENT_AVAILABLE_MINUTE = 40 // 초단기실황은 매시 40분 이후 제공
+    private const val FORECAST_AVAILABLE_MINUTE = 10 // 단기/중기예보는 발표 10분 후 제공
+
+    /**
+     * fetchedAtMillis에 받아온 데이터가 바뀌는 다음 시각(epoch millis)을 계산합니다.
+     */
+    fun nextIssuanceMillis(endpoint: WeatherEndpoint, fetchedAtMillis: Long): Long {
+        return when (endpoint) {
+            WeatherEndpoint.CURRENT -> nextHourly(fetchedAtMillis)
+            WeatherEndpoint.FORECAST -> nextOf(FORECAST_BASE_HOURS, fetchedAtMillis)
+            WeatherEndpoint.WEEK -> nextOf(WEEK_BASE_HOURS, fetchedAtMillis)
+            WeatherEndpoint.CCTV -> fetchedAtMillis // 발표 시각이 없으므로 재사용하지 않음
+        }
+    }
+
+    private fun nextHourly(fetchedAtMillis: Long): Long {
+        val calendar = Calendar.getInstance(KST).apply {
+            timeInMillis = fetchedAtMillis
+            set(Calendar.MINUTE, CURRENT_AVAILABLE_MINUTE)
+            set(Calendar.SECOND, 0)
+            set(Calendar.MILLISECOND, 0)
+        }
+        if (calendar.timeInMillis <= fetchedAtMillis) {
+            calendar.add(Calendar.HOUR_OF_DAY, 1)
+        }
+        return calendar.timeInMillis
+    }
+
+    private fun nextOf(baseHours: IntArray, fetchedAtMillis: Long): Long {
+        val calendar = Calendar.getInstance(KST).apply {
+            timeInMillis = fetchedAtMillis
+            set(Calendar.MINUTE, FORECAST_AVAILABLE_MINUTE)
+            set(Calendar.SECOND, 0)
+            set(Calendar.MILLISECOND, 0)
+        }
+        for (hour in baseHours) {
+            calendar.set(Calendar.HOUR_OF_DAY, hour)
+            if (calendar.timeInMillis > fetchedAtMillis) return calendar.timeInMillis
+        }
+        // 오늘 발표가 모두 지났으면 다음 날 첫 발표
+        calendar.add(Calendar.DAY_OF_YEAR, 1)
+        calendar.set(Calendar.HOUR_OF_DAY, baseHours[0])
+        return calendar.timeInMillis
+    }
+}
+
+/**
+ * 엔드포인트 + 격자별 원본 응답 캐시.
+ * ForecastFreshnessPolicy가 정한 다음 발표 시각 전까지는 네트워크 요청 없이 캐시된 응답을 돌려줍니다.
+ * 최근에 조회한 maxGrids개 격자의 응답만 보관합니다. (WeatherCache 메모리 캐시와 같은 크기)
+ */
+class EndpointResponseCache(
+    private val maxGrids: Int = DEFAULT_MAX_GRIDS
+) {
+
+    private data class Key(val endpoint: WeatherEndpoint, val grid: GridKey)
+    private class Entry(val response: Any, val expiresAt: Long)
+
+    private val maxEntries = maxGrids * WeatherEndpoint.values().size
+
+    // accessOrder = true 인 LinkedHashMap으로 LRU를 구현합니다.
+    private val entries = object : LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Key, Entry>?): Boolean {
+            return size > maxEntries
+        }
+    }
+    private val skipCounts = WeatherEndpoint.values().associateWith { AtomicLong() }
+
+    /**
+     * @param forceRefresh true면 캐시된 응답이 유효해도 다시 요청합니다. (사용자가 직접 새로고침한 경우)
+     */
+    @Suppress("UNCHECKED_CAST")
+    suspend fun <T : Any> getOrFetch(
+        endpoint: WeatherEndpoint,
+        grid: GridKey,
+        forceRefresh: Boolean = false,
+        fetch: suspend () -> T
+    ): T {
+        val key = Key(endpoint, grid)
+        val now = System.currentTimeMillis()
+        if (!forceRefresh) {
+            val cached = synchronized(entries) { entries[key] }
+            if (cached != null && now < cached.expiresAt) {
+                skipCounts.getValue(endpoint).incrementAndGet()
+                return cached.response as T
+            }
+        }
+
+        val response = fetch()
+        val entry = Entry(response, ForecastFreshnessPolicy.nextIssuanceMillis(endpoint, now))
+        synchronized(entries) { entries[key] = entry }
+        return response
+    }
+
+    /**
+     * 엔드포인트별로 캐시 덕분에 생략된 네트워크 요청 수.
+     */
+    fun skipCounts(): Map<WeatherEndpoint, Long> = skipCounts.mapValues { it.value.get() }
+
+    fun size(): Int = synchronized(entries) { entries.size }
+
+    companion object {
+        private const val DEFAULT_MAX_GRIDS = 8
+    }
+}
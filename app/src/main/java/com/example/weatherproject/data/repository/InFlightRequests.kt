@@ -0,0 +1,34 @@
+package com.example.weatherproject.data.repository
+
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.async
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+
+/**
+ * 진행 중인 요청 목록.
+ * 같은 키의 요청이 이미 진행 중이면 새 요청을 시작하지 않고 그 결과를 공유합니다.
+ * 요청 자체는 scope에서 실행되므로, 기다리던 호출자 하나가 취소되어도 다른 호출자에게는 영향이 없습니다.
+ */
+class InFlightRequests<K, V>(private val scope: CoroutineScope) {
+
+    private val mutex = Mutex()
+    private val requests = HashMap<K, Deferred<V>>()
+
+    /**
+     * @param onShared 진행 중인 요청의 결과를 공유하게 되었을 때 호출 (로그/통계용)
+     */
+    suspend fun getOrStart(key: K, onShared: () -> Unit = {}, start: suspend () -> V): V {
+        val deferred = mutex.withLock {
+            requests[key]?.also { onShared() } ?: scope.async {
+                try {
+                    start()
+                } finally {
+                    mutex.withLock { requests.remove(key) }
+                }
+            }.also { requests[key] = it }
+        }
+        return deferred.await()
+    }
+}
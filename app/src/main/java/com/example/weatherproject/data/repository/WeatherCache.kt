@@ -0,0 +1,274 @@
+package com.example.weatherproject.data.repository
+
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.HourlyForecast
+import com.example.weatherproject.data.PrecipitationType
+import com.example.weatherproject.data.SkyCondition
+import com.example.weatherproject.data.WeatherDetails
+import com.example.weatherproject.data.WeatherState
+import com.example.weatherproject.data.WeeklyForecast
+import com.example.weatherproject.data.local.HourlyForecastEntity
+import com.example.weatherproject.data.local.WeatherCacheEntity
+import com.example.weatherproject.data.local.WeatherCacheWithForecast
+import com.example.weatherproject.data.local.WeatherDao
+import com.example.weatherproject.data.local.WeeklyForecastEntity
+import com.example.weatherproject.util.ForecastTime
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 기상청 격자 좌표. 같은 격자 안의 위치는 같은 예보를 공유합니다.
+ */
+data class GridKey(val nx: Int, val ny: Int)
+
+/**
+ * 날씨 캐시 적중 통계.
+ * @param memoryHits 메모리(LRU)에서 바로 찾은 횟수
+ * @param diskHits Room 테이블에서 찾은 횟수
+ * @param misses 캐시에 없었던 횟수
+ * @param diskReadNanos Room 테이블에서 읽어 WeatherState로 만드는 데 걸린 시간 합계 (diskHits 기준)
+ */
+data class WeatherCacheStats(
+    val memoryHits: Long,
+    val diskHits: Long,
+    val misses: Long,
+    val diskReadNanos: Long = 0L
+) {
+    val averageDiskReadMillis: Double
+        get() = if (diskHits == 0L) 0.0 else diskReadNanos / diskHits / 1_000_000.0
+
+    val hitRate: Double
+        get() {
+            val total = memoryHits + diskHits + misses
+            return if (total == 0L) 0.0 else (memoryHits + diskHits).toDouble() / total
+        }
+}
+
+/**
+ * 격자 좌표별 날씨 캐시.
+ * 크기가 제한된 메모리 LRU를 Room 테이블(weather_cache) 앞에 두고,
+ * Room 테이블도 diskCapacity개를 넘으면 오래 조회되지 않은 행부터 삭제합니다.
+ * 시간별/주간 예보는 슬롯마다 한 행씩 저장하므로 읽을 때 JSON을 다시 파싱하지 않고,
+ * 저장할 때도 바뀐 슬롯만 갱신합니다.
+ */
+class WeatherCache(
+    private val weatherDao: WeatherDao,
+    private val memoryCapacity: Int = DEFAULT_MEMORY_CAPACITY,
+    private val diskCapacity: Int = DEFAULT_DISK_CAPACITY
+) {
+
+    // accessOrder = true 인 LinkedHashMap으로 LRU를 구현합니다.
+    private val memoryCache = object : LinkedHashMap<GridKey, WeatherState>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<GridKey, WeatherState>?): Boolean {
+            return size > memoryCapacity
+        }
+    }
+
+    private val memoryHits = AtomicLong()
+    private val diskHits = AtomicLong()
+    private val misses = AtomicLong()
+    private val diskReadNanos = AtomicLong()
+
+    suspend fun get(key: GridKey): WeatherState? {
+        synchronized(memoryCache) { memoryCache[key] }?.let {
+            memoryHits.incrementAndGet()
+            return it
+        }
+
+        val startedAt = System.nanoTime()
+        val cached = weatherDao.getWeatherCacheWithForecast(key.nx, key.ny)
+        if (cached == null) {
+            misses.incrementAndGet()
+            return null
+        }
+        val state = cached.toWeatherState()
+        recordDiskRead(startedAt)
+        weatherDao.touchWeatherCache(key.nx, key.ny, System.currentTimeMillis())
+
+        synchronized(memoryCache) { memoryCache[key] = state }
+        return state
+    }
+
+    /**
+     * 위치와 상관없이 가장 최근에 저장된 캐시를 가져옵니다.
+     */
+    suspend fun getLatest(): WeatherState? {
+        val entity = weatherDao.getLatestWeatherCache()
+        if (entity == null) {
+            misses.incrementAndGet()
+            return null
+        }
+        val key = GridKey(entity.nx, entity.ny)
+        synchronized(memoryCache) { memoryCache[key] }?.let {
+            memoryHits.incrementAndGet()
+            return it
+        }
+        val startedAt = System.nanoTime()
+        val cached = weatherDao.getWeatherCacheWithForecast(key.nx, key.ny) ?: run {
+            misses.incrementAndGet()
+            return null
+        }
+        val state = cached.toWeatherState()
+        recordDiskRead(startedAt)
+        synchronized(memoryCache) { memoryCache[key] = state }
+        return state
+    }
+
+    suspend fun put(key: GridKey, state: WeatherState) {
+        synchronized(memoryCache) { memoryCache[key] = state }
+        weatherDao.saveWeatherCache(
+            state.toEntity(key, System.currentTimeMillis()),
+            state.hourlyForecast.toHourlyEntities(key),
+            state.weeklyForecast.toWeeklyEntities(key),
+            diskCapacity
+        )
+    }
+
+    /**
+     * 저장된 예보 중 from 이후 hours시간. (메모리 캐시를 거치지 않고 테이블에서 바로 범위 조회)
+     */
+    suspend fun upcomingHours(key: GridKey, from: Long, hours: Int): List<HourlyForecast> =
+        weatherDao.getHourlyForecastFrom(key.nx, key.ny, from, hours).map { it.toHourlyForecast() }
+
+    /**
+     * 저장된 예보 중 from 이후 처음으로 비/눈이 오는 시간. 없으면 null.
+     */
+    suspend fun nextPrecipitationHour(key: GridKey, from: Long): HourlyForecast? =
+        weatherDao.getNextPrecipitationSlot(key.nx, key.ny, from)?.toHourlyForecast()
+
+    fun stats(): WeatherCacheStats = WeatherCacheStats(
+        memoryHits = memoryHits.get(),
+        diskHits = diskHits.get(),
+        misses = misses.get(),
+        diskReadNanos = diskReadNanos.get()
+    )
+
+    private fun recordDiskRead(startedAt: Long) {
+        diskHits.incrementAndGet()
+        diskReadNanos.addAndGet(System.nanoTime() - startedAt)
+    }
+
+    private fun WeatherState.toEntity(key: GridKey, now: Long): WeatherCacheEntity {
+        return WeatherCacheEntity(
+            nx = key.nx,
+            ny = key.ny,
+            // currentWeather
+            current_temperature = this.currentWeather.temperature,
+            current_maxTemp = this.currentWeather.maxTemp,
+            current_minTemp = this.currentWeather.minTemp,
+            current_feelsLike = this.currentWeather.feelsLike,
+            current_sky = this.currentWeather.sky.name,
+            current_precipitation = this.currentWeather.precipitationType.name,
+            // weatherDetails
+            details_humidity = this.weatherDetails.humidity,
+            details_precipitation = this.weatherDetails.precipitation,
+            details_windSpeed = this.weatherDetails.windSpeed,
+            details_pm10 = this.weatherDetails.pm10,
+            details_pressure = this.weatherDetails.pressure,
+            details_visibility = this.weatherDetails.visibility,
+            details_uvIndex = this.weatherDetails.uvIndex,
+            tempAdjustment = this.tempAdjustment,
+            // metadata
+            latitude = this.latitude ?: 0.0,
+            longitude = this.longitude ?: 0.0,
+            address = this.address,
+            lastUpdatedAt = this.lastUpdatedAt,
+            cachedAt = now,
+            lastAccessedAt = now
+        )
+    }
+
+    // 시각 형식이 잘못된 슬롯은 저장하지 않고, 같은 시각의 슬롯이 여러 개면 첫 번째만 저장 (기본 키 중복 방지)
+    private fun List<HourlyForecast>.toHourlyEntities(key: GridKey): List<HourlyForecastEntity> =
+        mapNotNull { forecast ->
+            val slotTime = ForecastTime.toEpochMillis(forecast.date, forecast.time) ?: return@mapNotNull null
+            HourlyForecastEntity(
+                nx = key.nx,
+                ny = key.ny,
+                slotTime = slotTime,
+                date = forecast.date,
+                time = forecast.time,
+                temperature = forecast.temperature,
+                feelsLike = forecast.feelsLike,
+                sky = forecast.sky.name,
+                precipitationType = forecast.precipitationType.name
+            )
+        }.distinctBy { it.slotTime }
+
+    private fun List<WeeklyForecast>.toWeeklyEntities(key: GridKey): List<WeeklyForecastEntity> =
+        distinctBy { it.date }.map {
+            WeeklyForecastEntity(
+                nx = key.nx,
+                ny = key.ny,
+                date = it.date,
+                skyAm = it.skyAm.name,
+                skyPm = it.skyPm.name,
+                maxTemp = it.maxTemp,
+                minTemp = it.minTemp
+            )
+        }
+
+    private fun HourlyForecastEntity.toHourlyForecast(): HourlyForecast = HourlyForecast(
+        date = this.date,
+        time = this.time,
+        temperature = this.temperature,
+        feelsLike = this.feelsLike,
+        sky = enumValueOrDefault(this.sky, SkyCondition.UNKNOWN),
+        precipitationType = enumValueOrDefault(this.precipitationType, PrecipitationType.NONE)
+    )
+
+    private fun WeeklyForecastEntity.toWeeklyForecast(): WeeklyForecast = WeeklyForecast(
+        date = this.date,
+        skyAm = enumValueOrDefault(this.skyAm, SkyCondition.UNKNOWN),
+        skyPm = enumValueOrDefault(this.skyPm, SkyCondition.UNKNOWN),
+        maxTemp = this.maxTemp,
+        minTemp = this.minTemp
+    )
+
+    private fun WeatherCacheWithForecast.toWeatherState(): WeatherState =
+        cache.toWeatherState(
+            hourlyForecast = hourlyForecast.map { it.toHourlyForecast() },
+            weeklyForecast = weeklyForecast.map { it.toWeeklyForecast() }
+        )
+
+    private fun WeatherCacheEntity.toWeatherState(
+        hourlyForecast: List<HourlyForecast>,
+        weeklyForecast: List<WeeklyForecast>
+    ): WeatherState {
+        return WeatherState(
+            isLoading = false,
+            currentWeather = CurrentWeather(
+                temperature = this.current_temperature,
+                maxTemp = this.current_maxTemp,
+                minTemp = this.current_minTemp,
+                feelsLike = this.current_feelsLike,
+                sky = enumValueOrDefault(this.current_sky, SkyCondition.UNKNOWN),
+                precipitationType = enumValueOrDefault(this.current_precipitation, PrecipitationType.NONE)
+            ),
+            weatherDetails = WeatherDetails(
+                humidity = this.details_humidity,
+                precipitation = this.details_precipitation,
+                windSpeed = this.details_windSpeed,
+                pm10 = this.details_pm10,
+                pressure = this.details_pressure,
+                visibility = this.details_visibility,
+                uvIndex = this.details_uvIndex
+            ),
+            hourlyForecast = hourlyForecast,
+            weeklyForecast = weeklyForecast,
+            latitude = this.latitude,
+            longitude = this.longitude,
+            address = this.address,
+            lastUpdatedAt = this.lastUpdatedAt,
+            yesterdayTempDiff = null,
+            tempAdjustment = this.tempAdjustment
+        )
+    }
+
+    private inline fun <reified T : Enum<T>> enumValueOrDefault(name: String, default: T): T =
+        enumValues<T>().firstOrNull { it.name == name } ?: default
+
+    companion object {
+        private const val DEFAULT_MEMORY_CAPACITY = 8
+        private const val DEFAULT_DISK_CAPACITY = 32
+    }
+}
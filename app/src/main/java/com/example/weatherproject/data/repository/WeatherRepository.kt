@@ -2,6 +2,9 @@ package com.example.weatherproject.data.repository
 
 import com.example.weatherproject.data.WeatherState
 import com.example.weatherproject.network.CctvResponse
+import com.example.weatherproject.network.CircuitState
+import com.example.weatherproject.network.HedgeStats
+import kotlinx.coroutines.flow.Flow
 
 /**
  * ViewModel과 데이터 소스(네트워크, 캐시 등) 사이의 중재자 역할을 하는 인터페이스입니다.
@@ -15,19 +18,67 @@ interface WeatherRepository {
      * @param lat 위도
      * @param lon 경도
      * @param tempAdjustment 사용자가 설정한 체감온도 보정값
+     * @param forceRefresh true면 다음 발표 시각 전이라도 캐시된 응답 대신 서버에 다시 요청
      * @return 성공 시 WeatherState가 담긴 Result 객체, 실패 시 에러가 담긴 Result 객체
      */
     suspend fun getWeatherData(
         lat: Double,
         lon: Double,
-        tempAdjustment: Int
+        tempAdjustment: Int,
+        forceRefresh: Boolean = false
     ): Result<WeatherState>
 
     /**
-     * 로컬에 캐시된 마지막 날씨 정보를 가져옵니다.
+     * 지정된 위치의 날씨 정보를 stale-while-revalidate 방식으로 구독합니다.
+     * 캐시가 있으면 먼저 CACHED 상태로 즉시 내보내고, 이후 서버 결과를 FRESH 상태로 내보냅니다.
+     * 서킷 브레이커가 열려 있으면 서버 결과 대신 캐시를 STALE 상태로 내보냅니다.
+     * 서버 요청이 실패하면 예외가 Flow로 전달되므로 수집하는 쪽에서 처리해야 합니다.
+     * @param lat 위도
+     * @param lon 경도
+     * @param tempAdjustment 사용자가 설정한 체감온도 보정값
+     * @param forceRefresh true면 다음 발표 시각 전이라도 캐시된 응답 대신 서버에 다시 요청
+     */
+    fun observeWeather(
+        lat: Double,
+        lon: Double,
+        tempAdjustment: Int,
+        forceRefresh: Boolean = false
+    ): Flow<WeatherState>
+
+    /**
+     * 지정된 위치(격자)에 캐시된 날씨 정보를 가져옵니다.
+     * @param lat 위도
+     * @param lon 경도
+     * @return 해당 격자의 WeatherState가 있으면 반환, 없으면 null 반환
+     */
+    suspend fun getCachedWeather(lat: Double, lon: Double): WeatherState?
+
+    /**
+     * 위치와 상관없이 가장 최근에 캐시된 날씨 정보를 가져옵니다.
+     * 앱 시작 직후나 워커처럼 아직 위치를 모를 때 사용합니다.
      * @return 저장된 WeatherState가 있으면 반환, 없으면 null 반환
      */
-    suspend fun getCachedWeather(): WeatherState?
+    suspend fun getLastCachedWeather(): WeatherState?
+
+    /**
+     * 날씨 캐시 적중/실패 통계를 가져옵니다.
+     */
+    fun getCacheStats(): WeatherCacheStats
+
+    /**
+     * 기상청 발표 시각 전이라 생략된 네트워크 요청 수를 엔드포인트별로 가져옵니다.
+     */
+    fun getSkippedRequestCounts(): Map<WeatherEndpoint, Long>
+
+    /**
+     * 현재 날씨 요청의 헤징(지연 시 재요청) 비율과 승리 통계를 가져옵니다.
+     */
+    fun getCurrentWeatherHedgeStats(): HedgeStats
+
+    /**
+     * 엔드포인트별 서킷 브레이커 상태를 가져옵니다.
+     */
+    fun getCircuitStates(): Map<WeatherEndpoint, CircuitState>
 
     /**
      * 주변 CCTV 정보를 가져옵니다.
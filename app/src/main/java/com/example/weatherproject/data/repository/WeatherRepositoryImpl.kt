@@ -2,25 +2,38 @@ package com.example.weatherproject.data.repository
 
 import android.util.Log
 import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.DataFreshness
 import com.example.weatherproject.data.HourlyForecast
+import com.example.weatherproject.data.PrecipitationType
+import com.example.weatherproject.data.SkyCondition
 import com.example.weatherproject.data.WeatherDetails
 import com.example.weatherproject.data.WeatherState
 import com.example.weatherproject.data.WeeklyForecast
-import com.example.weatherproject.data.local.WeatherCacheEntity
 import com.example.weatherproject.data.local.WeatherDao
 import com.example.weatherproject.network.WeatherApiService
 import com.example.weatherproject.network.CctvResponse
+import com.example.weatherproject.network.CircuitBreaker
+import com.example.weatherproject.network.CircuitOpenException
+import com.example.weatherproject.network.CircuitState
 import com.example.weatherproject.network.CurrentWeatherResponse
+import com.example.weatherproject.network.HedgeStats
+import com.example.weatherproject.network.HedgedRequestExecutor
 import com.example.weatherproject.network.HourlyForecastResponse
+import com.example.weatherproject.network.HourlyWeatherItem
 import com.example.weatherproject.network.WeeklyForecastResponse
 import com.example.weatherproject.util.FeelsLikeTempCalculator
+import com.example.weatherproject.util.ForecastTime
 import com.example.weatherproject.util.GpsTransfer
-import com.example.weatherproject.common.Constants
-import com.google.gson.Gson
-import com.google.gson.reflect.TypeToken
+import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
 import kotlinx.coroutines.async
+import kotlinx.coroutines.supervisorScope
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOn
 import kotlinx.coroutines.withContext
+import retrofit2.HttpException
 import java.text.SimpleDateFormat
 import java.util.Date
 import java.util.Locale
@@ -35,27 +48,85 @@ import java.util.Calendar
 class WeatherRepositoryImpl(
     private val weatherApi: WeatherApiService,
     private val weatherDao: WeatherDao,
-    private val preferenceManager: PreferenceManager
+    private val preferenceManager: PreferenceManager,
+    private val currentWeatherHedger: HedgedRequestExecutor
 ) : WeatherRepository {
 
-    private val gson = Gson() // 데이터 변환을 위한 Gson 인스턴스
+    private val weatherCache = WeatherCache(weatherDao)
+    private val responseCache = EndpointResponseCache()
+
+    // 엔드포인트별 서킷 브레이커: 서버 장애 시 타임아웃을 반복해서 기다리지 않도록 요청을 차단
+    private val circuitBreakers = WeatherEndpoint.values().associateWith { CircuitBreaker(it.name) }
+
+    /**
+     * 진행 중인 날씨 요청 목록 (격자 좌표 + 보정값 기준).
+     * 같은 격자에 대한 요청이 동시에 들어오면 새 요청을 보내지 않고 진행 중인 결과를 공유합니다.
+     */
+    private val inFlightRequests = InFlightRequests<InFlightKey, Result<WeatherState>>(
+        CoroutineScope(SupervisorJob() + Dispatchers.IO)
+    )
+
+    // 강제 새로고침은 캐시된 응답을 쓰는 진행 중 요청과 결과를 공유하지 않음
+    private data class InFlightKey(val nx: Int, val ny: Int, val tempAdjustment: Int, val forceRefresh: Boolean)
 
     override suspend fun getWeatherData(
         lat: Double,
         lon: Double,
-        tempAdjustment: Int
-    ): Result<WeatherState> = withContext(Dispatchers.IO) {
-        try {
-            val (nx, ny) = GpsTransfer.convertToGrid(lat, lon)
+        tempAdjustment: Int,
+        forceRefresh: Boolean
+    ): Result<WeatherState> {
+        val (nx, ny) = GpsTransfer.convertToGrid(lat, lon)
+        val key = InFlightKey(nx, ny, tempAdjustment, forceRefresh)
+
+        return inFlightRequests.getOrStart(
+            key,
+            onShared = { Log.d("WeatherRepository", "($nx, $ny) 요청이 이미 진행 중이므로 결과를 공유합니다.") }
+        ) {
+            fetchWeatherData(nx, ny, lat, lon, tempAdjustment, forceRefresh)
+        }
+    }
 
-            val currentDeferred = async { weatherApi.getCurrentWeather(nx, ny) }
-            val hourlyDeferred = async { weatherApi.getHourlyForecast(nx, ny) }
-            val weeklyDeferred = async { weatherApi.getWeeklyForecast(nx, ny) }
+    /**
+     * 실제 네트워크 요청(현재/시간별/주간)과 변환, 캐시 저장을 수행합니다.
+     * getWeatherData의 진행 중 요청 목록을 통해서만 호출됩니다.
+     */
+    private suspend fun fetchWeatherData(
+        nx: Int,
+        ny: Int,
+        lat: Double,
+        lon: Double,
+        tempAdjustment: Int,
+        forceRefresh: Boolean
+    ): Result<WeatherState> = supervisorScope {
+        // 다음 발표 시각 전이라면 캐시된 응답을 재사용 (ForecastFreshnessPolicy, 강제 새로고침 제외)
+        val grid = GridKey(nx, ny)
+        try {
+            val currentDeferred = async {
+                responseCache.getOrFetch(WeatherEndpoint.CURRENT, grid, forceRefresh) {
+                    circuitBreakers.getValue(WeatherEndpoint.CURRENT).execute {
+                        // 현재 날씨는 필수 요청이므로 응답이 늦어지면 헤징 요청을 추가로 보냄
+                        // (HTTP 캐시에서 바로 온 응답은 헤징 기준 응답 시간에 넣지 않음)
+                        currentWeatherHedger.execute(isNetworkResponse = { it.raw().networkResponse != null }) {
+                            weatherApi.getCurrentWeather(nx, ny).also { if (!it.isSuccessful) throw HttpException(it) }
+                        }.body() ?: throw IllegalStateException("현재 날씨 응답이 비어 있습니다.")
+                    }
+                }
+            }
+            val hourlyDeferred = async {
+                responseCache.getOrFetch(WeatherEndpoint.FORECAST, grid, forceRefresh) {
+                    circuitBreakers.getValue(WeatherEndpoint.FORECAST).execute { weatherApi.getHourlyForecast(nx, ny) }
+                }
+            }
+            val weeklyDeferred = async {
+                responseCache.getOrFetch(WeatherEndpoint.WEEK, grid, forceRefresh) {
+                    circuitBreakers.getValue(WeatherEndpoint.WEEK).execute { weatherApi.getWeeklyForecast(nx, ny) }
+                }
+            }
 
             // 현재 날씨는 필수 (실패 시 전체 실패)
             val currentResponse = currentDeferred.await()
             
-            // 예보 데이터는 선택 (실패 시 로그 남기고 null 처리)
+            // 예보 데이터는 선택 (실패 시 로그 남기고 null 처리, 아래에서 캐시된 예보로 대체)
             val hourlyResponse = try {
                 hourlyDeferred.await()
             } catch (e: Exception) {
@@ -95,46 +166,86 @@ class WeatherRepositoryImpl(
                 yesterdayTemp = fakeYesterdayTemp
             }
 
-            val comparisonText = if (yesterdayTemp != null) {
-                val diff = currentTemp - yesterdayTemp
-                when {
-                    diff > 0 -> "어제보다 ${diff}° 높아요 🔺"
-                    diff < 0 -> "어제보다 ${Math.abs(diff)}° 낮아요 🔻"
-                    else -> "어제와 기온이 같아요"
-                }
-            } else {
-                null
-            }
+            val yesterdayTempDiff = yesterdayTemp?.let { currentTemp - it }
 
-            val weatherState = mapResponseToWeatherState(
+            val mapped = mapResponseToWeatherState(
                 currentData = currentResponse,
                 hourlyData = hourlyResponse,
                 weeklyData = weeklyResponse,
                 tempAdjustment = tempAdjustment,
                 lat = lat,
                 lon = lon,
-                comparisonText = comparisonText
+                yesterdayTempDiff = yesterdayTempDiff
             )
 
-            // UI 모델(WeatherState) -> DB 모델(WeatherCacheEntity)로 변환하여 저장
-            weatherDao.upsertWeatherCache(weatherState.toEntity())
+            // 예보 요청이 실패했거나(서킷 열림 포함) 비어 있으면 마지막으로 캐시된 예보를 사용
+            // (빈 예보로 캐시된 예보를 덮어쓰지 않음)
+            val weatherState = withCachedForecastIfMissing(grid, mapped, tempAdjustment)
+
+            // 격자 좌표별 캐시(메모리 + Room)에 저장
+            weatherCache.put(grid, weatherState)
 
             Result.success(weatherState)
 
+        } catch (e: CircuitOpenException) {
+            // 서킷이 열려 있으면 기다리지 않고 바로 마지막 캐시로 대체
+            Log.w("WeatherRepository", "현재 날씨 서킷이 열려 있어 캐시된 데이터를 사용합니다.")
+            val cached = weatherCache.get(grid)
+            if (cached != null) {
+                Result.success(
+                    cached.withTempAdjustment(tempAdjustment).copy(
+                        isLoading = false,
+                        freshness = DataFreshness.STALE,
+                        circuitState = circuitBreakers.getValue(WeatherEndpoint.CURRENT).state
+                    )
+                )
+            } else {
+                Result.failure(e)
+            }
         } catch (e: Exception) {
             Log.e("WeatherRepository", "API 호출 실패: ${e.message}", e)
             Result.failure(e)
         }
     }
 
-    override suspend fun getCachedWeather(): WeatherState? {
-        // DB 모델(WeatherCacheEntity) -> UI 모델(WeatherState)로 변환
-        return weatherDao.getWeatherCache()?.toWeatherState()
+    override fun observeWeather(
+        lat: Double,
+        lon: Double,
+        tempAdjustment: Int,
+        forceRefresh: Boolean
+    ): Flow<WeatherState> = flow {
+        // 1. 캐시가 있으면 즉시 보여줌
+        getCachedWeather(lat, lon)?.let { cached ->
+            emit(cached.withTempAdjustment(tempAdjustment).copy(isLoading = false, freshness = DataFreshness.CACHED))
+        }
+
+        // 2. 서버에서 최신 데이터를 받아와 교체 (서킷이 열려 있으면 STALE 캐시가 옴)
+        emit(getWeatherData(lat, lon, tempAdjustment, forceRefresh).getOrThrow())
+    }.flowOn(Dispatchers.IO)
+
+    override suspend fun getCachedWeather(lat: Double, lon: Double): WeatherState? {
+        val (nx, ny) = GpsTransfer.convertToGrid(lat, lon)
+        return weatherCache.get(GridKey(nx, ny))
+    }
+
+    override suspend fun getLastCachedWeather(): WeatherState? {
+        return weatherCache.getLatest()
     }
 
+    override fun getCacheStats(): WeatherCacheStats = weatherCache.stats()
+
+    override fun getSkippedRequestCounts(): Map<WeatherEndpoint, Long> = responseCache.skipCounts()
+
+    override fun getCurrentWeatherHedgeStats(): HedgeStats = currentWeatherHedger.stats()
+
+    override fun getCircuitStates(): Map<WeatherEndpoint, CircuitState> =
+        circuitBreakers.mapValues { it.value.state }
+
     override suspend fun getNearbyCctv(lat: Double, lng: Double): Result<CctvResponse> = withContext(Dispatchers.IO) {
         try {
-            val response = weatherApi.getNearbyCctv(lat, lng)
+            val response = circuitBreakers.getValue(WeatherEndpoint.CCTV).execute {
+                weatherApi.getNearbyCctv(lat, lng)
+            }
             Result.success(response)
         } catch (e: Exception) {
             Log.e("WeatherRepository", "CCTV API 호출 실패: ${e.message}", e)
@@ -142,69 +253,56 @@ class WeatherRepositoryImpl(
         }
     }
 
-    private fun WeatherState.toEntity(): WeatherCacheEntity {
-        return WeatherCacheEntity(
-            // currentWeather
-            current_iconUrl = this.currentWeather.iconUrl,
-            current_temperature = this.currentWeather.temperature,
-            current_description = this.currentWeather.description,
-            current_maxTemp = this.currentWeather.maxTemp,
-            current_minTemp = this.currentWeather.minTemp,
-            current_feelsLike = this.currentWeather.feelsLike,
-            // weatherDetails
-            details_feelsLike = this.weatherDetails.feelsLike,
-            details_humidity = this.weatherDetails.humidity,
-            details_precipitation = this.weatherDetails.precipitation,
-            details_wind = this.weatherDetails.wind,
-            details_pm10 = this.weatherDetails.pm10,
-            details_pressure = this.weatherDetails.pressure,
-            details_visibility = this.weatherDetails.visibility,
-            details_uvIndex = this.weatherDetails.uvIndex,
-            // forecast (JSON으로 변환)
-            hourlyForecastJson = gson.toJson(this.hourlyForecast),
-            weeklyForecastJson = gson.toJson(this.weeklyForecast),
-            // metadata
-            latitude = this.latitude ?: 0.0,
-            longitude = this.longitude ?: 0.0,
-            address = this.address,
-            lastUpdated = this.lastUpdated
+    /**
+     * 시간별/주간 예보 중 비어 있는 쪽을 같은 격자의 캐시된 예보로 채웁니다.
+     * 캐시된 시간별 예보는 이미 지나간 시간을 빼고 사용합니다.
+     */
+    private suspend fun withCachedForecastIfMissing(grid: GridKey, state: WeatherState, tempAdjustment: Int): WeatherState {
+        if (state.hourlyForecast.isNotEmpty() && state.weeklyForecast.isNotEmpty()) return state
+        val cached = weatherCache.get(grid)?.withTempAdjustment(tempAdjustment) ?: return state
+        Log.w("WeatherRepository", "예보를 받지 못해 ($grid) 캐시된 예보를 사용합니다.")
+
+        val now = System.currentTimeMillis()
+        return state.copy(
+            hourlyForecast = state.hourlyForecast.ifEmpty {
+                cached.hourlyForecast.filter { (ForecastTime.toEpochMillis(it.date, it.time) ?: 0L) >= now }
+            },
+            weeklyForecast = state.weeklyForecast.ifEmpty { cached.weeklyForecast }
         )
     }
 
-    private fun WeatherCacheEntity.toWeatherState(): WeatherState {
-        val hourlyType = object : TypeToken<List<HourlyForecast>>() {}.type
-        val weeklyType = object : TypeToken<List<WeeklyForecast>>() {}.type
-
-        return WeatherState(
-            isLoading = false,
-            currentWeather = CurrentWeather(
-                iconUrl = this.current_iconUrl,
-                temperature = this.current_temperature,
-                description = this.current_description,
-                maxTemp = this.current_maxTemp,
-                minTemp = this.current_minTemp,
-                feelsLike = this.current_feelsLike
-            ),
-            weatherDetails = WeatherDetails(
-                feelsLike = this.details_feelsLike,
-                humidity = this.details_humidity,
-                precipitation = this.details_precipitation,
-                wind = this.details_wind,
-                pm10 = this.details_pm10,
-                pressure = this.details_pressure,
-                visibility = this.details_visibility,
-                uvIndex = this.details_uvIndex
-            ),
-            hourlyForecast = gson.fromJson(this.hourlyForecastJson, hourlyType),
-            weeklyForecast = gson.fromJson(this.weeklyForecastJson, weeklyType),
-            latitude = this.latitude,
-            longitude = this.longitude,
-            address = this.address,
-            lastUpdated = this.lastUpdated,
-            yesterdayComparisonText = null
+    /**
+     * 캐시된 날씨의 체감온도(현재/시간별)를 요청한 사용자 보정값 기준으로 바꿉니다.
+     */
+    private fun WeatherState.withTempAdjustment(adjustment: Int): WeatherState {
+        val delta = adjustment - tempAdjustment
+        if (delta == 0) return this
+        return copy(
+            currentWeather = currentWeather.copy(feelsLike = currentWeather.feelsLike?.plus(delta)),
+            hourlyForecast = hourlyForecast.map { it.copy(feelsLike = it.feelsLike?.plus(delta)) },
+            tempAdjustment = adjustment
         )
     }
 
+    /**
+     * 시간별 예보 전체의 체감온도를 한 번에 계산합니다.
+     * 시간별 예보에는 습도/풍속이 없으므로 현재 관측값을 모든 시간에 사용합니다.
+     */
+    private fun calculateHourlyFeelsLike(
+        items: List<HourlyWeatherItem>,
+        humidity: Double,
+        windSpeedKmh: Double
+    ): DoubleArray {
+        val size = items.size
+        val temperatures = DoubleArray(size) { items[it].temp ?: Double.NaN }
+        val humidities = DoubleArray(size) { humidity }
+        val windSpeeds = DoubleArray(size) { windSpeedKmh }
+        // 시각 형식이 잘못된 예보는 현재 시각의 월 기준으로 계산
+        val now = System.currentTimeMillis()
+        val timestamps = LongArray(size) { ForecastTime.toEpochMillis(items[it].date, items[it].time) ?: now }
+        return FeelsLikeTempCalculator.calculate(temperatures, humidities, windSpeeds, timestamps)
+    }
+
     private fun mapResponseToWeatherState(
         currentData: CurrentWeatherResponse?,
         hourlyData: HourlyForecastResponse?,
@@ -212,7 +310,7 @@ class WeatherRepositoryImpl(
         tempAdjustment: Int,
         lat: Double,
         lon: Double,
-        comparisonText: String?
+        yesterdayTempDiff: Int?
     ): WeatherState {
         val weather = currentData?.weather
         val temp = weather?.temp ?: 0.0
@@ -221,61 +319,65 @@ class WeatherRepositoryImpl(
         val windSpeedKmh = windSpeedMs * 3.6
         val calculatedFeelsLike = FeelsLikeTempCalculator.calculate(temp, humidity, windSpeedKmh)
         val finalFeelsLike = calculatedFeelsLike + tempAdjustment
-        val feelsLikeString = "${finalFeelsLike.toInt()}°"
 
         val currentWeather = CurrentWeather(
-            iconUrl = getWeatherIconUrl(weather?.skyCondition ?: "맑음", weather?.precipitationType ?: "없음"),
-            temperature = "${weather?.temp?.toInt() ?: 0}°",
-            description = weather?.skyCondition ?: "정보 없음",
-            maxTemp = "${weather?.maxTemp?.toInt() ?: 0}°",
-            minTemp = "${weather?.minTemp?.toInt() ?: 0}°",
-            feelsLike = feelsLikeString
+            temperature = weather?.temp,
+            maxTemp = weather?.maxTemp,
+            minTemp = weather?.minTemp,
+            feelsLike = finalFeelsLike,
+            sky = SkyCondition.fromApi(weather?.skyCondition),
+            precipitationType = PrecipitationType.fromApi(weather?.precipitationType)
         )
 
         val weatherDetails = WeatherDetails(
-            feelsLike = feelsLikeString,
-            humidity = "${weather?.humidity?.toInt() ?: 0}%",
-            precipitation = "${weather?.rainfall ?: 0.0} mm",
-            wind = "${weather?.windSpeed ?: 0.0} m/s",
+            humidity = weather?.humidity,
+            precipitation = weather?.rainfall ?: 0.0,
+            windSpeed = weather?.windSpeed,
             pm10 = weather?.pm10 ?: "정보없음",
-            pressure = "1013 hPa",
-            visibility = "10 km",
-            uvIndex = "5"
+            pressure = 1013.0,
+            visibility = 10.0,
+            uvIndex = 5
         )
 
-        // 현재 시간 (예: 202405201400)
-        val currentDateTime = SimpleDateFormat("yyyyMMddHHmm", Locale.KOREAN).format(Date()).toLongOrNull() ?: 0L
+        // 현재 날짜/시간 (예: 20240520, 1400)
+        val now = Date()
+        val currentDate = SimpleDateFormat("yyyyMMdd", Locale.KOREAN).format(now)
+        val currentTime = SimpleDateFormat("HHmm", Locale.KOREAN).format(now)
 
-        val hourlyForecast = hourlyData?.weather
+        // 디코더(HourlyForecastDecoder)가 이미 지나간 예보를 걸러내지만,
+        // 발표 시각 기준 캐시를 재사용한 경우 그 사이 지나간 시간이 있을 수 있어 한 번 더 거릅니다.
+        val hourlyItems = hourlyData?.weather
+            ?.asSequence()
             ?.filter { item ->
-                // 예보 시간 (예: 20240520 + 1500 = 202405201500)
-                val itemDateTime = (item.date + item.time).toLongOrNull() ?: 0L
                 // 현재 시간보다 미래인 데이터만 사용 (지나간 예보는 제외)
-                itemDateTime >= currentDateTime
+                val dateOrder = item.date.compareTo(currentDate)
+                dateOrder > 0 || (dateOrder == 0 && item.time >= currentTime)
             }
             ?.take(24)
-            ?.map { item ->
-                HourlyForecast(
-                    time = formatTime(item.time),
-                    iconUrl = getWeatherIconUrl(item.sky, item.pty),
-                    temperature = "${item.temp?.toInt() ?: 0}°",
-                    pty = item.pty
-                )
-            } ?: emptyList()
+            ?.toList() ?: emptyList()
+        val hourlyFeelsLike = calculateHourlyFeelsLike(hourlyItems, humidity, windSpeedKmh)
+        val hourlyForecast = hourlyItems.mapIndexed { index, item ->
+            val feelsLike = hourlyFeelsLike[index]
+            HourlyForecast(
+                date = item.date,
+                time = item.time,
+                temperature = item.temp,
+                feelsLike = if (feelsLike.isNaN()) null else feelsLike + tempAdjustment,
+                sky = SkyCondition.fromApi(item.sky),
+                precipitationType = PrecipitationType.fromApi(item.pty)
+            )
+        }
 
         val weeklyForecast = weeklyData?.weather?.map { item ->
             WeeklyForecast(
-                day = formatDate(item.date),
-                skyAm = item.skyAm,
-                skyPm = item.skyPm,
-                iconAm = getWeatherIconUrl(item.skyAm, "없음"),
-                iconPm = getWeatherIconUrl(item.skyPm, "없음"),
-                maxTemp = "${item.maxTemp?.toInt() ?: 0}°",
-                minTemp = "${item.minTemp?.toInt() ?: 0}°"
+                date = item.date,
+                skyAm = SkyCondition.fromApi(item.skyAm),
+                skyPm = SkyCondition.fromApi(item.skyPm),
+                maxTemp = item.maxTemp,
+                minTemp = item.minTemp
             )
         } ?: emptyList()
 
-        val lastUpdatedTimestamp = SimpleDateFormat("MM월 dd일 HH:mm", Locale.KOREAN).format(Date())
         return WeatherState(
             isLoading = false,
             currentWeather = currentWeather,
@@ -284,44 +386,11 @@ class WeatherRepositoryImpl(
             weeklyForecast = weeklyForecast,
             latitude = lat,
             longitude = lon,
-            lastUpdated = "업데이트: $lastUpdatedTimestamp",
-            yesterdayComparisonText = comparisonText
+            lastUpdatedAt = now.time,
+            yesterdayTempDiff = yesterdayTempDiff,
+            freshness = DataFreshness.FRESH,
+            circuitState = circuitBreakers.getValue(WeatherEndpoint.CURRENT).state,
+            tempAdjustment = tempAdjustment
         )
     }
-
-    private fun getWeatherIconUrl(sky: String, pty: String): String {
-        val iconId = when {
-            // 강수 형태(PTY) 우선 확인 (눈 > 비)
-            pty.contains("눈") || pty.contains("진눈깨비") -> "13d" // 눈
-            pty.contains("비") || pty.contains("소나기") -> "10d"   // 비
-            
-            // 하늘 상태(SKY) 확인
-            sky.contains("흐림") -> "03d"      // 흐림
-            sky.contains("구름많음") -> "02d"  // 구름 많음
-            sky.contains("구름조금") -> "02d"  // 구름 조금
-            sky.contains("맑음") -> "01d"      // 맑음
-            
-            else -> "01d" // 기본값 (맑음)
-        }
-        return "${Constants.WEATHER_ICON_BASE_URL}${iconId}@2x.png"
-    }
-
-    private fun formatTime(time: String): String {
-        return if (time.length == 4) {
-            "${time.substring(0, 2)}:${time.substring(2, 4)}"
-        } else {
-            time
-        }
-    }
-
-    private fun formatDate(date: String): String {
-        return try {
-            val sdf = SimpleDateFormat("yyyyMMdd", Locale.KOREAN)
-            val parsedDate = sdf.parse(date)
-            val outputFormat = SimpleDateFormat("MM/dd (E)", Locale.KOREAN)
-            outputFormat.format(parsedDate ?: date)
-        } catch (e: Exception) {
-            date
-        }
-    }
 }
@@ -1,6 +1,7 @@
 package com.example.weatherproject.di
 
-import com.example.weatherproject.data.local.AlarmDao
+import com.example.weatherproject.util.AlarmTimeline
+import com.example.weatherproject.worker.WeatherWorkOrchestrator
 import dagger.hilt.EntryPoint
 import dagger.hilt.InstallIn
 import dagger.hilt.components.SingletonComponent
@@ -8,5 +9,6 @@ import dagger.hilt.components.SingletonComponent
 @EntryPoint
 @InstallIn(SingletonComponent::class)
 interface AlarmReceiverEntryPoint {
-    fun alarmDao(): AlarmDao
+    fun alarmTimeline(): AlarmTimeline
+    fun weatherWorkOrchestrator(): WeatherWorkOrchestrator
 }
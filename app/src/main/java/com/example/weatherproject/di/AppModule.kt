@@ -2,21 +2,40 @@ package com.example.weatherproject.di
 
 import android.app.Application
 import android.content.Context
+import com.example.weatherproject.BuildConfig
+import com.example.weatherproject.data.local.AlarmDao
 import com.example.weatherproject.data.local.AppDatabase
+import com.example.weatherproject.data.local.GeocodeDao
+import com.example.weatherproject.data.repository.SettingsRepository
 import com.example.weatherproject.data.repository.WeatherRepository
 import com.example.weatherproject.data.repository.WeatherRepositoryImpl
+import com.example.weatherproject.network.CacheControlInterceptor
+import com.example.weatherproject.network.HedgedRequestExecutor
+import com.example.weatherproject.network.HourlyForecastConverterFactory
+import com.example.weatherproject.network.HttpCacheStatsInterceptor
+import com.example.weatherproject.network.NetworkMetrics
+import com.example.weatherproject.network.NetworkMetricsEventListener
 import com.example.weatherproject.network.WeatherApiService
+import com.example.weatherproject.network.WeatherGson
+import com.google.gson.Gson
+import com.example.weatherproject.util.AlarmScheduler
+import com.example.weatherproject.util.AlarmTimeline
+import com.example.weatherproject.util.GeocodingCache
 import com.example.weatherproject.util.LocationProvider
 import com.example.weatherproject.util.PreferenceManager
+import com.example.weatherproject.util.RegionGazetteer
+import com.example.weatherproject.worker.WeatherWorkOrchestrator
 import dagger.Module
 import dagger.Provides
 import dagger.hilt.InstallIn
 import dagger.hilt.android.qualifiers.ApplicationContext
 import dagger.hilt.components.SingletonComponent
+import okhttp3.Cache
 import okhttp3.OkHttpClient
 import okhttp3.logging.HttpLoggingInterceptor
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
+import java.io.File
 import java.util.concurrent.TimeUnit
 import javax.inject.Singleton
 
@@ -26,14 +45,46 @@ object AppModule {
 
     private const val BASE_URL = "https://www.weapi.shop/"
 
+    private const val HTTP_CACHE_DIR = "http_cache"
+    private const val HTTP_CACHE_SIZE = 10L * 1024 * 1024 // 10 MB
+
+    @Provides
+    @Singleton
+    fun provideHttpCache(@ApplicationContext context: Context): Cache {
+        return Cache(File(context.cacheDir, HTTP_CACHE_DIR), HTTP_CACHE_SIZE)
+    }
+
+    @Provides
+    @Singleton
+    fun provideHttpCacheStatsInterceptor(): HttpCacheStatsInterceptor {
+        return HttpCacheStatsInterceptor()
+    }
+
+    @Provides
+    @Singleton
+    fun provideNetworkMetrics(): NetworkMetrics {
+        return NetworkMetrics()
+    }
+
     @Provides
     @Singleton
-    fun provideOkHttpClient(): OkHttpClient {
-        val loggingInterceptor = HttpLoggingInterceptor().apply {
-            level = HttpLoggingInterceptor.Level.BODY
+    fun provideOkHttpClient(
+        cache: Cache,
+        cacheStatsInterceptor: HttpCacheStatsInterceptor,
+        networkMetrics: NetworkMetrics
+    ): OkHttpClient {
+        val builder = OkHttpClient.Builder()
+            .cache(cache)
+            .eventListenerFactory(NetworkMetricsEventListener.Factory(networkMetrics))
+            .addInterceptor(cacheStatsInterceptor)
+        // 본문 로깅은 응답 전체를 메모리에 복사하고 문자열로 만들므로 디버그 빌드에서만 사용
+        if (BuildConfig.DEBUG) {
+            builder.addInterceptor(HttpLoggingInterceptor().apply {
+                level = HttpLoggingInterceptor.Level.BODY
+            })
         }
-        return OkHttpClient.Builder()
-            .addInterceptor(loggingInterceptor)
+        return builder
+            .addNetworkInterceptor(CacheControlInterceptor())
             .connectTimeout(30, TimeUnit.SECONDS)
             .readTimeout(30, TimeUnit.SECONDS)
             .writeTimeout(30, TimeUnit.SECONDS)
@@ -42,11 +93,18 @@ object AppModule {
 
     @Provides
     @Singleton
-    fun provideRetrofit(okHttpClient: OkHttpClient): Retrofit {
+    fun provideGson(): Gson {
+        return WeatherGson.instance
+    }
+
+    @Provides
+    @Singleton
+    fun provideRetrofit(okHttpClient: OkHttpClient, gson: Gson): Retrofit {
         return Retrofit.Builder()
             .baseUrl(BASE_URL)
             .client(okHttpClient)
-            .addConverterFactory(GsonConverterFactory.create())
+            .addConverterFactory(HourlyForecastConverterFactory()) // 시간별 예보는 스트리밍 디코더 사용
+            .addConverterFactory(GsonConverterFactory.create(gson))
             .build()
     }
 
@@ -70,26 +128,77 @@ object AppModule {
     @Singleton
     fun provideAlarmDao(appDatabase: AppDatabase) = appDatabase.alarmDao()
 
+    @Provides
+    @Singleton
+    fun provideAlarmTimeline(application: Application, alarmDao: AlarmDao): AlarmTimeline {
+        return AlarmTimeline(application, alarmDao, prefetchLeadMillis = AlarmScheduler.DEFAULT_PREFETCH_LEAD_MILLIS)
+    }
+
+    @Provides
+    @Singleton
+    fun provideGeocodeDao(appDatabase: AppDatabase) = appDatabase.geocodeDao()
+
+    @Provides
+    @Singleton
+    fun provideHedgedRequestExecutor(): HedgedRequestExecutor {
+        return HedgedRequestExecutor(enabled = BuildConfig.HEDGE_CURRENT_WEATHER)
+    }
+
     @Provides
     @Singleton
     fun provideWeatherRepository(
         weatherApi: WeatherApiService,
         weatherDao: com.example.weatherproject.data.local.WeatherDao,
-        preferenceManager: PreferenceManager
+        preferenceManager: PreferenceManager,
+        currentWeatherHedger: HedgedRequestExecutor
     ): WeatherRepository {
-        return WeatherRepositoryImpl(weatherApi, weatherDao, preferenceManager)
+        return WeatherRepositoryImpl(weatherApi, weatherDao, preferenceManager, currentWeatherHedger)
     }
 
     @Provides
     @Singleton
-    fun providePreferenceManager(@ApplicationContext context: Context): PreferenceManager {
-        return PreferenceManager(context)
+    fun providePreferenceManager(@ApplicationContext context: Context, gson: Gson): PreferenceManager {
+        return PreferenceManager(context, gson)
     }
     
     @Provides
     @Singleton
-    fun provideLocationProvider(application: Application): LocationProvider {
-        return LocationProvider(application)
+    fun provideGeocodingCache(
+        application: Application,
+        geocodeDao: GeocodeDao,
+        gson: Gson
+    ): GeocodingCache {
+        return GeocodingCache(application, geocodeDao, gson)
+    }
+
+    @Provides
+    @Singleton
+    fun provideRegionGazetteer(application: Application): RegionGazetteer {
+        return RegionGazetteer(application)
+    }
+
+    @Provides
+    @Singleton
+    fun provideLocationProvider(application: Application, geocodingCache: GeocodingCache): LocationProvider {
+        return LocationProvider(application, geocodingCache)
+    }
+
+    @Provides
+    @Singleton
+    fun provideWeatherWorkOrchestrator(
+        application: Application,
+        weatherRepository: WeatherRepository,
+        preferenceManager: PreferenceManager,
+        locationProvider: LocationProvider,
+        settingsRepository: SettingsRepository
+    ): WeatherWorkOrchestrator {
+        return WeatherWorkOrchestrator(
+            application,
+            weatherRepository,
+            preferenceManager,
+            locationProvider,
+            settingsRepository
+        )
     }
 
     @Provides
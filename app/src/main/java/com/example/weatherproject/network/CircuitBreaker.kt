@@ -0,0 +1,116 @@
+package com.example.weatherproject.network
+
+import com.google.gson.stream.MalformedJsonException
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.TimeoutCancellationException
+import retrofit2.HttpException
+import java.io.IOException
+
+/**
+ * 서킷 브레이커 상태.
+ */
+enum class CircuitState {
+    CLOSED,    // 정상: 모든 요청을 보냄
+    OPEN,      // 차단: 요청을 보내지 않고 바로 실패 처리
+    HALF_OPEN  // 시험: 복구 여부 확인을 위한 요청(probe) 하나만 보냄
+}
+
+/**
+ * 서킷이 열려 있어 요청을 보내지 않았을 때 발생하는 예외.
+ */
+class CircuitOpenException(name: String) : IOException("Circuit '$name' is open")
+
+/**
+ * 엔드포인트 하나에 대한 서킷 브레이커.
+ * 연속 failureThreshold번 실패하면 OPEN이 되어 요청을 바로 거절하고,
+ * openDurationMillis가 지나면 HALF_OPEN으로 바뀌어 한 번에 하나의 시험 요청만 허용합니다.
+ * 시험 요청이 성공하면 CLOSED, 실패하면 다시 OPEN이 됩니다.
+ *
+ * 서버가 응답하지 못한 경우(연결 실패, 타임아웃, 5xx)만 실패로 셉니다.
+ * 4xx나 응답 파싱 오류는 서버가 응답은 한 것이므로 예외는 그대로 던지되 서킷 상태에는 성공으로 반영합니다.
+ */
+class CircuitBreaker(
+    private val name: String,
+    private val failureThreshold: Int = 3,
+    private val openDurationMillis: Long = 60_000L
+) {
+
+    private var _state = CircuitState.CLOSED
+    private var consecutiveFailures = 0
+    private var openedAt = 0L
+    private var probeInFlight = false
+
+    val state: CircuitState
+        @Synchronized get() {
+            if (_state == CircuitState.OPEN && System.currentTimeMillis() - openedAt >= openDurationMillis) {
+                _state = CircuitState.HALF_OPEN
+            }
+            return _state
+        }
+
+    suspend fun <T> execute(block: suspend () -> T): T {
+        if (!tryAcquire()) throw CircuitOpenException(name)
+        try {
+            val result = block()
+            onSuccess()
+            return result
+        } catch (e: TimeoutCancellationException) {
+            onFailure()
+            throw e
+        } catch (e: CancellationException) {
+            releaseProbe()
+            throw e
+        } catch (e: Exception) {
+            if (isServerFailure(e)) onFailure() else onSuccess()
+            throw e
+        }
+    }
+
+    private fun isServerFailure(e: Exception): Boolean = when (e) {
+        is HttpException -> e.code() >= 500
+        // Gson 스트림 파서의 형식 오류도 IOException이지만 응답은 받은 것
+        is MalformedJsonException -> false
+        // 연결 실패, SocketTimeoutException 등
+        is IOException -> true
+        else -> false
+    }
+
+    @Synchronized
+    private fun tryAcquire(): Boolean {
+        return when (state) {
+            CircuitState.CLOSED -> true
+            CircuitState.OPEN -> false
+            CircuitState.HALF_OPEN -> {
+                // 시험 요청은 한 번에 하나만 허용
+                if (probeInFlight) {
+                    false
+                } else {
+                    probeInFlight = true
+                    true
+                }
+            }
+        }
+    }
+
+    @Synchronized
+    private fun onSuccess() {
+        consecutiveFailures = 0
+        probeInFlight = false
+        _state = CircuitState.CLOSED
+    }
+
+    @Synchronized
+    private fun onFailure() {
+        consecutiveFailures++
+        if (probeInFlight || consecutiveFailures >= failureThreshold) {
+            _state = CircuitState.OPEN
+            openedAt = System.currentTimeMillis()
+        }
+        probeInFlight = false
+    }
+
+    @Synchronized
+    private fun releaseProbe() {
+        probeInFlight = false
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.weatherproject.network
+
+import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.async
+import kotlinx.coroutines.selects.select
+import kotlinx.coroutines.supervisorScope
+import kotlinx.coroutines.withTimeoutOrNull
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 요청 헤징(hedging) 통계.
+ * @param requests 전체 요청 수
+ * @param hedged 두 번째 요청을 보낸 횟수
+ * @param hedgeWins 두 번째 요청이 먼저 응답한 횟수
+ */
+data class HedgeStats(
+    val requests: Long,
+    val hedged: Long,
+    val hedgeWins: Long
+) {
+    val hedgeRate: Double
+        get() = if (requests == 0L) 0.0 else hedged.toDouble() / requests
+}
+
+/**
+ * 응답이 늦어지는 요청을 한 번 더 보내는(hedged request) 실행기.
+ * 첫 요청이 최근 응답 시간의 percentile 값 안에 끝나지 않으면 같은 요청을 하나 더 보내고,
+ * 먼저 성공한 쪽의 결과를 사용하며 나머지 요청은 취소합니다.
+ * 최근 응답 시간이 minSamples개 이상 모이기 전에는 헤징하지 않습니다.
+ *
+ * 응답 시간은 실제로 네트워크를 거친 응답만 기록합니다. (HTTP 캐시에서 바로 온 응답은 제외)
+ * 캐시 응답이 섞이면 percentile 값이 수 ms로 내려가 거의 모든 요청을 두 번 보내게 되기 때문입니다.
+ * 같은 이유로 헤징 지연 시간은 minHedgeDelayMillis보다 짧아지지 않습니다.
+ */
+class HedgedRequestExecutor(
+    private val enabled: Boolean = true,
+    private val percentile: Double = 0.95,
+    private val windowSize: Int = 50,
+    private val minSamples: Int = 10,
+    private val minHedgeDelayMillis: Long = DEFAULT_MIN_HEDGE_DELAY_MILLIS
+) {
+
+    private val latencies = LongArray(windowSize)
+    private var latencyCount = 0
+    private var latencyIndex = 0
+
+    private val requests = AtomicLong()
+    private val hedged = AtomicLong()
+    private val hedgeWins = AtomicLong()
+
+    /**
+     * @param isNetworkResponse 응답이 실제로 네트워크를 거쳤는지 여부. false면 응답 시간을 기록하지 않음
+     */
+    suspend fun <T> execute(
+        isNetworkResponse: (T) -> Boolean = { true },
+        block: suspend () -> T
+    ): T = supervisorScope {
+        requests.incrementAndGet()
+        val hedgeDelay = if (enabled) hedgeDelayMillis() else null
+
+        val primary = async { timed(isNetworkResponse, block) }
+        if (hedgeDelay == null) return@supervisorScope primary.await()
+
+        // 지연 시간 안에 끝나면 (성공이든 실패든) 첫 요청 결과를 그대로 사용
+        if (withTimeoutOrNull(hedgeDelay) { primary.join() } != null) {
+            return@supervisorScope primary.await()
+        }
+
+        hedged.incrementAndGet()
+        val hedge = async { timed(isNetworkResponse, block) }
+
+        val pending = mutableListOf<Deferred<T>>(primary, hedge)
+        var lastError: Throwable? = null
+        while (pending.isNotEmpty()) {
+            val done = select<Deferred<T>> {
+                pending.forEach { deferred -> deferred.onJoin { deferred } }
+            }
+            pending.remove(done)
+
+            val result = runCatching { done.await() }
+            if (result.isSuccess) {
+                pending.forEach { it.cancel() }
+                if (done === hedge) hedgeWins.incrementAndGet()
+                return@supervisorScope result.getOrThrow()
+            }
+            lastError = result.exceptionOrNull()
+        }
+        throw lastError ?: IllegalStateException("Hedged request finished without a result")
+    }
+
+    fun stats(): HedgeStats = HedgeStats(
+        requests = requests.get(),
+        hedged = hedged.get(),
+        hedgeWins = hedgeWins.get()
+    )
+
+    private suspend fun <T> timed(isNetworkResponse: (T) -> Boolean, block: suspend () -> T): T {
+        val start = System.nanoTime()
+        val result = block()
+        if (isNetworkResponse(result)) recordLatency((System.nanoTime() - start) / 1_000_000)
+        return result
+    }
+
+    @Synchronized
+    private fun recordLatency(millis: Long) {
+        latencies[latencyIndex] = millis
+        latencyIndex = (latencyIndex + 1) % windowSize
+        if (latencyCount < windowSize) latencyCount++
+    }
+
+    @Synchronized
+    private fun hedgeDelayMillis(): Long? {
+        if (latencyCount < minSamples) return null
+        val sorted = latencies.copyOf(latencyCount).apply { sort() }
+        val index = ((latencyCount - 1) * percentile).toInt()
+        return maxOf(sorted[index], minHedgeDelayMillis)
+    }
+
+    companion object {
+        private const val DEFAULT_MIN_HEDGE_DELAY_MILLIS = 300L
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.weatherproject.network
+
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import okhttp3.ResponseBody
+import retrofit2.Converter
+import retrofit2.Retrofit
+import java.lang.reflect.Type
+import java.text.SimpleDateFormat
+import java.util.Date
+import java.util.Locale
+
+/**
+ * /api/weather/forecast 응답을 JsonReader로 직접 읽는 스트리밍 디코더.
+ * 지나간 예보 시간은 객체를 만들지 않고 건너뛰며, 필요한 개수(limit)를 모으면 나머지 항목은 읽지 않습니다.
+ */
+object HourlyForecastDecoder {
+
+    /**
+     * 화면에 표시하는 24시간에, 발표 시각 기준 캐시(최대 3시간) 동안 지나갈 시간만큼 여유를 둡니다.
+     */
+    const val DEFAULT_LIMIT = 24 + 3
+
+    fun decode(
+        reader: JsonReader,
+        nowDate: String,
+        nowTime: String,
+        limit: Int = DEFAULT_LIMIT
+    ): HourlyForecastResponse {
+        var location: LocationCoord? = null
+        val items = ArrayList<HourlyWeatherItem>(minOf(limit, DEFAULT_LIMIT))
+
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "위치좌표" -> location = readLocation(reader)
+                "날씨" -> {
+                    reader.beginArray()
+                    while (reader.hasNext()) {
+                        if (items.size >= limit) {
+                            // 위치좌표를 이미 읽었다면 더 읽을 필요 없음
+                            if (location != null) {
+                                return HourlyForecastResponse(location, items)
+                            }
+                            reader.skipValue()
+                            continue
+                        }
+                        readItem(reader, nowDate, nowTime)?.let { items.add(it) }
+                    }
+                    reader.endArray()
+                }
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        return HourlyForecastResponse(location ?: LocationCoord(0, 0), items)
+    }
+
+    private fun readLocation(reader: JsonReader): LocationCoord {
+        var nx = 0
+        var ny = 0
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "nx" -> nx = reader.nextInt()
+                "ny" -> ny = reader.nextInt()
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+        return LocationCoord(nx, ny)
+    }
+
+    /**
+     * 예보 항목 하나를 읽고, 현재 시각 이후의 예보일 때만 객체를 만들어 반환합니다.
+     * date/time은 고정 길이 숫자 문자열이므로 문자열 비교로 시간 순서를 판단합니다.
+     */
+    fun readItem(reader: JsonReader, nowDate: String, nowTime: String): HourlyWeatherItem? {
+        var date = ""
+        var time = ""
+        var temp: Double? = null
+        var sky = ""
+        var pty = ""
+        var rainAmount = ""
+        var pop = 0.0
+
+        reader.beginObject()
+        while (reader.hasNext()) {
+            val name = reader.nextName()
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull()
+                continue
+            }
+            when (name) {
+                "date" -> date = reader.nextString()
+                "time" -> time = reader.nextString()
+                "temp" -> temp = reader.nextDouble()
+                "sky" -> sky = reader.nextString()
+                "pty" -> pty = reader.nextString()
+                "rain_amount" -> rainAmount = reader.nextString()
+                "pop" -> pop = reader.nextDouble()
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        val dateOrder = date.compareTo(nowDate)
+        if (dateOrder < 0 || (dateOrder == 0 && time < nowTime)) return null
+
+        return HourlyWeatherItem(
+            date = date,
+            time = time,
+            temp = temp,
+            sky = sky,
+            pty = pty,
+            rainAmount = rainAmount,
+            pop = pop
+        )
+    }
+}
+
+/**
+ * HourlyForecastResponse 타입에만 HourlyForecastDecoder를 사용하는 Retrofit 컨버터.
+ * 다른 타입은 null을 반환하여 다음 컨버터(Gson)에게 넘깁니다.
+ */
+class HourlyForecastConverterFactory : Converter.Factory() {
+
+    override fun responseBodyConverter(
+        type: Type,
+        annotations: Array<out Annotation>,
+        retrofit: Retrofit
+    ): Converter<ResponseBody, *>? {
+        if (type != HourlyForecastResponse::class.java) return null
+
+        return Converter<ResponseBody, HourlyForecastResponse> { body ->
+            body.use {
+                val now = Date()
+                val nowDate = SimpleDateFormat("yyyyMMdd", Locale.KOREAN).format(now)
+                val nowTime = SimpleDateFormat("HHmm", Locale.KOREAN).format(now)
+                HourlyForecastDecoder.decode(JsonReader(it.charStream()), nowDate, nowTime)
+            }
+        }
+    }
+}
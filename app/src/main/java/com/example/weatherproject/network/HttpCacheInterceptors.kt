@@ -0,0 +1,77 @@
+package com.example.weatherproject.network
+
+import okhttp3.Interceptor
+import okhttp3.Response
+import java.net.HttpURLConnection.HTTP_NOT_MODIFIED
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 서버가 캐시 헤더(Cache-Control/Expires)를 주지 않을 때, 엔드포인트별 max-age를 붙여주는 네트워크 인터셉터.
+ * ETag/Last-Modified가 함께 오면 max-age가 지난 뒤 OkHttp가 조건부 요청(If-None-Match 등)으로 재검증합니다.
+ */
+class CacheControlInterceptor : Interceptor {
+
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val response = chain.proceed(chain.request())
+        if (!response.isSuccessful) return response
+        if (response.header("Cache-Control") != null || response.header("Expires") != null) {
+            return response
+        }
+
+        val maxAgeSeconds = MAX_AGE_SECONDS[chain.request().url.encodedPath] ?: return response
+        return response.newBuilder()
+            .header("Cache-Control", "max-age=$maxAgeSeconds")
+            .removeHeader("Pragma")
+            .build()
+    }
+
+    companion object {
+        // 엔드포인트별 클라이언트 측 캐시 유지 시간(초)
+        private val MAX_AGE_SECONDS = mapOf(
+            "/api/weather/current" to 10 * 60,
+            "/api/weather/forecast" to 30 * 60,
+            "/api/weather/week" to 3 * 60 * 60,
+            "/get_cctv" to 5 * 60
+        )
+    }
+}
+
+/**
+ * HTTP 캐시 적중 통계.
+ * @param hits 네트워크 없이 디스크 캐시로 응답한 횟수
+ * @param conditionalHits 서버가 304(Not Modified)를 돌려줘 캐시 본문을 재사용한 횟수
+ * @param misses 서버에서 본문 전체를 받아온 횟수 (재검증했지만 내용이 바뀌어 200을 받은 경우 포함)
+ */
+data class HttpCacheStats(
+    val hits: Long,
+    val conditionalHits: Long,
+    val misses: Long
+)
+
+/**
+ * 응답이 캐시/조건부 재검증/네트워크 중 어디서 왔는지 집계하는 애플리케이션 인터셉터.
+ */
+class HttpCacheStatsInterceptor : Interceptor {
+
+    private val hits = AtomicLong()
+    private val conditionalHits = AtomicLong()
+    private val misses = AtomicLong()
+
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val response = chain.proceed(chain.request())
+        // 재검증 후 200을 받은 경우에도 cacheResponse가 남아 있으므로, 304 여부는 networkResponse의 코드로 판단
+        val networkResponse = response.networkResponse
+        when {
+            networkResponse == null && response.cacheResponse != null -> hits.incrementAndGet()
+            networkResponse?.code == HTTP_NOT_MODIFIED -> conditionalHits.incrementAndGet()
+            else -> misses.incrementAndGet()
+        }
+        return response
+    }
+
+    fun stats(): HttpCacheStats = HttpCacheStats(
+        hits = hits.get(),
+        conditionalHits = conditionalHits.get(),
+        misses = misses.get()
+    )
+}
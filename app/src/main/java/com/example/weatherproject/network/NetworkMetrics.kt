@@ -0,0 +1,238 @@
+package com.example.weatherproject.network
+
+import okhttp3.Call
+import okhttp3.EventListener
+import okhttp3.Handshake
+import okhttp3.Protocol
+import okhttp3.Response
+import java.io.IOException
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.Proxy
+
+/**
+ * 네트워크 요청의 구간.
+ */
+enum class NetworkPhase {
+    DNS,        // DNS 조회
+    CONNECT,    // TCP 연결 (TLS 포함)
+    TLS,        // TLS 핸드셰이크
+    TTFB,       // 요청 전송 완료 ~ 응답 헤더 수신 시작
+    BODY_READ,  // 응답 본문 읽기
+    TOTAL       // 전체
+}
+
+/**
+ * 요청 하나의 구간별 소요 시간(ms). 해당 구간이 없었으면(예: 연결 재사용) 0입니다.
+ */
+data class CallMetrics(
+    val endpoint: String,
+    val dnsMillis: Long,
+    val connectMillis: Long,
+    val tlsMillis: Long,
+    val ttfbMillis: Long,
+    val bodyReadMillis: Long,
+    val totalMillis: Long,
+    val connectionReused: Boolean,
+    val success: Boolean
+) {
+    fun durationOf(phase: NetworkPhase): Long = when (phase) {
+        NetworkPhase.DNS -> dnsMillis
+        NetworkPhase.CONNECT -> connectMillis
+        NetworkPhase.TLS -> tlsMillis
+        NetworkPhase.TTFB -> ttfbMillis
+        NetworkPhase.BODY_READ -> bodyReadMillis
+        NetworkPhase.TOTAL -> totalMillis
+    }
+}
+
+/**
+ * 최근 요청들의 구간별 소요 시간을 보관하는 링 버퍼.
+ * 디버그 화면이나 테스트에서 엔드포인트별 히스토그램과 연결 재사용률을 조회할 수 있습니다.
+ */
+class NetworkMetrics(private val capacity: Int = DEFAULT_CAPACITY) {
+
+    private val buffer = arrayOfNulls<CallMetrics>(capacity)
+    private var nextIndex = 0
+    private var size = 0
+    private var canceled = 0L
+
+    @Synchronized
+    fun record(metrics: CallMetrics) {
+        buffer[nextIndex] = metrics
+        nextIndex = (nextIndex + 1) % capacity
+        if (size < capacity) size++
+    }
+
+    /**
+     * 호출한 쪽에서 취소한 요청 수. (예: 헤징에서 진 요청, 화면을 떠나 취소된 요청)
+     * 서버/네트워크 실패가 아니므로 기록(실패율, 히스토그램)에는 넣지 않고 따로 셉니다.
+     */
+    @Synchronized
+    fun recordCanceled() {
+        canceled++
+    }
+
+    @Synchronized
+    fun canceledCount(): Long = canceled
+
+    /**
+     * 보관 중인 기록을 오래된 순서대로 반환합니다.
+     */
+    @Synchronized
+    fun snapshot(): List<CallMetrics> {
+        val start = if (size < capacity) 0 else nextIndex
+        return List(size) { buffer[(start + it) % capacity]!! }
+    }
+
+    /**
+     * 엔드포인트와 구간별 히스토그램.
+     * 반환 배열의 i번째 값은 HISTOGRAM_BOUNDS_MILLIS[i] 이하인 요청 수이며, 마지막 칸은 그보다 느린 요청 수입니다.
+     */
+    fun histogram(endpoint: String, phase: NetworkPhase): LongArray {
+        val counts = LongArray(HISTOGRAM_BOUNDS_MILLIS.size + 1)
+        snapshot().forEach { metrics ->
+            if (metrics.endpoint != endpoint) return@forEach
+            val duration = metrics.durationOf(phase)
+            var bucket = HISTOGRAM_BOUNDS_MILLIS.indexOfFirst { duration <= it }
+            if (bucket < 0) bucket = HISTOGRAM_BOUNDS_MILLIS.size
+            counts[bucket]++
+        }
+        return counts
+    }
+
+    /**
+     * 엔드포인트별 연결 재사용률 (0.0 ~ 1.0).
+     */
+    fun connectionReuseRate(endpoint: String): Double {
+        val calls = snapshot().filter { it.endpoint == endpoint }
+        if (calls.isEmpty()) return 0.0
+        return calls.count { it.connectionReused }.toDouble() / calls.size
+    }
+
+    companion object {
+        private const val DEFAULT_CAPACITY = 200
+        val HISTOGRAM_BOUNDS_MILLIS = longArrayOf(10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000)
+    }
+}
+
+/**
+ * OkHttp 이벤트를 받아 요청 하나의 구간별 시간을 측정하고 NetworkMetrics에 기록하는 리스너.
+ * 요청마다 새 인스턴스가 만들어집니다.
+ */
+class NetworkMetricsEventListener(private val metrics: NetworkMetrics) : EventListener() {
+
+    class Factory(private val metrics: NetworkMetrics) : EventListener.Factory {
+        override fun create(call: Call): EventListener = NetworkMetricsEventListener(metrics)
+    }
+
+    private var callStart = 0L
+    private var dnsStart = 0L
+    private var dnsMillis = 0L
+    private var connectStart = 0L
+    private var connectMillis = 0L
+    private var secureConnectStart = 0L
+    private var tlsMillis = 0L
+    private var requestEnd = 0L
+    private var ttfbMillis = 0L
+    private var bodyStart = 0L
+    private var bodyReadMillis = 0L
+    private var newConnection = false
+    private var servedFromCache = false
+
+    override fun callStart(call: Call) {
+        callStart = System.nanoTime()
+    }
+
+    override fun dnsStart(call: Call, domainName: String) {
+        dnsStart = System.nanoTime()
+    }
+
+    override fun dnsEnd(call: Call, domainName: String, inetAddressList: List<InetAddress>) {
+        dnsMillis += elapsedMillis(dnsStart)
+    }
+
+    override fun connectStart(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy) {
+        connectStart = System.nanoTime()
+        newConnection = true
+    }
+
+    override fun secureConnectStart(call: Call) {
+        secureConnectStart = System.nanoTime()
+    }
+
+    override fun secureConnectEnd(call: Call, handshake: Handshake?) {
+        tlsMillis += elapsedMillis(secureConnectStart)
+    }
+
+    override fun connectEnd(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy, protocol: Protocol?) {
+        connectMillis += elapsedMillis(connectStart)
+    }
+
+    override fun connectFailed(
+        call: Call,
+        inetSocketAddress: InetSocketAddress,
+        proxy: Proxy,
+        protocol: Protocol?,
+        ioe: IOException
+    ) {
+        connectMillis += elapsedMillis(connectStart)
+    }
+
+    override fun requestHeadersEnd(call: Call, request: okhttp3.Request) {
+        requestEnd = System.nanoTime()
+    }
+
+    override fun requestBodyEnd(call: Call, byteCount: Long) {
+        requestEnd = System.nanoTime()
+    }
+
+    override fun responseHeadersStart(call: Call) {
+        if (requestEnd != 0L) ttfbMillis = elapsedMillis(requestEnd)
+    }
+
+    override fun responseBodyStart(call: Call) {
+        bodyStart = System.nanoTime()
+    }
+
+    override fun responseBodyEnd(call: Call, byteCount: Long) {
+        if (bodyStart != 0L) bodyReadMillis = elapsedMillis(bodyStart)
+    }
+
+    override fun callEnd(call: Call) {
+        record(call, success = true)
+    }
+
+    override fun callFailed(call: Call, ioe: IOException) {
+        // 취소된 요청은 실패가 아니므로 따로 셈
+        if (call.isCanceled()) {
+            metrics.recordCanceled()
+            return
+        }
+        record(call, success = false)
+    }
+
+    override fun cacheHit(call: Call, response: Response) {
+        servedFromCache = true
+    }
+
+    private fun record(call: Call, success: Boolean) {
+        // 디스크 캐시로 응답한 요청은 네트워크를 타지 않았으므로 기록하지 않음
+        if (servedFromCache) return
+        metrics.record(
+            CallMetrics(
+                endpoint = call.request().url.encodedPath,
+                dnsMillis = dnsMillis,
+                connectMillis = connectMillis,
+                tlsMillis = tlsMillis,
+                ttfbMillis = ttfbMillis,
+                bodyReadMillis = bodyReadMillis,
+                totalMillis = elapsedMillis(callStart),
+                connectionReused = !newConnection,
+                success = success
+            )
+        )
+    }
+
+    private fun elapsedMillis(startNanos: Long): Long = (System.nanoTime() - startNanos) / 1_000_000
+}
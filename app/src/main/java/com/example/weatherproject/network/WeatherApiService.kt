@@ -1,5 +1,6 @@
 package com.example.weatherproject.network
 
+import retrofit2.Response
 import retrofit2.http.GET
 import retrofit2.http.Query
 
@@ -7,12 +8,13 @@ interface WeatherApiService {
 
     /**
      * 현재 날씨 조회
+     * 헤징 실행기가 HTTP 캐시 응답과 네트워크 응답을 구분할 수 있도록 Response로 받습니다.
      */
     @GET("/api/weather/current")
     suspend fun getCurrentWeather(
         @Query("nx") nx: Int,
         @Query("ny") ny: Int
-    ): CurrentWeatherResponse
+    ): Response<CurrentWeatherResponse>
 
     /**
      * 시간별 예보 조회
@@ -0,0 +1,361 @@
+package com.example.weatherproject.network
+
+import com.example.weatherproject.util.GeocodeResult
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.google.gson.stream.JsonWriter
+
+/**
+ * 네트워크 DTO(와 Room에 JSON으로 저장하는 지오코딩 결과)용 수동 TypeAdapter 모음.
+ * 리플렉션 없이 한글 키("기온(°C)" 등)를 직접 매핑하므로, 첫 호출 시 리플렉션 비용이 없고
+ * R8이 필드 이름을 바꿔도 파싱이 깨지지 않습니다.
+ * 앱 전체에서 WeatherGson.instance 하나만 사용합니다.
+ */
+object WeatherGson {
+
+    val instance: Gson by lazy { create() }
+
+    /**
+     * 어댑터를 등록한 새 Gson을 만듭니다. 앱에서는 instance를 사용합니다.
+     */
+    internal fun create(): Gson =
+        GsonBuilder()
+            .registerTypeAdapter(LocationCoord::class.java, LocationCoordAdapter.nullSafe())
+            .registerTypeAdapter(CurrentWeatherData::class.java, CurrentWeatherDataAdapter.nullSafe())
+            .registerTypeAdapter(CurrentWeatherResponse::class.java, CurrentWeatherResponseAdapter.nullSafe())
+            .registerTypeAdapter(HourlyWeatherItem::class.java, HourlyWeatherItemAdapter.nullSafe())
+            .registerTypeAdapter(HourlyForecastResponse::class.java, HourlyForecastResponseAdapter.nullSafe())
+            .registerTypeAdapter(WeeklyWeatherItem::class.java, WeeklyWeatherItemAdapter.nullSafe())
+            .registerTypeAdapter(WeeklyForecastResponse::class.java, WeeklyForecastResponseAdapter.nullSafe())
+            .registerTypeAdapter(CctvResponse::class.java, CctvResponseAdapter.nullSafe())
+            .registerTypeAdapter(GeocodeResult::class.java, GeocodeResultAdapter.nullSafe())
+            .create()
+}
+
+private fun JsonReader.nextStringOrNull(): String? {
+    if (peek() == JsonToken.NULL) {
+        nextNull()
+        return null
+    }
+    return nextString()
+}
+
+private fun JsonReader.nextDoubleOrNull(): Double? {
+    if (peek() == JsonToken.NULL) {
+        nextNull()
+        return null
+    }
+    return nextDouble()
+}
+
+private object LocationCoordAdapter : TypeAdapter<LocationCoord>() {
+    override fun write(out: JsonWriter, value: LocationCoord) {
+        out.beginObject()
+        out.name("nx").value(value.nx.toLong())
+        out.name("ny").value(value.ny.toLong())
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): LocationCoord {
+        var nx = 0
+        var ny = 0
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "nx" -> nx = reader.nextInt()
+                "ny" -> ny = reader.nextInt()
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+        return LocationCoord(nx, ny)
+    }
+}
+
+private object CurrentWeatherDataAdapter : TypeAdapter<CurrentWeatherData>() {
+    override fun write(out: JsonWriter, value: CurrentWeatherData) {
+        out.beginObject()
+        out.name("기온(°C)").value(value.temp)
+        out.name("1시간 강수량(mm)").value(value.rainfall)
+        out.name("습도(%)").value(value.humidity)
+        out.name("풍속(m/s)").value(value.windSpeed)
+        out.name("일 최저기온(°C)").value(value.minTemp)
+        out.name("일 최고기온(°C)").value(value.maxTemp)
+        out.name("하늘상태").value(value.skyCondition)
+        out.name("강수형태").value(value.precipitationType)
+        out.name("미세먼지").value(value.pm10)
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): CurrentWeatherData {
+        var temp: Double? = null
+        var rainfall: Double? = null
+        var humidity: Double? = null
+        var windSpeed: Double? = null
+        var minTemp: Double? = null
+        var maxTemp: Double? = null
+        var skyCondition: String? = null
+        var precipitationType: String? = null
+        var pm10: String? = null
+
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "기온(°C)" -> temp = reader.nextDoubleOrNull()
+                "1시간 강수량(mm)" -> rainfall = reader.nextDoubleOrNull()
+                "습도(%)" -> humidity = reader.nextDoubleOrNull()
+                "풍속(m/s)" -> windSpeed = reader.nextDoubleOrNull()
+                "일 최저기온(°C)" -> minTemp = reader.nextDoubleOrNull()
+                "일 최고기온(°C)" -> maxTemp = reader.nextDoubleOrNull()
+                "하늘상태" -> skyCondition = reader.nextStringOrNull()
+                "강수형태" -> precipitationType = reader.nextStringOrNull()
+                "미세먼지" -> pm10 = reader.nextStringOrNull()
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        return CurrentWeatherData(
+            temp = temp,
+            rainfall = rainfall,
+            humidity = humidity,
+            windSpeed = windSpeed,
+            minTemp = minTemp,
+            maxTemp = maxTemp,
+            skyCondition = skyCondition,
+            precipitationType = precipitationType,
+            pm10 = pm10
+        )
+    }
+}
+
+private object CurrentWeatherResponseAdapter : TypeAdapter<CurrentWeatherResponse>() {
+    override fun write(out: JsonWriter, value: CurrentWeatherResponse) {
+        out.beginObject()
+        out.name("위치좌표")
+        LocationCoordAdapter.write(out, value.location)
+        out.name("날씨")
+        CurrentWeatherDataAdapter.write(out, value.weather)
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): CurrentWeatherResponse {
+        var location: LocationCoord? = null
+        var weather: CurrentWeatherData? = null
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "위치좌표" -> location = LocationCoordAdapter.read(reader)
+                "날씨" -> weather = CurrentWeatherDataAdapter.read(reader)
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+        return CurrentWeatherResponse(
+            location = location ?: LocationCoord(0, 0),
+            weather = weather ?: CurrentWeatherData(null, null, null, null, null, null, null, null, null)
+        )
+    }
+}
+
+private object HourlyWeatherItemAdapter : TypeAdapter<HourlyWeatherItem>() {
+    override fun write(out: JsonWriter, value: HourlyWeatherItem) {
+        out.beginObject()
+        out.name("date").value(value.date)
+        out.name("time").value(value.time)
+        out.name("temp").value(value.temp)
+        out.name("sky").value(value.sky)
+        out.name("pty").value(value.pty)
+        out.name("rain_amount").value(value.rainAmount)
+        out.name("pop").value(value.pop)
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): HourlyWeatherItem {
+        // 모든 항목을 읽는 경우로, 기준 시각을 비워두면 지나간 예보도 그대로 포함됩니다.
+        return HourlyForecastDecoder.readItem(reader, nowDate = "", nowTime = "")!!
+    }
+}
+
+private object HourlyForecastResponseAdapter : TypeAdapter<HourlyForecastResponse>() {
+    override fun write(out: JsonWriter, value: HourlyForecastResponse) {
+        out.beginObject()
+        out.name("위치좌표")
+        LocationCoordAdapter.write(out, value.location)
+        out.name("날씨")
+        out.beginArray()
+        value.weather.forEach { HourlyWeatherItemAdapter.write(out, it) }
+        out.endArray()
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): HourlyForecastResponse {
+        return HourlyForecastDecoder.decode(reader, nowDate = "", nowTime = "", limit = Int.MAX_VALUE)
+    }
+}
+
+private object WeeklyWeatherItemAdapter : TypeAdapter<WeeklyWeatherItem>() {
+    override fun write(out: JsonWriter, value: WeeklyWeatherItem) {
+        out.beginObject()
+        out.name("date").value(value.date)
+        out.name("min_temp").value(value.minTemp)
+        out.name("max_temp").value(value.maxTemp)
+        out.name("sky_am").value(value.skyAm)
+        out.name("sky_pm").value(value.skyPm)
+        out.name("pop").value(value.pop.toLong())
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): WeeklyWeatherItem {
+        var date = ""
+        var minTemp: Double? = null
+        var maxTemp: Double? = null
+        var skyAm = ""
+        var skyPm = ""
+        var pop = 0
+
+        reader.beginObject()
+        while (reader.hasNext()) {
+            val name = reader.nextName()
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull()
+                continue
+            }
+            when (name) {
+                "date" -> date = reader.nextString()
+                "min_temp" -> minTemp = reader.nextDouble()
+                "max_temp" -> maxTemp = reader.nextDouble()
+                "sky_am" -> skyAm = reader.nextString()
+                "sky_pm" -> skyPm = reader.nextString()
+                "pop" -> pop = reader.nextInt()
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        return WeeklyWeatherItem(
+            date = date,
+            minTemp = minTemp,
+            maxTemp = maxTemp,
+            skyAm = skyAm,
+            skyPm = skyPm,
+            pop = pop
+        )
+    }
+}
+
+private object WeeklyForecastResponseAdapter : TypeAdapter<WeeklyForecastResponse>() {
+    override fun write(out: JsonWriter, value: WeeklyForecastResponse) {
+        out.beginObject()
+        out.name("위치좌표")
+        LocationCoordAdapter.write(out, value.location)
+        out.name("날씨")
+        out.beginArray()
+        value.weather.forEach { WeeklyWeatherItemAdapter.write(out, it) }
+        out.endArray()
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): WeeklyForecastResponse {
+        var location: LocationCoord? = null
+        val items = ArrayList<WeeklyWeatherItem>()
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "위치좌표" -> location = LocationCoordAdapter.read(reader)
+                "날씨" -> {
+                    reader.beginArray()
+                    while (reader.hasNext()) {
+                        items.add(WeeklyWeatherItemAdapter.read(reader))
+                    }
+                    reader.endArray()
+                }
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+        return WeeklyForecastResponse(location ?: LocationCoord(0, 0), items)
+    }
+}
+
+private object CctvResponseAdapter : TypeAdapter<CctvResponse>() {
+    override fun write(out: JsonWriter, value: CctvResponse) {
+        out.beginObject()
+        out.name("status").value(value.status)
+        out.name("cctv_name").value(value.cctvName)
+        out.name("cctv_url").value(value.cctvUrl)
+        out.name("cctv_type").value(value.cctvType)
+        out.name("cctv_lat").value(value.cctvLat)
+        out.name("cctv_lng").value(value.cctvLng)
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): CctvResponse {
+        var status = ""
+        var cctvName = ""
+        var cctvUrl = ""
+        var cctvType = ""
+        var cctvLat = ""
+        var cctvLng = ""
+
+        reader.beginObject()
+        while (reader.hasNext()) {
+            val name = reader.nextName()
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull()
+                continue
+            }
+            when (name) {
+                "status" -> status = reader.nextString()
+                "cctv_name" -> cctvName = reader.nextString()
+                "cctv_url" -> cctvUrl = reader.nextString()
+                "cctv_type" -> cctvType = reader.nextString()
+                "cctv_lat" -> cctvLat = reader.nextString()
+                "cctv_lng" -> cctvLng = reader.nextString()
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        return CctvResponse(
+            status = status,
+            cctvName = cctvName,
+            cctvUrl = cctvUrl,
+            cctvType = cctvType,
+            cctvLat = cctvLat,
+            cctvLng = cctvLng
+        )
+    }
+}
+
+// geocode_cache.resultsJson 형식. 키 이름은 리플렉션으로 저장하던 때와 같으므로 기존 캐시도 그대로 읽음
+private object GeocodeResultAdapter : TypeAdapter<GeocodeResult>() {
+    override fun write(out: JsonWriter, value: GeocodeResult) {
+        out.beginObject()
+        out.name("address").value(value.address)
+        out.name("latitude").value(value.latitude)
+        out.name("longitude").value(value.longitude)
+        out.endObject()
+    }
+
+    override fun read(reader: JsonReader): GeocodeResult {
+        var address = ""
+        var latitude = 0.0
+        var longitude = 0.0
+
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "address" -> address = reader.nextStringOrNull().orEmpty()
+                "latitude" -> latitude = reader.nextDoubleOrNull() ?: 0.0
+                "longitude" -> longitude = reader.nextDoubleOrNull() ?: 0.0
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+        return GeocodeResult(address, latitude, longitude)
+    }
+}
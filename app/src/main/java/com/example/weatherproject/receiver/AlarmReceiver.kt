@@ -4,12 +4,11 @@ import android.content.BroadcastReceiver
 import android.content.Context
 import android.content.Intent
 import android.util.Log
-import androidx.work.OneTimeWorkRequestBuilder
-import androidx.work.WorkManager
 import com.example.weatherproject.di.AlarmReceiverEntryPoint
+import com.example.weatherproject.util.AlarmBriefingComposer
 import com.example.weatherproject.util.AlarmScheduler
+import com.example.weatherproject.util.NotificationHelper
 import com.example.weatherproject.worker.TestWorker
-import com.example.weatherproject.worker.WeatherUpdateWorker
 import dagger.hilt.android.EntryPointAccessors
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
@@ -23,39 +22,61 @@ class AlarmReceiver : BroadcastReceiver() {
             return
         }
 
-        Log.d("AlarmReceiver", "Alarm received with ID: $alarmId. Enqueuing worker.")
+        // Hilt EntryPoint를 통해 안전하게 의존성을 가져옴
+        val hiltEntryPoint = EntryPointAccessors.fromApplication(
+            context.applicationContext,
+            AlarmReceiverEntryPoint::class.java
+        )
+        val weatherWorkOrchestrator = hiltEntryPoint.weatherWorkOrchestrator()
+        val alarmTimeline = hiltEntryPoint.alarmTimeline()
+        val triggerAt = intent.getLongExtra(AlarmScheduler.EXTRA_TRIGGER_AT, 0L)
 
-        // 1. Worker에게 작업 요청
-        val workRequest = OneTimeWorkRequestBuilder<WeatherUpdateWorker>().build()
-        WorkManager.getInstance(context).enqueue(workRequest)
+        // 알람 직전: 같은 시각에 울릴 알람마다 날씨를 받아 브리핑을 미리 만들어 둠
+        if (intent.action == AlarmScheduler.ACTION_PREFETCH) {
+            Log.d("AlarmReceiver", "Prefetch received for alarm ID: $alarmId")
+            val pendingResult = goAsync()
+            CoroutineScope(Dispatchers.IO).launch {
+                try {
+                    val dueAlarmIds = alarmTimeline.alarmsDueBy(triggerAt).map { it.id }
+                    (dueAlarmIds.ifEmpty { listOf(alarmId) }).forEach { weatherWorkOrchestrator.enqueueAlarmPrefetch(it) }
+                } catch (e: Exception) {
+                    Log.e("AlarmReceiver", "Error enqueueing prefetch: $alarmId", e)
+                } finally {
+                    pendingResult.finish()
+                }
+            }
+            return
+        }
+
+        Log.d("AlarmReceiver", "Alarm received with ID: $alarmId.")
+        // 예정 시각보다 조금 일찍 전달되어도 그 시각의 알람을 모두 처리하도록 둘 중 늦은 시각 사용
+        val triggeredAt = maxOf(System.currentTimeMillis(), triggerAt)
 
-        // 2. 다음 반복 알람 재예약 (DB 접근이 필요하므로 background에서 처리)
         val pendingResult = goAsync()
         val scope = CoroutineScope(Dispatchers.IO)
         scope.launch {
             try {
-                // Hilt EntryPoint를 통해 안전하게 DAO 인스턴스를 가져옴
-                val hiltEntryPoint = EntryPointAccessors.fromApplication(
-                    context.applicationContext,
-                    AlarmReceiverEntryPoint::class.java
-                )
-                val alarmDao = hiltEntryPoint.alarmDao()
+                // 1. 울릴 시각이 된 알람을 타임라인에서 꺼내고 다음 알람 등록 (일회성 알람은 OFF 처리)
+                val firedAlarms = alarmTimeline.onAlarmFired(triggeredAt)
+                Log.d("AlarmReceiver", "Fired alarms: ${firedAlarms.map { it.id }}")
 
-                val alarm = alarmDao.getAlarmById(alarmId)
-                if (alarm != null) {
-                    if (alarm.selectedDate != null) {
-                        // 일회성 알람: 울린 후 비활성화 (OFF) 처리
-                        val disabledAlarm = alarm.copy(isEnabled = false)
-                        alarmDao.updateAlarm(disabledAlarm)
-                        Log.d("AlarmReceiver", "One-time alarm disabled: $alarmId")
+                // 2. 미리 만들어 둔 브리핑이 있으면 바로 표시, 없거나 오래되었으면 날씨 브리핑 작업 요청
+                for (alarm in firedAlarms) {
+                    val prepared = weatherWorkOrchestrator.takePreparedBriefing(alarm.id, triggeredAt)
+                    if (prepared != null) {
+                        NotificationHelper.showNotification(
+                            context,
+                            AlarmBriefingComposer.TITLE,
+                            prepared.content,
+                            notificationId = AlarmBriefingComposer.notificationId(alarm.id)
+                        )
+                        weatherWorkOrchestrator.recordDelivery(alarm.id, triggeredAt, prefetched = true)
                     } else {
-                        // 반복 알람: 다음 알람 스케줄링
-                        AlarmScheduler.schedule(context, alarm)
-                        Log.d("AlarmReceiver", "Rescheduled next alarm for repeating alarm: $alarmId")
+                        weatherWorkOrchestrator.enqueueAlarmBriefing(alarm.id, triggeredAt)
                     }
                 }
             } catch (e: Exception) {
-                Log.e("AlarmReceiver", "Error rescheduling alarm: $alarmId", e)
+                Log.e("AlarmReceiver", "Error handling alarm: $alarmId", e)
             } finally {
                 pendingResult.finish()
             }
@@ -5,24 +5,23 @@ import android.content.Context
 import android.content.Intent
 import android.util.Log
 import com.example.weatherproject.di.AlarmReceiverEntryPoint
-import com.example.weatherproject.util.AlarmScheduler
-import com.example.weatherproject.util.SmartAlertScheduler
 import dagger.hilt.android.EntryPointAccessors
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.launch
 
 /**
- * 기기 재부팅 완료 시(`BOOT_COMPLETED`) 호출되는 브로드캐스트 리시버입니다.
+ * 기기 재부팅 완료 시(`BOOT_COMPLETED`)와 앱 업데이트 후(`MY_PACKAGE_REPLACED`) 호출되는 브로드캐스트 리시버입니다.
  *
  * 역할:
  * - 안드로이드 시스템은 재부팅 시 등록된 알람(AlarmManager)을 모두 초기화합니다.
- * - 이 리시버는 DB에 저장된 알람 목록을 읽어와서, 활성화된 알람들을 다시 예약(Reschedule)하는 역할을 합니다.
+ * - 앱 업데이트 후에는 DB 마이그레이션으로 바뀐 알람 타임라인을 등록해야 합니다.
+ * - 이 리시버는 알람 타임라인의 다음 울릴 시각을 다시 계산하고, 가장 이른 알람을 다시 예약(Reschedule)하는 역할을 합니다.
  */
 class BootReceiver : BroadcastReceiver() {
     override fun onReceive(context: Context, intent: Intent) {
-        if (intent.action == Intent.ACTION_BOOT_COMPLETED) {
-            Log.d("BootReceiver", "Device booted. Rescheduling alarms...")
+        if (intent.action == Intent.ACTION_BOOT_COMPLETED || intent.action == Intent.ACTION_MY_PACKAGE_REPLACED) {
+            Log.d("BootReceiver", "${intent.action} received. Rescheduling alarms...")
 
             val pendingResult = goAsync()
             val scope = CoroutineScope(Dispatchers.IO)
@@ -33,15 +32,7 @@ class BootReceiver : BroadcastReceiver() {
                         context.applicationContext,
                         AlarmReceiverEntryPoint::class.java
                     )
-                    val alarmDao = hiltEntryPoint.alarmDao()
-                    val alarms = alarmDao.getAllAlarmsSnapshot()
-
-                    for (alarm in alarms) {
-                        if (alarm.isEnabled) {
-                            AlarmScheduler.schedule(context, alarm)
-                            Log.d("BootReceiver", "Rescheduled alarm: ${alarm.id}")
-                        }
-                    }
+                    hiltEntryPoint.alarmTimeline().rebuild()
                 } catch (e: Exception) {
                     Log.e("BootReceiver", "Error rescheduling alarms", e)
                 } finally {
@@ -46,6 +46,7 @@ import androidx.lifecycle.viewmodel.compose.viewModel
 import androidx.hilt.navigation.compose.hiltViewModel
 import androidx.navigation.NavController
 import com.example.weatherproject.data.local.AlarmEntity
+import com.example.weatherproject.util.AlarmDays
 import java.text.SimpleDateFormat
 import java.util.Calendar
 import java.util.Date
@@ -371,7 +372,7 @@ fun AlarmCard(alarm: AlarmEntity, onToggle: () -> Unit, onClick: () -> Unit, isE
                      val sdf = SimpleDateFormat("yyyy/MM/dd", Locale.getDefault())
                      sdf.format(Date(alarm.selectedDate))
                 } else {
-                    if (alarm.days.isEmpty()) "반복 없음" else alarm.days.joinToString(" ")
+                    if (alarm.dayMask == AlarmDays.NONE) "반복 없음" else AlarmDays.toLabels(alarm.dayMask).joinToString(" ")
                 }
                 
                 Text(text = infoText, fontSize = 14.sp, color = Color.White.copy(alpha = 0.7f * alpha))
@@ -418,7 +419,7 @@ fun AlarmEditScreen(
                 else { hourInput = alarm.hour.toString(); isAm = true }
                 minuteInput = "%02d".format(alarm.minute)
                 if (alarm.selectedDate != null) { isRepeatingMode = false; selectedDateMillis = alarm.selectedDate }
-                else { isRepeatingMode = true; selectedDays.clear(); selectedDays.addAll(alarm.days) }
+                else { isRepeatingMode = true; selectedDays.clear(); selectedDays.addAll(AlarmDays.toLabels(alarm.dayMask)) }
             }
         }
     }
@@ -4,15 +4,23 @@ import android.location.Location
 import android.util.Log
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
+import com.example.weatherproject.data.DataFreshness
 import com.example.weatherproject.data.WeatherState
 import com.example.weatherproject.data.repository.WeatherRepository
+import com.example.weatherproject.network.CircuitOpenException
+import com.example.weatherproject.util.GridRefreshGate
+import com.example.weatherproject.util.GridRefreshStats
+import com.example.weatherproject.util.LatestRequestLauncher
+import com.example.weatherproject.util.LocationFixStats
 import com.example.weatherproject.util.LocationProvider
 import com.example.weatherproject.util.PreferenceManager
 import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asSharedFlow
 import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.catch
 import kotlinx.coroutines.launch
 import javax.inject.Inject
 
@@ -38,6 +46,16 @@ class MainViewModel @Inject constructor(
 
     private val _isFollowingGps = MutableStateFlow(true)
 
+    // 진행 중인 날씨 요청 (마지막 요청의 결과만 반영)
+    private val weatherRequests = LatestRequestLauncher(viewModelScope)
+
+    // 새로고침으로 요청한 GPS 위치를 받으면 캐시된 응답 대신 서버에 다시 요청
+    @Volatile
+    private var forceRefreshOnNextLocation = false
+
+    // GPS 업데이트 중 실제로 날씨 갱신이 필요한 것만 통과시키는 게이트
+    private val gridRefreshGate = GridRefreshGate()
+
     private val _uiState = MutableStateFlow(WeatherState())
     val uiState: StateFlow<WeatherState> = _uiState.asStateFlow()
 
@@ -75,7 +93,13 @@ class MainViewModel @Inject constructor(
                 if (_isFollowingGps.value) {
                     location?.let {
                         _uiState.value = _uiState.value.copy(latitude = it.latitude, longitude = it.longitude)
-                        fetchWeatherFromServer(it.latitude, it.longitude)
+                        // 격자가 바뀌었거나 데이터가 오래되었을 때만 갱신
+                        if (gridRefreshGate.onLocationUpdate(it.latitude, it.longitude)) {
+                            val forceRefresh = forceRefreshOnNextLocation
+                            forceRefreshOnNextLocation = false
+                            // collect 안에서 기다리지 않으므로 느린 요청이 다음 위치 업데이트를 막지 않음
+                            requestWeather(it.latitude, it.longitude, forceRefresh)
+                        }
                     }
                 }
             }
@@ -89,11 +113,15 @@ class MainViewModel @Inject constructor(
         }
     }
 
+    /**
+     * 앱 시작 직후 위치를 받기 전까지 마지막 캐시를 보여줍니다.
+     * 이미 다른 데이터가 화면에 반영된 뒤라면 덮어쓰지 않습니다.
+     */
     private fun loadCachedWeather() {
         viewModelScope.launch {
-            val cachedWeather = weatherRepository.getCachedWeather()
-            if (cachedWeather != null) {
-                _uiState.value = cachedWeather.copy(isLoading = false)
+            val cachedWeather = weatherRepository.getLastCachedWeather()
+            if (cachedWeather != null && _uiState.value.freshness == DataFreshness.NONE) {
+                _uiState.value = cachedWeather.copy(isLoading = false, freshness = DataFreshness.CACHED)
                 preferenceManager.saveWeatherState(cachedWeather)
             }
         }
@@ -113,11 +141,9 @@ class MainViewModel @Inject constructor(
         _showSetupDialog.value = false
         _showTempAdjustmentDialog.value = false
 
-        viewModelScope.launch {
-            uiState.value.latitude?.let { lat ->
-                uiState.value.longitude?.let { lon ->
-                    fetchWeatherFromServer(lat, lon)
-                }
+        uiState.value.latitude?.let { lat ->
+            uiState.value.longitude?.let { lon ->
+                requestWeather(lat, lon)
             }
         }
     }
@@ -137,6 +163,16 @@ class MainViewModel @Inject constructor(
         )
     }
 
+    /**
+     * GPS 위치 업데이트 수 대비 실제 날씨 갱신 수를 반환합니다.
+     */
+    fun getLocationRefreshStats(): GridRefreshStats = gridRefreshGate.stats()
+
+    /**
+     * 위치 요청 단계(정확도)별로 받은 위치 수를 반환합니다.
+     */
+    fun getLocationFixStats(): LocationFixStats = locationProvider.getFixStats()
+
     fun hasLocationPermission(): Boolean = locationProvider.hasLocationPermission()
     fun getCurrentLocationOnce() = locationProvider.getCurrentLocationOnce()
     fun startLocationTracking() = locationProvider.startLocationTracking()
@@ -144,36 +180,66 @@ class MainViewModel @Inject constructor(
 
 
     /**
-     * 서버로부터 날씨 데이터를 비동기로 요청하고 UI 상태를 업데이트합니다.
-     * 성공 시 데이터를 로컬 DB 및 Preference에 캐싱하며, 실패 시 에러 상태를 UI에 전달합니다.
+     * 날씨 요청을 시작합니다. (latest-wins)
+     * 진행 중인 이전 요청은 취소되며, 취소가 늦게 반영되더라도 이전 요청의 결과는 UI에 반영되지 않습니다.
+     * @param forceRefresh true면 다음 발표 시각 전이라도 서버에 다시 요청 (사용자가 직접 새로고침한 경우)
+     * @return 요청 Job. 새로고침 표시처럼 완료를 기다려야 하는 곳에서 join()합니다.
+     */
+    private fun requestWeather(lat: Double, lon: Double, forceRefresh: Boolean = false): Job {
+        return weatherRequests.launch { isLatest ->
+            fetchWeatherFromServer(lat, lon, isLatest, forceRefresh)
+        }
+    }
+
+    /**
+     * 날씨 데이터 스트림(observeWeather)을 구독하여 UI 상태를 업데이트합니다.
+     * 캐시가 있으면 먼저 반영하고, 서버 결과가 오면 교체합니다.
+     * 서버 요청이 실패하면, 보여줄 데이터가 있을 땐 STALE로 표시하고 없을 땐 에러 상태를 UI에 전달합니다.
+     * isLatest()가 false면(더 새로운 요청이 시작되었으면) 아무것도 반영하지 않습니다.
      */
-    private suspend fun fetchWeatherFromServer(lat: Double, lon: Double) {
-        weatherRepository.getWeatherData(lat, lon, _tempAdjustment.value)
-            .onSuccess { newWeatherState ->
+    private suspend fun fetchWeatherFromServer(lat: Double, lon: Double, isLatest: () -> Boolean, forceRefresh: Boolean) {
+        weatherRepository.observeWeather(lat, lon, _tempAdjustment.value, forceRefresh)
+            .catch { error ->
+                if (!isLatest()) return@catch
+                Log.e(TAG, "getWeatherData 실패: ${error.message}", error)
+                val errorMessage = when (error) {
+                    is CircuitOpenException -> "서버 상태가 불안정합니다.\n잠시 후 다시 시도해주세요."
+                    is java.net.UnknownHostException -> "네트워크 연결을 확인해주세요."
+                    is java.net.SocketTimeoutException -> "서버 응답이 지연되고 있습니다.\n잠시 후 다시 시도해주세요."
+                    else -> "날씨 정보를 가져올 수 없습니다.\n잠시 후 다시 시도해주세요."
+                }
+                val current = _uiState.value
+                _uiState.value = if (current.freshness != DataFreshness.NONE) {
+                    // 보여줄 데이터가 있으면 유지하고 오래된 데이터임을 표시
+                    _errorEvent.emit(errorMessage)
+                    current.copy(isLoading = false, freshness = DataFreshness.STALE)
+                } else {
+                    current.copy(isLoading = false, error = errorMessage)
+                }
+            }
+            .collect { newWeatherState ->
+                if (!isLatest()) return@collect
+                // 같은 위치의 최신 데이터가 이미 화면에 있으면 캐시로 되돌리지 않음
+                if (newWeatherState.freshness == DataFreshness.CACHED &&
+                    _uiState.value.freshness == DataFreshness.FRESH &&
+                    _uiState.value.latitude == lat && _uiState.value.longitude == lon
+                ) {
+                    return@collect
+                }
                 val updatedState = _uiState.value.copy(
                     isLoading = newWeatherState.isLoading,
                     currentWeather = newWeatherState.currentWeather,
                     weatherDetails = newWeatherState.weatherDetails,
                     hourlyForecast = newWeatherState.hourlyForecast,
                     weeklyForecast = newWeatherState.weeklyForecast,
-                    lastUpdated = newWeatherState.lastUpdated,
+                    lastUpdatedAt = newWeatherState.lastUpdatedAt,
+                    freshness = newWeatherState.freshness,
+                    circuitState = newWeatherState.circuitState,
                     error = null
                 )
                 _uiState.value = updatedState
                 preferenceManager.saveWeatherState(updatedState)
             }
-            .onFailure { error ->
-                Log.e(TAG, "getWeatherData 실패: ${error.message}", error)
-                val errorMessage = when (error) {
-                    is java.net.UnknownHostException -> "네트워크 연결을 확인해주세요."
-                    is java.net.SocketTimeoutException -> "서버 응답이 지연되고 있습니다.\n잠시 후 다시 시도해주세요."
-                    else -> "날씨 정보를 가져올 수 없습니다.\n잠시 후 다시 시도해주세요."
-                }
-                _uiState.value = _uiState.value.copy(
-                    isLoading = false,
-                    error = errorMessage
-                )
-            }
     }
 
     fun refreshData() {
@@ -183,11 +249,14 @@ class MainViewModel @Inject constructor(
             val startTime = System.currentTimeMillis()
             try {
                 if (_isFollowingGps.value) {
+                    // 사용자가 직접 새로고침한 경우 같은 격자여도, 다음 발표 시각 전이어도 갱신
+                    gridRefreshGate.reset()
+                    forceRefreshOnNextLocation = true
                     getCurrentLocationOnce()
                 } else {
                     uiState.value.latitude?.let { lat ->
                         uiState.value.longitude?.let { lon ->
-                            fetchWeatherFromServer(lat, lon)
+                            requestWeather(lat, lon, forceRefresh = true).join()
                         }
                     }
                 }
@@ -220,7 +289,7 @@ class MainViewModel @Inject constructor(
                 getCurrentLocationOnce()
 
                 currentLocation.value?.let { loc ->
-                    fetchWeatherFromServer(loc.latitude, loc.longitude)
+                    requestWeather(loc.latitude, loc.longitude).join()
                 }
                 
                 val currentAddr = locationProvider.address.value
@@ -245,13 +314,15 @@ class MainViewModel @Inject constructor(
         viewModelScope.launch {
             _isFollowingGps.value = false
             stopLocationTracking()
+            // GPS 모드로 돌아오면 첫 위치에서 바로 갱신되도록 초기화
+            gridRefreshGate.reset()
 
             _isRefreshing.value = true
             _uiState.value = _uiState.value.copy(address = city, latitude = lat, longitude = lon)
-            
+
             val startTime = System.currentTimeMillis()
             try {
-                fetchWeatherFromServer(lat, lon)
+                requestWeather(lat, lon).join()
             } finally {
                 val elapsedTime = System.currentTimeMillis() - startTime
                 if (elapsedTime < 1000) {
@@ -2,40 +2,59 @@ package com.example.weatherproject.ui
 
 import android.app.Application
 import android.content.Context
-import android.location.Address
-import android.location.Geocoder
 import android.util.Log
 import androidx.lifecycle.AndroidViewModel
 import androidx.lifecycle.viewModelScope
+import com.example.weatherproject.util.GeocodeResult
+import com.example.weatherproject.util.GeocodingCache
+import com.example.weatherproject.util.LatestRequestLauncher
+import com.example.weatherproject.util.RegionGazetteer
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.asStateFlow
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.withContext
-import java.util.Locale
+import javax.inject.Inject
 
-class SearchViewModel(application: Application) : AndroidViewModel(application) {
-
-    private val context = application.applicationContext
+@HiltViewModel
+class SearchViewModel @Inject constructor(
+    application: Application,
+    private val geocodingCache: GeocodingCache,
+    private val regionGazetteer: RegionGazetteer
+) : AndroidViewModel(application) {
 
     // 검색 결과 리스트 (주소 문자열)
     private val _searchResults = MutableStateFlow<List<String>>(emptyList())
     val searchResults = _searchResults.asStateFlow()
 
-    // 검색된 주소 객체들을 저장해둠 (나중에 클릭 시 좌표 꺼내쓰려고)
-    private var _addressList = listOf<Address>()
+    // 검색된 주소 객체들을 저장해둠 (나중에 클릭 시 좌표 꺼내쓰려고). 메인 스레드에서만 바꿈
+    private var _addressList = listOf<GeocodeResult>()
 
     // 사용자가 입력 중인 검색어
     private val _searchText = MutableStateFlow("")
     val searchText = _searchText.asStateFlow()
 
-    // 검색어가 바뀔 때 (UI 업데이트용)
+    // 진행 중인 검색 (새 검색이 시작되면 취소하고, 마지막 검색의 결과만 반영)
+    private val searches = LatestRequestLauncher(viewModelScope)
+
+    init {
+        viewModelScope.launch(Dispatchers.IO) { regionGazetteer.preload() }
+    }
+
+    // 검색어가 바뀔 때 (UI 업데이트 + 입력하는 동안 오프라인 지역 검색)
     fun onSearchTextChange(text: String) {
         _searchText.value = text
-        // 글자가 다 지워지면 결과창도 닫기
-        if (text.isEmpty()) {
-            _searchResults.value = emptyList()
-            _addressList = emptyList()
+        searches.launch { isLatest ->
+            // 글자가 다 지워지면 결과창도 닫기
+            if (text.isBlank()) {
+                showResults(emptyList())
+                return@launch
+            }
+            // 입력 중에는 오프라인 색인만 사용하고, 없으면 엔터를 눌렀을 때 Geocoder로 검색
+            val addresses = withContext(Dispatchers.Default) { searchRegions(text) }
+            if (isLatest()) showResults(addresses)
         }
     }
 
@@ -44,46 +63,47 @@ class SearchViewModel(application: Application) : AndroidViewModel(application)
         val query = _searchText.value
         if (query.isBlank()) return
 
-        viewModelScope.launch(Dispatchers.IO) {
+        searches.launch { isLatest ->
             try {
-                if (!Geocoder.isPresent()) {
-                    Log.e("SearchViewModel", "Geocoder not available")
-                    return@launch
+                // 오프라인 색인에 없을 때만 Geocoder 사용 (최대 5개, 같은 검색어는 저장된 결과 사용)
+                val addresses = withContext(Dispatchers.IO) {
+                    searchRegions(query).ifEmpty { geocodingCache.search(query, 5) }
                 }
+                // 취소를 늦게 알아챈 이전 검색(오프라인 색인/Geocoder)이 새 검색 결과를 덮어쓰지 않도록 함
+                if (!isLatest()) return@launch
 
-                val geocoder = Geocoder(context, Locale.KOREA)
-                // 최대 5개 결과 검색
-                val addresses = geocoder.getFromLocationName(query, 5)
-
-                if (addresses != null && addresses.isNotEmpty()) {
-                    _addressList = addresses
-                    // UI에 보여줄 주소 문자열 리스트 만들기
-                    val addressStrings = addresses.map { address ->
-                        // 전체 주소 문자열 (예: "대한민국 서울특별시 강남구 역삼동")
-                        address.getAddressLine(0).replace("대한민국 ", "") // "대한민국"은 굳이 안 보여줘도 됨
-                    }
-                    _searchResults.value = addressStrings
+                if (addresses.isNotEmpty()) {
+                    showResults(addresses)
                 } else {
                     // 검색 결과 없음
                     _searchResults.value = listOf("검색 결과가 없습니다.")
                     _addressList = emptyList()
                 }
+            } catch (e: CancellationException) {
+                throw e
             } catch (e: Exception) {
                 e.printStackTrace()
-                _searchResults.value = listOf("검색 중 오류가 발생했습니다.")
+                if (isLatest()) _searchResults.value = listOf("검색 중 오류가 발생했습니다.")
             }
         }
     }
 
+    private fun searchRegions(query: String): List<GeocodeResult> =
+        regionGazetteer.search(query).map { GeocodeResult(it.fullName, it.latitude, it.longitude) }
+
+    private fun showResults(addresses: List<GeocodeResult>) {
+        _addressList = addresses
+        // UI에 보여줄 주소 문자열 리스트 만들기
+        _searchResults.value = addresses.map { it.address }
+    }
+
     // 도시를 클릭했을 때 호출
     fun onCitySelected(context: Context, selectedAddressString: String, onCoordinatesFound: (Double, Double) -> Unit) {
         // 검색 실패 메시지를 클릭한 경우는 무시
         if (_addressList.isEmpty()) return
 
-        // 클릭한 주소 문자열과 일치하는 Address 객체 찾기
-        val selectedAddress = _addressList.find { 
-            it.getAddressLine(0).replace("대한민국 ", "") == selectedAddressString 
-        }
+        // 클릭한 주소 문자열과 일치하는 검색 결과 찾기
+        val selectedAddress = _addressList.find { it.address == selectedAddressString }
 
         if (selectedAddress != null) {
             val lat = selectedAddress.latitude
@@ -100,9 +120,13 @@ class SearchViewModel(application: Application) : AndroidViewModel(application)
         } else {
             // 혹시 매칭 안 되면 다시 Geocoding 시도 (안전장치)
             viewModelScope.launch(Dispatchers.IO) {
-                val geocoder = Geocoder(context, Locale.KOREA)
-                val addresses = geocoder.getFromLocationName(selectedAddressString, 1)
-                if (!addresses.isNullOrEmpty()) {
+                val addresses = try {
+                    geocodingCache.search(selectedAddressString, 1)
+                } catch (e: Exception) {
+                    Log.e("SearchViewModel", "Geocoding failed for $selectedAddressString", e)
+                    emptyList()
+                }
+                if (addresses.isNotEmpty()) {
                     val addr = addresses[0]
                     withContext(Dispatchers.Main) {
                         onCoordinatesFound(addr.latitude, addr.longitude)
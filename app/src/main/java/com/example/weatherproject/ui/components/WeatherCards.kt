@@ -24,6 +24,7 @@ import androidx.compose.material.icons.filled.LocationOn
 import androidx.compose.material.icons.filled.Settings
 import androidx.compose.runtime.Composable
 import androidx.compose.runtime.getValue
+import androidx.compose.runtime.remember
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.draw.clip
@@ -43,6 +44,7 @@ import com.example.weatherproject.data.WeatherDetails
 import com.example.weatherproject.data.WeeklyForecast
 import com.example.weatherproject.util.ClothingRecommender
 import com.example.weatherproject.util.PmStatusHelper
+import com.example.weatherproject.util.WeatherFormatter
 import com.example.weatherproject.util.WeatherSummarizer
 
 // 1. 현재 날씨 카드 (확장 가능)
@@ -96,29 +98,29 @@ fun CurrentWeatherCard(
             // 기본 정보: 아이콘 + 온도
             Row(verticalAlignment = Alignment.CenterVertically) {
                 AsyncImage(
-                    model = weather.iconUrl,
-                    contentDescription = weather.description,
+                    model = WeatherFormatter.iconUrl(weather),
+                    contentDescription = WeatherFormatter.description(weather),
                     modifier = Modifier.size(80.dp),
                     placeholder = painterResource(id = R.drawable.ic_launcher_foreground)
                 )
                 Column(modifier = Modifier.padding(start = 16.dp)) {
                     Text(
-                        text = weather.temperature,
+                        text = WeatherFormatter.temperature(weather.temperature),
                         fontSize = 48.sp,
                         color = Color.White,
                         fontWeight = FontWeight.Bold
                     )
                     Text(
-                        text = weather.description, 
+                        text = WeatherFormatter.description(weather),
                         fontSize = 16.sp, 
                         color = Color.White
                     )
                     Text(
-                        text = "최고: ${weather.maxTemp} / 최저: ${weather.minTemp}", 
+                        text = "최고: ${WeatherFormatter.temperature(weather.maxTemp)} / 최저: ${WeatherFormatter.temperature(weather.minTemp)}",
                         fontSize = 16.sp, 
                         color = Color.White
                     )
-                    Text(text = "체감 ${weather.feelsLike}", fontSize = 14.sp, color = Color.White.copy(alpha = 0.8f))
+                    Text(text = "체감 ${WeatherFormatter.temperature(weather.feelsLike)}", fontSize = 14.sp, color = Color.White.copy(alpha = 0.8f))
                 }
             }
 
@@ -247,23 +249,38 @@ fun HourlyForecastCard(
 fun WeatherDetailContent(details: WeatherDetails) {
     Column {
         // 1. 강수량
-        WeatherContextItem(label = "강수량", value = details.precipitation, icon = "☔") { rawValue ->
+        WeatherContextItem(
+            label = "강수량",
+            value = WeatherFormatter.precipitation(details.precipitation),
+            rawValue = details.precipitation ?: 0.0,
+            icon = "☔"
+        ) { rawValue ->
             if (rawValue > 0) "우산을 챙기세요" else "비 소식 없음"
         }
         Divider(color = Color.White.copy(alpha = 0.2f), modifier = Modifier.padding(vertical = 12.dp))
 
         // 2. 습도
-        WeatherContextItem(label = "습도", value = details.humidity, icon = "💧") { rawValue ->
+        WeatherContextItem(
+            label = "습도",
+            value = WeatherFormatter.humidity(details.humidity),
+            rawValue = details.humidity ?: 0.0,
+            icon = "💧"
+        ) { rawValue ->
             when {
                 rawValue < 40 -> "건조함"
-                rawValue in 40..59 -> "쾌적함"
+                rawValue < 60 -> "쾌적함"
                 else -> "습함"
             }
         }
         Divider(color = Color.White.copy(alpha = 0.2f), modifier = Modifier.padding(vertical = 12.dp))
 
         // 3. 풍속
-        WeatherContextItem(label = "풍속", value = details.wind, icon = "🌬️") { rawValue ->
+        WeatherContextItem(
+            label = "풍속",
+            value = WeatherFormatter.windSpeed(details.windSpeed),
+            rawValue = details.windSpeed ?: 0.0,
+            icon = "🌬️"
+        ) { rawValue ->
             when {
                 rawValue < 5 -> "바람 거의 없음"
                 rawValue < 15 -> "산들바람"
@@ -364,8 +381,7 @@ fun WeeklyForecastCard(weeklyForecasts: List<WeeklyForecast>) {
 }
 
 @Composable
-fun WeatherContextItem(label: String, value: String, icon: String, interpret: (Int) -> String) {
-    val rawValue = value.replace(Regex("[^0-9]"), "").toIntOrNull() ?: 0
+fun WeatherContextItem(label: String, value: String, rawValue: Double, icon: String, interpret: (Double) -> String) {
     val description = interpret(rawValue)
     Row(modifier = Modifier.fillMaxWidth(), verticalAlignment = Alignment.CenterVertically, horizontalArrangement = Arrangement.SpaceBetween) {
         Row(verticalAlignment = Alignment.CenterVertically) {
@@ -560,12 +576,13 @@ fun ClothingRecommendationCard(
     currentWeather: CurrentWeather,
     weatherDetails: WeatherDetails,
     hourlyForecast: List<HourlyForecast>,
-    feelsLike: String,
+    feelsLike: Double?,
     tempAdjustment: Int,
-    yesterdayComparisonText: String?, // 파라미터 추가
+    yesterdayTempDiff: Int?, // 어제 대비 기온 차이
     onSettingsClick: () -> Unit
 ) {
-    val rawFeelsLike = feelsLike.replace(Regex("[^0-9-]"), "").toIntOrNull() ?: 20
+    val rawFeelsLike = feelsLike?.toInt() ?: 20
+    val yesterdayComparisonText = WeatherFormatter.yesterdayComparison(yesterdayTempDiff)
     val adjustedFeelsLike = rawFeelsLike + tempAdjustment
     val itemIds = ClothingRecommender.getRecommendation(adjustedFeelsLike)
     val summaryText = WeatherSummarizer.getSummary(currentWeather, weatherDetails, hourlyForecast)
@@ -620,7 +637,7 @@ fun ClothingRecommendationCard(
             }
             
             Spacer(modifier = Modifier.height(12.dp))
-            Text(text = "체감 온도: $feelsLike (보정: ${if(tempAdjustment > 0) "+" else ""}$tempAdjustment)", fontSize = 14.sp, color = Color.White.copy(alpha = 0.8f))
+            Text(text = "체감 온도: ${WeatherFormatter.temperature(feelsLike)} (보정: ${if(tempAdjustment > 0) "+" else ""}$tempAdjustment)", fontSize = 14.sp, color = Color.White.copy(alpha = 0.8f))
         }
     }
 }
@@ -641,9 +658,12 @@ fun ClothingItemChip(textResId: Int) {
 @Composable
 fun HourlyForecastItem(forecast: HourlyForecast) {
     Column(horizontalAlignment = Alignment.CenterHorizontally, verticalArrangement = Arrangement.spacedBy(8.dp)) {
-        Text(text = forecast.time, fontSize = 14.sp, color = Color.White)
-        AsyncImage(model = forecast.iconUrl, contentDescription = null, modifier = Modifier.size(40.dp), placeholder = painterResource(id = R.drawable.ic_launcher_foreground))
-        Text(text = forecast.temperature, fontSize = 16.sp, color = Color.White, fontWeight = FontWeight.Bold)
+        Text(text = WeatherFormatter.hourTime(forecast.time), fontSize = 14.sp, color = Color.White)
+        AsyncImage(model = WeatherFormatter.iconUrl(forecast.sky, forecast.precipitationType), contentDescription = null, modifier = Modifier.size(40.dp), placeholder = painterResource(id = R.drawable.ic_launcher_foreground))
+        Text(text = WeatherFormatter.temperature(forecast.temperature), fontSize = 16.sp, color = Color.White, fontWeight = FontWeight.Bold)
+        if (forecast.feelsLike != null) {
+            Text(text = "체감 ${WeatherFormatter.temperature(forecast.feelsLike)}", fontSize = 12.sp, color = Color.White.copy(alpha = 0.8f))
+        }
     }
 }
 
@@ -657,7 +677,7 @@ fun WeeklyForecastItem(forecast: WeeklyForecast) {
     ) {
         // Day
         Text(
-            text = forecast.day,
+            text = remember(forecast.date) { WeatherFormatter.weekDay(forecast.date) },
             fontSize = 14.sp,
             color = Color.White,
             modifier = Modifier.weight(1.5f)
@@ -669,21 +689,21 @@ fun WeeklyForecastItem(forecast: WeeklyForecast) {
             horizontalArrangement = Arrangement.Center
         ) {
             AsyncImage(
-                model = forecast.iconAm,
-                contentDescription = forecast.skyAm,
+                model = WeatherFormatter.iconUrl(forecast.skyAm),
+                contentDescription = forecast.skyAm.label,
                 modifier = Modifier.size(32.dp)
             )
             Spacer(Modifier.width(16.dp))
             AsyncImage(
-                model = forecast.iconPm,
-                contentDescription = forecast.skyPm,
+                model = WeatherFormatter.iconUrl(forecast.skyPm),
+                contentDescription = forecast.skyPm.label,
                 modifier = Modifier.size(32.dp)
             )
         }
 
         // Temp
         Text(
-            text = "${forecast.minTemp} / ${forecast.maxTemp}",
+            text = "${WeatherFormatter.temperature(forecast.minTemp)} / ${WeatherFormatter.temperature(forecast.maxTemp)}",
             fontSize = 15.sp,
             color = Color.White,
             fontWeight = FontWeight.Bold,
@@ -26,7 +26,9 @@ import androidx.compose.ui.unit.dp
 import androidx.compose.ui.unit.sp
 import androidx.compose.ui.window.Dialog
 import androidx.navigation.NavController
+import com.example.weatherproject.data.DataFreshness
 import com.example.weatherproject.data.WeatherState
+import com.example.weatherproject.network.CircuitState
 import com.example.weatherproject.ui.CctvViewModel
 import com.example.weatherproject.ui.MainViewModel
 import com.example.weatherproject.ui.SearchViewModel
@@ -35,6 +37,7 @@ import com.example.weatherproject.ui.components.CurrentWeatherCard
 import com.example.weatherproject.ui.components.HourlyForecastCard
 import com.example.weatherproject.ui.components.NearbyCctvCard
 import com.example.weatherproject.ui.components.WeatherTopAppBar
+import com.example.weatherproject.util.WeatherFormatter
 import kotlin.math.roundToInt
 
 @OptIn(ExperimentalMaterialApi::class)
@@ -126,7 +129,7 @@ fun HomeScreen(
             // 날씨 정보 또는 로딩 화면
             AnimatedVisibility(visible = weatherState.error == null) {
                 Crossfade(
-                    targetState = weatherState.lastUpdated,
+                    targetState = weatherState.lastUpdatedAt,
                     animationSpec = tween(500),
                     label = "WeatherContentUpdate"
                 ) { _ ->
@@ -157,7 +160,7 @@ fun HomeScreen(
                             hourlyForecast = weatherState.hourlyForecast,
                             feelsLike = weatherState.currentWeather.feelsLike,
                             tempAdjustment = tempAdjustment,
-                            yesterdayComparisonText = weatherState.yesterdayComparisonText,
+                            yesterdayTempDiff = weatherState.yesterdayTempDiff,
                             onSettingsClick = { mainViewModel.openTempAdjustmentDialog() }
                         )
                         
@@ -186,8 +189,17 @@ fun HomeScreen(
                                 fontSize = 12.sp,
                                 color = Color.White.copy(alpha = 0.7f)
                             )
+                            val lastUpdated = WeatherFormatter.lastUpdated(weatherState.lastUpdatedAt)
                             Text(
-                                text = weatherState.lastUpdated,
+                                text = when {
+                                    weatherState.circuitState != CircuitState.CLOSED ->
+                                        "$lastUpdated (저장된 정보 표시 중)"
+                                    else -> when (weatherState.freshness) {
+                                        DataFreshness.CACHED -> "$lastUpdated (저장된 정보)"
+                                        DataFreshness.STALE -> "$lastUpdated (갱신 실패)"
+                                        else -> lastUpdated
+                                    }
+                                },
                                 fontSize = 12.sp,
                                 color = Color.White.copy(alpha = 0.7f)
                             )
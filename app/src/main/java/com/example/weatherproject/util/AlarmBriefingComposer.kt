@@ -0,0 +1,82 @@
+package com.example.weatherproject.util
+
+import android.content.Context
+import com.example.weatherproject.data.WeatherState
+
+/**
+ * 알람 전에 미리 만들어 둔 브리핑 알림 내용.
+ * @param preparedAt 내용을 만든 시각 (epoch millis)
+ */
+data class PreparedBriefing(
+    val content: String,
+    val preparedAt: Long
+)
+
+/**
+ * 알람 시각에 보여줄 날씨 브리핑 알림 내용을 만듭니다.
+ * 알람 직전 미리 받기(prefetch)와 알람 시각의 실시간 조회가 같은 내용을 만들도록 한 곳에 모아 둡니다.
+ */
+object AlarmBriefingComposer {
+
+    const val TITLE = "현재 날씨 브리핑"
+
+    private const val ALARM_NOTIFICATION_ID_BASE = 10_000
+
+    // 알람마다 따로 알림을 표시 (같은 알람의 이전 알림은 덮어씀)
+    fun notificationId(alarmId: Int): Int = ALARM_NOTIFICATION_ID_BASE + alarmId
+
+    /**
+     * 새 날씨를 받지 못했을 때의 브리핑. 마지막으로 받은 날씨가 있으면 그 내용에 안내 문구를 붙이고,
+     * 없으면 안내 문구만 돌려줍니다.
+     */
+    fun composeFallback(context: Context, lastKnown: WeatherState?): String {
+        if (lastKnown == null) return "날씨 정보를 가져오지 못했어요. 앱을 열어 확인해 주세요."
+        val updatedAt = WeatherFormatter.lastUpdated(lastKnown.lastUpdatedAt)
+        return "최신 날씨를 가져오지 못해 마지막으로 받은 날씨로 알려드려요. ($updatedAt)\n\n" + compose(context, lastKnown)
+    }
+
+    fun compose(context: Context, weatherState: WeatherState): String {
+        val weather = weatherState.currentWeather
+        val hourlyForecast = weatherState.hourlyForecast
+        val weatherDetails = weatherState.weatherDetails
+
+        // 옷차림 추천 가져오기
+        val clothingItemIds = ClothingRecommender.getRecommendation(weather.feelsLike?.toInt() ?: 20)
+        val clothingItems = clothingItemIds.map { context.getString(it) }
+        val clothingRecommendation = "추천 옷차림: " + clothingItems.joinToString(", ")
+
+        // 강수 예보 분석 (향후 3시간)
+        val threeHourForecast = hourlyForecast.take(3)
+        val willRain = threeHourForecast.any { it.precipitationType.isRain }
+        val willSnow = threeHourForecast.any { it.precipitationType.isSnow }
+
+        val rainText = when {
+            willRain && willSnow -> "• 3시간 내에 비 또는 눈 소식이 있어요. ☔❄️"
+            willRain -> "• 3시간 내에 비 소식이 있어요. 우산을 챙기세요 ☔"
+            willSnow -> "• 3시간 내에 눈 소식이 있어요. 미끄럼 주의하세요 ❄️"
+            else -> null
+        }
+
+        val pm10Status = PmStatusHelper.getStatus(weatherDetails.pm10)
+
+        val tempValue = WeatherFormatter.degrees(weather.temperature)
+        val feelsLikeValue = WeatherFormatter.degrees(weather.feelsLike)
+
+        val mainWeatherSummary = WeatherSummarizer.getSummary(weather, weatherDetails, hourlyForecast)
+
+        // 알림 내용 구성
+        return buildString {
+            // 1. 현재 날씨 팩트 정보 (기온, 상태, 체감)
+            append("날씨 : ${WeatherFormatter.description(weather)} 기온: ${tempValue}도(체감온도 : ${feelsLikeValue}도 ) 미세먼지 : $pm10Status\n\n")
+
+            // 2. 날씨 요약 (조언)
+            append("$mainWeatherSummary\n")
+
+            // 3. 강수 예보 (있을 경우만)
+            rainText?.let { append("$it\n") }
+
+            // 4. 옷차림 추천
+            append("\n$clothingRecommendation")
+        }
+    }
+}
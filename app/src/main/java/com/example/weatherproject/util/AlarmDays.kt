@@ -0,0 +1,46 @@
+package com.example.weatherproject.util
+
+import java.util.Calendar
+
+/**
+ * 알람 반복 요일 비트마스크.
+ * Calendar.DAY_OF_WEEK 값(일=1 … 토=7)에서 1을 뺀 위치의 비트가 그 요일입니다. (0이면 반복 요일 없음)
+ */
+object AlarmDays {
+
+    const val NONE = 0
+    const val EVERY_DAY = 0b111_1111
+
+    // 화면에 표시하는 요일 순서 (월요일부터)
+    private val DISPLAY_ORDER = intArrayOf(
+        Calendar.MONDAY, Calendar.TUESDAY, Calendar.WEDNESDAY, Calendar.THURSDAY,
+        Calendar.FRIDAY, Calendar.SATURDAY, Calendar.SUNDAY
+    )
+
+    // Calendar.DAY_OF_WEEK - 1 위치의 요일 이름
+    private val LABELS = arrayOf("일", "월", "화", "수", "목", "금", "토")
+
+    fun bit(dayOfWeek: Int): Int = 1 shl (dayOfWeek - Calendar.SUNDAY)
+
+    fun contains(mask: Int, dayOfWeek: Int): Boolean = mask and bit(dayOfWeek) != 0
+
+    fun label(dayOfWeek: Int): String = LABELS[dayOfWeek - Calendar.SUNDAY]
+
+    // 요일 이름 목록 ("월", "화" …) → 비트마스크. 모르는 이름은 무시합니다.
+    fun fromLabels(labels: Collection<String>): Int {
+        var mask = NONE
+        for (label in labels) {
+            val index = LABELS.indexOf(label)
+            if (index >= 0) mask = mask or (1 shl index)
+        }
+        return mask
+    }
+
+    // 비트마스크 → 월요일부터 정렬된 요일 이름 목록
+    fun toLabels(mask: Int): List<String> =
+        DISPLAY_ORDER.filter { contains(mask, it) }.map { label(it) }
+
+    // 주어진 시각(epoch millis)의 요일 (Calendar.DAY_OF_WEEK)
+    fun dayOfWeek(timeMillis: Long): Int =
+        Calendar.getInstance().apply { timeInMillis = timeMillis }.get(Calendar.DAY_OF_WEEK)
+}
@@ -8,108 +8,146 @@ import android.util.Log
 import com.example.weatherproject.data.local.AlarmEntity
 import com.example.weatherproject.receiver.AlarmReceiver
 import java.util.Calendar
+import java.util.Date
 
+/**
+ * AlarmManager 등록과 다음 울릴 시각 계산.
+ * 어떤 알람을 등록할지는 AlarmTimeline이 정하며, OS에는 가장 이른 알람 하나만 등록합니다.
+ */
 object AlarmScheduler {
 
-    fun schedule(context: Context, alarm: AlarmEntity) {
-        if (!alarm.isEnabled) return
+    // 알람 직전 날씨 미리 받기 (AlarmReceiver가 이 action이면 브리핑을 미리 만듦)
+    const val ACTION_PREFETCH = "com.example.weatherproject.action.ALARM_PREFETCH"
+    // 미리 만든 브리핑은 30분 안에 만든 것만 쓰므로(WeatherWorkOrchestrator) 그보다 짧아야 함
+    const val DEFAULT_PREFETCH_LEAD_MILLIS = 10 * 60 * 1000L
 
-        val alarmManager = context.getSystemService(Context.ALARM_SERVICE) as AlarmManager
-        val intent = Intent(context, AlarmReceiver::class.java).apply {
-            putExtra("ALARM_ID", alarm.id)
-        }
+    // 울릴 예정 시각. 같은 시각의 알람을 모두 처리하는 데 사용
+    const val EXTRA_TRIGGER_AT = "TRIGGER_AT"
 
-        val pendingIntent = PendingIntent.getBroadcast(
-            context,
-            alarm.id,
-            intent,
-            PendingIntent.FLAG_UPDATE_CURRENT or PendingIntent.FLAG_IMMUTABLE
-        )
+    // 등록하는 알람은 항상 하나이므로 고정된 requestCode 사용
+    private const val REQUEST_CODE_ALARM = 0
+    private const val REQUEST_CODE_PREFETCH = 1
 
-        val nextTriggerTime = getNextTriggerTimeMillis(alarm)
-        
-        // 스케줄링이 불가능한 경우 (예: 과거의 일회성 알람)
-        if (nextTriggerTime < System.currentTimeMillis()) {
-            Log.w("AlarmScheduler", "Skipping past or invalid alarm: ${alarm.id} at ${Calendar.getInstance().apply { timeInMillis = nextTriggerTime }.time}")
-            return
-        }
+    /**
+     * 다음 알람과, 알람 prefetchLeadMillis 전에 브리핑을 미리 만들어 두는 예약을 등록합니다.
+     * 이전에 등록한 알람은 같은 PendingIntent이므로 덮어씁니다.
+     */
+    fun schedule(context: Context, alarmId: Int, triggerAt: Long, prefetchLeadMillis: Long) {
+        val alarmManager = context.getSystemService(Context.ALARM_SERVICE) as AlarmManager
 
         try {
-            // 기존에 설정된 알람이 있다면 취소하고 새로 설정
-            alarmManager.cancel(pendingIntent)
             alarmManager.setExactAndAllowWhileIdle(
                 AlarmManager.RTC_WAKEUP,
-                nextTriggerTime,
-                pendingIntent
+                triggerAt,
+                alarmPendingIntent(context, alarmId, triggerAt)
             )
-            Log.d("AlarmScheduler", "Alarm ${alarm.id} scheduled for ${Calendar.getInstance().apply { timeInMillis = nextTriggerTime }.time}")
+            Log.d("AlarmScheduler", "Alarm $alarmId scheduled for ${Date(triggerAt)}")
         } catch (e: SecurityException) {
             Log.e("AlarmScheduler", "Failed to schedule alarm due to security exception.", e)
         }
+
+        schedulePrefetch(context, alarmManager, alarmId, triggerAt, triggerAt - prefetchLeadMillis)
     }
 
-    private fun getNextTriggerTimeMillis(alarm: AlarmEntity): Long {
-        val now = Calendar.getInstance()
+    /**
+     * 브리핑 미리 만들기 예약. 정확한 시각일 필요는 없으므로 부정확 알람을 사용하며,
+     * 늦어지거나 실행되지 못하면 알람 시각에 실시간으로 조회합니다.
+     */
+    private fun schedulePrefetch(context: Context, alarmManager: AlarmManager, alarmId: Int, triggerAt: Long, prefetchTime: Long) {
+        val pendingIntent = prefetchPendingIntent(context, alarmId, triggerAt)
+        alarmManager.cancel(pendingIntent)
+
+        // 알람까지 남은 시간이 미리 받기 간격보다 짧으면 알람 시각에 바로 조회
+        if (prefetchTime <= System.currentTimeMillis()) return
 
-        // 1. 일회성 알람 처리
-        if (alarm.selectedDate != null) {
-            return Calendar.getInstance().apply {
-                timeInMillis = alarm.selectedDate
-                set(Calendar.HOUR_OF_DAY, alarm.hour)
-                set(Calendar.MINUTE, alarm.minute)
-                set(Calendar.SECOND, 0)
-                set(Calendar.MILLISECOND, 0)
-            }.timeInMillis
+        alarmManager.setAndAllowWhileIdle(AlarmManager.RTC_WAKEUP, prefetchTime, pendingIntent)
+    }
+
+    private fun alarmPendingIntent(context: Context, alarmId: Int, triggerAt: Long): PendingIntent {
+        val intent = Intent(context, AlarmReceiver::class.java).apply {
+            putExtra("ALARM_ID", alarmId)
+            putExtra(EXTRA_TRIGGER_AT, triggerAt)
+        }
+        return PendingIntent.getBroadcast(
+            context,
+            REQUEST_CODE_ALARM,
+            intent,
+            PendingIntent.FLAG_UPDATE_CURRENT or PendingIntent.FLAG_IMMUTABLE
+        )
+    }
+
+    private fun prefetchPendingIntent(context: Context, alarmId: Int, triggerAt: Long): PendingIntent {
+        val intent = Intent(context, AlarmReceiver::class.java).apply {
+            action = ACTION_PREFETCH
+            putExtra("ALARM_ID", alarmId)
+            putExtra(EXTRA_TRIGGER_AT, triggerAt)
         }
+        return PendingIntent.getBroadcast(
+            context,
+            REQUEST_CODE_PREFETCH,
+            intent,
+            PendingIntent.FLAG_UPDATE_CURRENT or PendingIntent.FLAG_IMMUTABLE
+        )
+    }
+
+    /**
+     * now 이후 처음 울릴 시각. 꺼져 있거나 이미 지난 일회성 알람이면 null.
+     * 요일 반복이 없고 날짜도 없으면 매일 울리는 알람으로 봅니다.
+     */
+    fun getNextTriggerTimeMillis(alarm: AlarmEntity, now: Long = System.currentTimeMillis()): Long? {
+        if (!alarm.isEnabled) return null
 
-        val alarmTimeToday = Calendar.getInstance().apply{
+        val calendar = Calendar.getInstance().apply {
+            timeInMillis = alarm.selectedDate ?: now
             set(Calendar.HOUR_OF_DAY, alarm.hour)
             set(Calendar.MINUTE, alarm.minute)
             set(Calendar.SECOND, 0)
             set(Calendar.MILLISECOND, 0)
         }
 
-        // 2. 요일 반복 알람 처리
-        if (alarm.days.isNotEmpty()) {
-            val dayMap = mapOf("일" to Calendar.SUNDAY, "월" to Calendar.MONDAY, "화" to Calendar.TUESDAY, "수" to Calendar.WEDNESDAY, "목" to Calendar.THURSDAY, "금" to Calendar.FRIDAY, "토" to Calendar.SATURDAY)
-            val selectedDaysOfWeek = alarm.days.mapNotNull { dayMap[it] }.toSet()
+        // 1. 일회성 알람 처리
+        if (alarm.selectedDate != null) {
+            return calendar.timeInMillis.takeIf { it > now }
+        }
 
-            // 오늘 시간이 아직 안지났고, 오늘이 선택된 요일이라면 오늘 울리도록 설정
-            if (alarmTimeToday.after(now) && now.get(Calendar.DAY_OF_WEEK) in selectedDaysOfWeek) {
-                return alarmTimeToday.timeInMillis
+        // 2. 요일 반복 / 매일 알람: 오늘부터 7일 뒤까지 중 처음 맞는 요일
+        val dayMask = if (alarm.dayMask == AlarmDays.NONE) AlarmDays.EVERY_DAY else alarm.dayMask
+        for (i in 0..7) {
+            if (i > 0) calendar.add(Calendar.DAY_OF_YEAR, 1)
+            if (calendar.timeInMillis > now && AlarmDays.contains(dayMask, calendar.get(Calendar.DAY_OF_WEEK))) {
+                return calendar.timeInMillis
             }
+        }
+        return null
+    }
 
-            // 오늘 시간이 지났거나, 오늘이 선택된 요일이 아니라면 다음 요일을 찾음
-            for (i in 1..7) {
-                val nextDay = Calendar.getInstance().apply { add(Calendar.DAY_OF_YEAR, i) }
-                if (nextDay.get(Calendar.DAY_OF_WEEK) in selectedDaysOfWeek) {
-                    nextDay.set(Calendar.HOUR_OF_DAY, alarm.hour)
-                    nextDay.set(Calendar.MINUTE, alarm.minute)
-                    nextDay.set(Calendar.SECOND, 0)
-                    nextDay.set(Calendar.MILLISECOND, 0)
-                    return nextDay.timeInMillis
-                }
+    /**
+     * 이전 버전이 알람마다(requestCode = 알람 ID) 등록한 알람과 미리 받기 예약을 취소합니다.
+     * DB 마이그레이션에서 한 번만 호출합니다.
+     */
+    fun cancelLegacy(context: Context, alarmId: Int) {
+        val alarmManager = context.getSystemService(Context.ALARM_SERVICE) as AlarmManager
+        val legacyIntents = listOf(
+            Intent(context, AlarmReceiver::class.java),
+            Intent(context, AlarmReceiver::class.java).setAction(ACTION_PREFETCH)
+        )
+        for (intent in legacyIntents) {
+            PendingIntent.getBroadcast(
+                context,
+                alarmId,
+                intent,
+                PendingIntent.FLAG_NO_CREATE or PendingIntent.FLAG_IMMUTABLE
+            )?.let {
+                alarmManager.cancel(it)
+                it.cancel()
             }
         }
-        
-        // 3. 반복 요일이 없는 '매일' 알람 처리
-        return if (alarmTimeToday.after(now)) {
-            alarmTimeToday.timeInMillis // 오늘 아직 시간이 안 지났으면 오늘
-        } else {
-            alarmTimeToday.add(Calendar.DAY_OF_MONTH, 1)
-            alarmTimeToday.timeInMillis // 오늘 시간이 지났으면 내일
-        }
     }
 
-    fun cancel(context: Context, alarm: AlarmEntity) {
+    // 등록된 알람과 미리 받기 예약을 모두 취소 (울릴 알람이 하나도 없을 때)
+    fun cancel(context: Context) {
         val alarmManager = context.getSystemService(Context.ALARM_SERVICE) as AlarmManager
-        val intent = Intent(context, AlarmReceiver::class.java)
-        val pendingIntent = PendingIntent.getBroadcast(
-            context,
-            alarm.id,
-            intent,
-            PendingIntent.FLAG_UPDATE_CURRENT or PendingIntent.FLAG_IMMUTABLE
-        )
-        alarmManager.cancel(pendingIntent)
+        alarmManager.cancel(alarmPendingIntent(context, -1, 0L))
+        alarmManager.cancel(prefetchPendingIntent(context, -1, 0L))
     }
-}
\ No newline at end of file
+}
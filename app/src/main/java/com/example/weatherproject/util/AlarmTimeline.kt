@@ -0,0 +1,98 @@
+package com.example.weatherproject.util
+
+import android.app.Application
+import android.util.Log
+import com.example.weatherproject.data.local.AlarmDao
+import com.example.weatherproject.data.local.AlarmEntity
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+
+/**
+ * 앱 안의 알람 타임라인.
+ *
+ * 알람마다 다음 울릴 시각(nextTriggerAt)을 미리 계산해 DB에 저장해 두고,
+ * 그중 가장 이른 알람 하나만 AlarmManager에 등록합니다.
+ * nextTriggerAt에는 인덱스가 있어 가장 이른 알람 조회와 울린 알람의 다음 시각 갱신이 O(log n)입니다.
+ *
+ * 알람 추가/수정/삭제, 알람 울림, 재부팅이 모두 이 클래스를 거치며 Mutex로 순서대로 처리합니다.
+ *
+ * @param prefetchLeadMillis 알람 몇 ms 전에 날씨를 받아 브리핑을 미리 만들지
+ */
+class AlarmTimeline(
+    private val application: Application,
+    private val alarmDao: AlarmDao,
+    private val prefetchLeadMillis: Long
+) {
+    private val mutex = Mutex()
+
+    // 새 알람 저장 후 등록할 알람을 다시 고름. 저장된 알람(id 포함)을 돌려줌
+    suspend fun add(alarm: AlarmEntity): AlarmEntity = mutex.withLock {
+        val planned = withNextTrigger(alarm, System.currentTimeMillis())
+        val id = alarmDao.insertAlarm(planned)
+        registerEarliest()
+        planned.copy(id = id.toInt())
+    }
+
+    // 알람 수정/켜기/끄기
+    suspend fun update(alarm: AlarmEntity) = mutex.withLock {
+        alarmDao.updateAlarm(withNextTrigger(alarm, System.currentTimeMillis()))
+        registerEarliest()
+    }
+
+    suspend fun delete(alarm: AlarmEntity) = mutex.withLock {
+        alarmDao.deleteAlarm(alarm)
+        registerEarliest()
+    }
+
+    /**
+     * 등록된 알람이 울렸을 때 호출합니다.
+     * now까지 울릴 시각이 된 알람을 모두 꺼내 다음 시각으로 옮기고(일회성 알람은 끔),
+     * 다음 알람을 등록한 뒤 울린 알람 목록을 돌려줍니다.
+     */
+    suspend fun onAlarmFired(now: Long): List<AlarmEntity> = mutex.withLock {
+        val due = alarmDao.getAlarmsDueBy(now)
+        if (due.isNotEmpty()) {
+            alarmDao.updateAlarms(due.map { alarm ->
+                if (alarm.selectedDate != null) {
+                    // 일회성 알람: 울린 후 비활성화 (OFF) 처리
+                    alarm.copy(isEnabled = false, nextTriggerAt = null)
+                } else {
+                    withNextTrigger(alarm, now)
+                }
+            })
+        }
+        registerEarliest()
+        due
+    }
+
+    // triggerAt까지 울릴 알람 (알람 직전 브리핑 미리 만들기용)
+    suspend fun alarmsDueBy(triggerAt: Long): List<AlarmEntity> = alarmDao.getAlarmsDueBy(triggerAt)
+
+    /**
+     * 재부팅 등으로 OS 알람이 사라졌을 때 모든 알람의 다음 시각을 다시 계산하고 등록합니다.
+     * 꺼져 있는 동안 지나간 일회성 알람은 켜진 채로 두지만 더 울리지 않습니다.
+     */
+    suspend fun rebuild() = mutex.withLock {
+        val now = System.currentTimeMillis()
+        val alarms = alarmDao.getEnabledAlarmsSnapshot()
+        if (alarms.isNotEmpty()) {
+            alarmDao.updateAlarms(alarms.map { withNextTrigger(it, now) })
+        }
+        registerEarliest()
+        Log.d("AlarmTimeline", "Timeline rebuilt for ${alarms.size} alarms")
+    }
+
+    private fun withNextTrigger(alarm: AlarmEntity, now: Long): AlarmEntity =
+        alarm.copy(nextTriggerAt = AlarmScheduler.getNextTriggerTimeMillis(alarm, now))
+
+    private suspend fun registerEarliest() {
+        val next = alarmDao.getEarliestAlarm()
+        val triggerAt = next?.nextTriggerAt
+        if (next == null || triggerAt == null) {
+            AlarmScheduler.cancel(application)
+            Log.d("AlarmTimeline", "No upcoming alarm")
+            return
+        }
+        AlarmScheduler.schedule(application, next.id, triggerAt, prefetchLeadMillis)
+    }
+}
@@ -1,49 +1,108 @@
 package com.example.weatherproject.util
 
+import java.util.BitSet
+import java.util.Collections
+
+/**
+ * 날씨에 맞는 옷차림 추천.
+ *
+ * ClothingDatabase를 처음 한 번만 태그별 비트셋(아이템 번호 = 비트 위치)으로 바꾼 뒤,
+ * (기온 구간, 비, 바람, 눈, 자외선) 조합마다 추천 목록을 미리 만들어 둡니다.
+ * 추천할 때는 조합 번호를 계산해 만들어 둔 목록을 그대로 돌려줍니다.
+ */
 object ClothingRecommender {
 
+    /**
+     * 기온 구간. minFeelsLike 이상인 마지막 구간을 사용합니다.
+     * 아우터는 26도 미만에서만 추천하므로 HOT 구간을 26도에서 나눠 둡니다.
+     */
+    private class TemperatureBand(val minFeelsLike: Int, val tag: WeatherTag, val includeOuterwear: Boolean)
+
+    private val BANDS = listOf(
+        TemperatureBand(Int.MIN_VALUE, WeatherTag.VERY_COLD, true),
+        TemperatureBand(5, WeatherTag.COLD, true),
+        TemperatureBand(9, WeatherTag.CHILLY, true),
+        TemperatureBand(12, WeatherTag.COOL, true),
+        TemperatureBand(17, WeatherTag.WARM, true),
+        TemperatureBand(23, WeatherTag.HOT, true), // 26도 미만이면 아우터 고려 (얇은 가디건 등)
+        TemperatureBand(26, WeatherTag.HOT, false),
+        TemperatureBand(28, WeatherTag.VERY_HOT, false)
+    )
+
+    // 추천 목록의 카테고리 순서 (아우터는 기온 구간에 따라 마지막에 추가)
+    private val CATEGORY_ORDER = listOf(Category.TOP, Category.BOTTOM, Category.ACCESSORY)
+
+    private const val FLAG_RAINY = 1
+    private const val FLAG_WINDY = 2
+    private const val FLAG_SNOWY = 4
+    private const val FLAG_UV_STRONG = 8
+    private const val FLAG_COUNT = 4
+
+    private val table = Table(ClothingDatabase.items)
+
     fun getRecommendation(
         feelsLikeTemp: Int,
         isRainy: Boolean = false,
-        isWindy: Boolean = false
-    ): List<Int> {
-
-        // 1. 현재 날씨 상태를 기반으로 날씨 태그 세트를 생성합니다.
-        val currentWeatherTags = mutableSetOf<WeatherTag>()
-        when {
-            feelsLikeTemp >= 28 -> currentWeatherTags.add(WeatherTag.VERY_HOT)
-            feelsLikeTemp >= 23 -> currentWeatherTags.add(WeatherTag.HOT)
-            feelsLikeTemp >= 17 -> currentWeatherTags.add(WeatherTag.WARM)
-            feelsLikeTemp >= 12 -> currentWeatherTags.add(WeatherTag.COOL)
-            feelsLikeTemp >= 9 -> currentWeatherTags.add(WeatherTag.CHILLY)
-            feelsLikeTemp >= 5 -> currentWeatherTags.add(WeatherTag.COLD)
-            else -> currentWeatherTags.add(WeatherTag.VERY_COLD)
-        }
-        if (isRainy) currentWeatherTags.add(WeatherTag.RAINY)
-        if (isWindy) currentWeatherTags.add(WeatherTag.WINDY)
+        isWindy: Boolean = false,
+        isSnowy: Boolean = false,
+        isUvStrong: Boolean = false
+    ): List<Int> = table.get(feelsLikeTemp, isRainy, isWindy, isSnowy, isUvStrong)
 
-        // 2. 현재 날씨 태그와 하나라도 일치하는 모든 아이템을 필터링합니다.
-        val allMatchingItems = ClothingDatabase.items.filter { item ->
-            item.tags.any { it in currentWeatherTags }
-        }
+    /**
+     * items로 만든 조합별 추천 목록. 아이템 수에 제한이 없도록 비트셋은 java.util.BitSet을 사용합니다.
+     */
+    internal class Table(items: List<ClothingItem>) {
+
+        private val recommendations: Array<List<Int>>
+
+        init {
+            // 태그별로 그 태그가 붙은 아이템 비트셋
+            val itemsByTag = Array(WeatherTag.values().size) { BitSet(items.size) }
+            val itemsByCategory = Array(Category.values().size) { BitSet(items.size) }
+            items.forEachIndexed { index, item ->
+                item.tags.forEach { itemsByTag[it.ordinal].set(index) }
+                itemsByCategory[item.category.ordinal].set(index)
+            }
 
-        // 3. 카테고리별로 아이템을 그룹화합니다.
-        val itemsByCategory = allMatchingItems.groupBy { it.category }
-
-        // 4. 최종 추천 목록을 조합합니다.
-        val recommendedItems = mutableListOf<ClothingItem>()
-        recommendedItems.addAll(itemsByCategory[Category.TOP] ?: emptyList())
-        recommendedItems.addAll(itemsByCategory[Category.BOTTOM] ?: emptyList())
-        recommendedItems.addAll(itemsByCategory[Category.ACCESSORY] ?: emptyList())
-
-        // 5. 아우터 추천 로직 개선
-        // 기존: if (feelsLikeTemp < 20) 무조건 추가
-        // 변경: 날씨 태그에 맞는 아우터가 있다면 자연스럽게 추가됨.
-        // 다만, 여름(VERY_HOT, HOT)에는 아우터가 추천되지 않도록 방어 로직 추가 가능
-        if (feelsLikeTemp < 26) { // 26도 미만이면 아우터 고려 (얇은 가디건 등)
-             recommendedItems.addAll(itemsByCategory[Category.OUTERWEAR] ?: emptyList())
+            recommendations = Array(BANDS.size shl FLAG_COUNT) { key ->
+                val band = BANDS[key ushr FLAG_COUNT]
+                val matching = itemsByTag[band.tag.ordinal].clone() as BitSet
+                if (key and FLAG_RAINY != 0) matching.or(itemsByTag[WeatherTag.RAINY.ordinal])
+                if (key and FLAG_WINDY != 0) matching.or(itemsByTag[WeatherTag.WINDY.ordinal])
+                if (key and FLAG_SNOWY != 0) matching.or(itemsByTag[WeatherTag.SNOWY.ordinal])
+                if (key and FLAG_UV_STRONG != 0) matching.or(itemsByTag[WeatherTag.UV_STRONG.ordinal])
+
+                val categories = if (band.includeOuterwear) CATEGORY_ORDER + Category.OUTERWEAR else CATEGORY_ORDER
+                val nameResIds = LinkedHashSet<Int>()
+                for (category in categories) {
+                    val selected = matching.clone() as BitSet
+                    selected.and(itemsByCategory[category.ordinal])
+                    var index = selected.nextSetBit(0)
+                    while (index >= 0) {
+                        nameResIds.add(items[index].nameResId)
+                        index = selected.nextSetBit(index + 1)
+                    }
+                }
+                Collections.unmodifiableList(nameResIds.toList())
+            }
         }
 
-        return recommendedItems.map { it.nameResId }.distinct()
+        fun get(
+            feelsLikeTemp: Int,
+            isRainy: Boolean,
+            isWindy: Boolean,
+            isSnowy: Boolean,
+            isUvStrong: Boolean
+        ): List<Int> {
+            var band = BANDS.size - 1
+            while (feelsLikeTemp < BANDS[band].minFeelsLike) band--
+
+            var key = band shl FLAG_COUNT
+            if (isRainy) key = key or FLAG_RAINY
+            if (isWindy) key = key or FLAG_WINDY
+            if (isSnowy) key = key or FLAG_SNOWY
+            if (isUvStrong) key = key or FLAG_UV_STRONG
+            return recommendations[key]
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,78 @@
 package com.example.weatherproject.util
 
+import java.time.Instant
 import java.time.LocalDate
+import java.time.ZoneId
 import kotlin.math.atan
 import kotlin.math.pow
 import kotlin.math.sqrt
 
 object FeelsLikeTempCalculator {
 
+    private val KST: ZoneId = ZoneId.of("Asia/Seoul")
+
     /**
      * Calculates the feels-like temperature based on current weather conditions and month.
      *
      * @param Ta Air temperature in Celsius (°C).
      * @param RH Relative humidity in percent (%).
      * @param windSpeedKmh Wind speed in kilometers per hour (km/h).
+     * @param month Month (1-12) that decides the summer/winter formula. Defaults to the current month.
      * @return The calculated feels-like temperature in Celsius (°C).
      */
-    fun calculate(Ta: Double, RH: Double, windSpeedKmh: Double): Double {
-        val currentMonth = LocalDate.now().monthValue
+    fun calculate(Ta: Double, RH: Double, windSpeedKmh: Double, month: Int = LocalDate.now().monthValue): Double =
+        feelsLike(Ta, RH, windSpeedKmh, isSummer(month))
+
+    /**
+     * Calculates the feels-like temperature for every forecast hour in one pass.
+     * The season of each hour is taken from its own timestamp (KST), so a forecast crossing
+     * a season boundary uses the right formula. The clock is never read.
+     *
+     * A NaN temperature (missing value) yields NaN at the same position.
+     *
+     * @param temperatures Air temperatures in Celsius (°C).
+     * @param humidities Relative humidities in percent (%).
+     * @param windSpeedsKmh Wind speeds in kilometers per hour (km/h).
+     * @param timestamps Forecast times in epoch milliseconds.
+     * @param out Destination array; may be reused across calls.
+     * @return [out], filled with feels-like temperatures in Celsius (°C).
+     */
+    fun calculate(
+        temperatures: DoubleArray,
+        humidities: DoubleArray,
+        windSpeedsKmh: DoubleArray,
+        timestamps: LongArray,
+        out: DoubleArray = DoubleArray(temperatures.size)
+    ): DoubleArray {
+        val size = temperatures.size
+        require(humidities.size == size && windSpeedsKmh.size == size && timestamps.size == size && out.size >= size) {
+            "Array sizes do not match"
+        }
+
+        // The month only changes at month boundaries, so resolve it once per month instead of once per hour.
+        var monthStart = Long.MAX_VALUE
+        var monthEnd = Long.MIN_VALUE
+        var summer = false
+        for (i in 0 until size) {
+            val timestamp = timestamps[i]
+            if (timestamp < monthStart || timestamp >= monthEnd) {
+                val firstDay = Instant.ofEpochMilli(timestamp).atZone(KST).toLocalDate().withDayOfMonth(1)
+                monthStart = firstDay.atStartOfDay(KST).toInstant().toEpochMilli()
+                monthEnd = firstDay.plusMonths(1).atStartOfDay(KST).toInstant().toEpochMilli()
+                summer = isSummer(firstDay.monthValue)
+            }
+            out[i] = feelsLike(temperatures[i], humidities[i], windSpeedsKmh[i], summer)
+        }
+        return out
+    }
+
+    // Summer (May to September), otherwise winter (October to April)
+    private fun isSummer(month: Int): Boolean = month in 5..9
 
-        return if (currentMonth in 5..9) {
-            // Summer (May to September)
+    private fun feelsLike(Ta: Double, RH: Double, windSpeedKmh: Double, summer: Boolean): Double {
+        return if (summer) {
             calculateSummerFeelsLike(Ta, RH)
         } else {
-            // Winter (October to April)
             val windSpeedMs = windSpeedKmh * 1000 / 3600 // Convert km/h to m/s
             if (Ta <= 10 && windSpeedMs >= 1.3) {
                 calculateWinterFeelsLike(Ta, windSpeedKmh)
@@ -0,0 +1,29 @@
+package com.example.weatherproject.util
+
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+/**
+ * 기상청 예보 시각(yyyyMMdd + HHmm, 한국 시간) 변환.
+ * 시간별 예보의 체감온도 계산과 예보 캐시 테이블의 슬롯 키가 같은 변환을 사용합니다.
+ */
+object ForecastTime {
+
+    val ZONE: ZoneId = ZoneId.of("Asia/Seoul")
+
+    // yyyyMMdd + HHmm (KST) → epoch millis. 형식이 잘못된 경우 null을 반환합니다.
+    fun toEpochMillis(date: String, time: String): Long? {
+        if (date.length != 8 || time.length != 4) return null
+        return try {
+            LocalDateTime.of(
+                date.substring(0, 4).toInt(),
+                date.substring(4, 6).toInt(),
+                date.substring(6, 8).toInt(),
+                time.substring(0, 2).toInt(),
+                time.substring(2, 4).toInt()
+            ).atZone(ZONE).toInstant().toEpochMilli()
+        } catch (e: Exception) {
+            null
+        }
+    }
+}
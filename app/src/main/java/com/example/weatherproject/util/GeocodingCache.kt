@@ -0,0 +1,207 @@
+package com.example.weatherproject.util
+
+import android.app.Application
+import android.location.Address
+import android.location.Geocoder
+import android.util.Log
+import com.example.weatherproject.data.local.GeocodeCacheEntity
+import com.example.weatherproject.data.local.GeocodeDao
+import com.example.weatherproject.data.repository.InFlightRequests
+import com.google.gson.Gson
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import java.util.Locale
+import java.util.concurrent.atomic.AtomicLong
+import kotlin.math.roundToLong
+
+/**
+ * 지오코딩 결과 하나.
+ * @param address 화면에 표시할 주소 문자열
+ */
+data class GeocodeResult(
+    val address: String,
+    val latitude: Double,
+    val longitude: Double
+)
+
+/**
+ * 지오코딩 캐시 적중 통계.
+ * @param coalesced 같은 키의 요청이 이미 진행 중이어서 결과를 공유한 횟수
+ */
+data class GeocodingCacheStats(
+    val reverseHits: Long,
+    val reverseMisses: Long,
+    val forwardHits: Long,
+    val forwardMisses: Long,
+    val coalesced: Long
+) {
+    val reverseHitRate: Double
+        get() = hitRate(reverseHits, reverseMisses)
+
+    val forwardHitRate: Double
+        get() = hitRate(forwardHits, forwardMisses)
+
+    private fun hitRate(hits: Long, misses: Long): Double =
+        if (hits + misses == 0L) 0.0 else hits.toDouble() / (hits + misses)
+}
+
+/**
+ * Geocoder 결과를 Room(geocode_cache)에 저장해 두는 캐시.
+ * Geocoder는 느리고 몇 초씩 멈추기도 하므로, 같은 동네(양자화된 좌표)나 같은 검색어는 저장된 결과를 사용합니다.
+ * 같은 키에 대한 조회가 동시에 들어오면 Geocoder는 한 번만 호출하고 결과를 공유합니다.
+ */
+class GeocodingCache(
+    application: Application,
+    private val geocodeDao: GeocodeDao,
+    private val gson: Gson
+) {
+
+    private val geocoder = Geocoder(application, Locale.KOREAN)
+
+    // 같은 키의 조회는 Geocoder를 한 번만 호출하고 결과를 공유 (조회는 IO 스레드에서 실행)
+    private val inFlightLookups =
+        InFlightRequests<String, List<GeocodeResult>>(CoroutineScope(SupervisorJob() + Dispatchers.IO))
+
+    private val reverseHits = AtomicLong()
+    private val reverseMisses = AtomicLong()
+    private val forwardHits = AtomicLong()
+    private val forwardMisses = AtomicLong()
+    private val coalesced = AtomicLong()
+
+    /**
+     * 좌표를 짧은 주소(예: "서울시 강남구 역삼동")로 바꿉니다.
+     * @return 주소를 찾지 못하면 null. Geocoder 오류는 그대로 던집니다.
+     */
+    suspend fun reverse(lat: Double, lon: Double): String? {
+        val latCell = (lat / REVERSE_QUANTUM_DEGREES).roundToLong()
+        val lonCell = (lon / REVERSE_QUANTUM_DEGREES).roundToLong()
+        val key = "rev:$latCell,$lonCell"
+
+        val results = lookup(key, REVERSE_TTL_MILLIS, reverseHits, reverseMisses) {
+            // 같은 칸 안에서는 같은 주소를 쓰도록 칸의 중심 좌표로 조회
+            val addresses = geocoder.getFromLocation(
+                latCell * REVERSE_QUANTUM_DEGREES,
+                lonCell * REVERSE_QUANTUM_DEGREES,
+                1
+            )
+            addresses.orEmpty().mapNotNull { addr ->
+                formatShortAddress(addr)?.let { GeocodeResult(it, addr.latitude, addr.longitude) }
+            }
+        }
+        return results.firstOrNull()?.address
+    }
+
+    /**
+     * 검색어로 주소와 좌표를 찾습니다.
+     * 기기에 Geocoder가 없으면 캐시에 있는 결과만 돌려줍니다.
+     */
+    suspend fun search(query: String, maxResults: Int = 5): List<GeocodeResult> {
+        val normalized = normalizeQuery(query)
+        if (normalized.isEmpty()) return emptyList()
+
+        val results = lookup("fwd:$maxResults:$normalized", FORWARD_TTL_MILLIS, forwardHits, forwardMisses) {
+            if (!Geocoder.isPresent()) {
+                Log.e("GeocodingCache", "Geocoder not available")
+                return@lookup emptyList()
+            }
+            geocoder.getFromLocationName(query, maxResults).orEmpty().map { addr ->
+                // 전체 주소 문자열에서 "대한민국"은 굳이 안 보여줘도 됨
+                GeocodeResult(
+                    address = addr.getAddressLine(0).replace("대한민국 ", ""),
+                    latitude = addr.latitude,
+                    longitude = addr.longitude
+                )
+            }
+        }
+        return results
+    }
+
+    fun stats(): GeocodingCacheStats = GeocodingCacheStats(
+        reverseHits = reverseHits.get(),
+        reverseMisses = reverseMisses.get(),
+        forwardHits = forwardHits.get(),
+        forwardMisses = forwardMisses.get(),
+        coalesced = coalesced.get()
+    )
+
+    private suspend fun lookup(
+        key: String,
+        ttlMillis: Long,
+        hits: AtomicLong,
+        misses: AtomicLong,
+        load: () -> List<GeocodeResult>
+    ): List<GeocodeResult> =
+        inFlightLookups.getOrStart(key, onShared = { coalesced.incrementAndGet() }) {
+            loadThroughCache(key, ttlMillis, hits, misses, load)
+        }
+
+    private suspend fun loadThroughCache(
+        key: String,
+        ttlMillis: Long,
+        hits: AtomicLong,
+        misses: AtomicLong,
+        load: () -> List<GeocodeResult>
+    ): List<GeocodeResult> {
+        val now = System.currentTimeMillis()
+        val cached = geocodeDao.get(key)
+        if (cached != null && now - cached.cachedAt < ttlMillis) {
+            hits.incrementAndGet()
+            geocodeDao.touch(key, now)
+            // 배열 타입으로 읽어 WeatherGson에 등록된 GeocodeResult 어댑터를 사용 (리플렉션/제네릭 시그니처 불필요)
+            return gson.fromJson(cached.resultsJson, Array<GeocodeResult>::class.java).toList()
+        }
+
+        misses.incrementAndGet()
+        val results = load()
+        // 결과가 없는 경우는 일시적인 문제일 수 있으므로 저장하지 않음
+        if (results.isNotEmpty()) {
+            geocodeDao.upsert(GeocodeCacheEntity(key, gson.toJson(results.toTypedArray()), now, now))
+            geocodeDao.deleteExpired(now - maxOf(REVERSE_TTL_MILLIS, FORWARD_TTL_MILLIS))
+            geocodeDao.evict(MAX_ENTRIES)
+        }
+        return results
+    }
+
+    private fun normalizeQuery(query: String): String =
+        query.trim().replace(WHITESPACE, " ").lowercase(Locale.ROOT)
+
+    private fun formatShortAddress(addr: Address): String? {
+        val addressBuilder = StringBuilder()
+
+        val adminArea = addr.adminArea
+        if (adminArea != null) {
+            addressBuilder.append(adminArea.replace("특별시", "시").replace("광역시", "시"))
+        }
+
+        val locality = addr.subLocality ?: addr.locality
+        if (locality != null) {
+            if (addressBuilder.isNotEmpty()) addressBuilder.append(" ")
+            addressBuilder.append(locality)
+        }
+
+        val thoroughfare = addr.thoroughfare
+        if (thoroughfare != null) {
+            if (addressBuilder.isNotEmpty()) addressBuilder.append(" ")
+            addressBuilder.append(thoroughfare)
+        }
+
+        var finalAddress = addressBuilder.toString()
+        if (finalAddress.isBlank()) {
+            val fullAddress = addr.getAddressLine(0)
+            if (fullAddress != null) {
+                finalAddress = fullAddress.split(" ").take(3).joinToString(" ")
+            }
+        }
+        return finalAddress.ifBlank { null }
+    }
+
+    companion object {
+        // 약 200m 칸 단위로 좌표를 묶음 (동 단위 주소를 구분하기에 충분)
+        private const val REVERSE_QUANTUM_DEGREES = 0.002
+        private const val REVERSE_TTL_MILLIS = 30L * 24 * 60 * 60 * 1000
+        private const val FORWARD_TTL_MILLIS = 7L * 24 * 60 * 60 * 1000
+        private const val MAX_ENTRIES = 256
+        private val WHITESPACE = Regex("\\s+")
+    }
+}
@@ -3,7 +3,7 @@ package com.example.weatherproject.util
 import kotlin.math.*
 
 /**
- * GPS 위도/경도 → 기상청 격자 좌표(nx, ny) 변환
+ * GPS 위도/경도 ↔ 기상청 격자 좌표(nx, ny) 변환 (Lambert 정각원추도법)
  */
 object GpsTransfer {
 
@@ -16,6 +16,30 @@ object GpsTransfer {
     private const val XO = 43.0       // 기준점 X좌표(GRID)
     private const val YO = 136.0      // 기준점 Y좌표(GRID)
 
+    private const val DEGRAD = PI / 180.0
+    private const val RADDEG = 180.0 / PI
+
+    // 투영 상수는 위의 고정값으로만 정해지므로 한 번만 계산
+    private val re = RE / GRID
+    private val olon = OLON * DEGRAD
+    private val sn: Double
+    private val sf: Double
+    private val ro: Double
+
+    init {
+        val slat1 = SLAT1 * DEGRAD
+        val slat2 = SLAT2 * DEGRAD
+        val olat = OLAT * DEGRAD
+
+        val snValue = ln(cos(slat1) / cos(slat2)) /
+            ln(tan(PI * 0.25 + slat2 * 0.5) / tan(PI * 0.25 + slat1 * 0.5))
+        val sfValue = tan(PI * 0.25 + slat1 * 0.5).pow(snValue) * cos(slat1) / snValue
+
+        sn = snValue
+        sf = sfValue
+        ro = re * sfValue / tan(PI * 0.25 + olat * 0.5).pow(snValue)
+    }
+
     /**
      * GPS 좌표를 기상청 격자 좌표로 변환
      * @param lat 위도 (latitude)
@@ -23,31 +47,83 @@ object GpsTransfer {
      * @return Pair<nx, ny> 격자 좌표
      */
     fun convertToGrid(lat: Double, lon: Double): Pair<Int, Int> {
-        val DEGRAD = PI / 180.0
+        val packed = convertToGridPacked(lat, lon)
+        return Pair(unpackNx(packed), unpackNy(packed))
+    }
 
-        val re = RE / GRID
-        val slat1 = SLAT1 * DEGRAD
-        val slat2 = SLAT2 * DEGRAD
-        val olon = OLON * DEGRAD
-        val olat = OLAT * DEGRAD
+    /**
+     * GPS 좌표를 격자 좌표로 변환하여 Long 하나에 담아 반환 (객체를 만들지 않음)
+     * unpackNx / unpackNy로 꺼내 씁니다.
+     */
+    fun convertToGridPacked(lat: Double, lon: Double): Long =
+        project(lat, lon) { x, y -> pack((x + 0.5).toInt(), (y + 0.5).toInt()) }
+
+    fun unpackNx(packed: Long): Int = (packed ushr 32).toInt()
 
-        var sn = tan(PI * 0.25 + slat2 * 0.5) / tan(PI * 0.25 + slat1 * 0.5)
-        sn = ln(cos(slat1) / cos(slat2)) / ln(sn)
-        var sf = tan(PI * 0.25 + slat1 * 0.5)
-        sf = sf.pow(sn) * cos(slat1) / sn
-        var ro = tan(PI * 0.25 + olat * 0.5)
-        ro = re * sf / ro.pow(sn)
+    fun unpackNy(packed: Long): Int = packed.toInt()
 
-        var ra = tan(PI * 0.25 + lat * DEGRAD * 0.5)
-        ra = re * sf / ra.pow(sn)
+    /**
+     * 여러 좌표를 한 번에 격자 좌표로 변환
+     * 결과는 outNx, outNy의 같은 위치에 채워집니다.
+     */
+    fun convertToGrid(lats: DoubleArray, lons: DoubleArray, outNx: IntArray, outNy: IntArray) {
+        require(lats.size == lons.size && outNx.size >= lats.size && outNy.size >= lats.size) {
+            "Array sizes do not match"
+        }
+        for (i in lats.indices) {
+            project(lats[i], lons[i]) { x, y ->
+                outNx[i] = (x + 0.5).toInt()
+                outNy[i] = (y + 0.5).toInt()
+            }
+        }
+    }
+
+    /**
+     * GPS 좌표를 반올림 전의 연속적인 격자 좌표로 변환
+     * 격자 경계에서 얼마나 떨어져 있는지 판단할 때 사용합니다.
+     * @return Pair<x, y> (x + 0.5, y + 0.5를 내림하면 nx, ny)
+     */
+    fun convertToGridPosition(lat: Double, lon: Double): Pair<Double, Double> =
+        project(lat, lon) { x, y -> Pair(x, y) }
+
+    /**
+     * 격자 좌표를 GPS 좌표로 역변환
+     * 정수 격자 좌표를 넣으면 해당 격자의 중심 좌표가 됩니다.
+     * @return Pair<lat, lon>
+     */
+    fun convertToLatLon(x: Double, y: Double): Pair<Double, Double> {
+        val xn = x - XO
+        val yn = ro - y + YO
+
+        var ra = sqrt(xn * xn + yn * yn)
+        if (sn < 0.0) ra = -ra
+        val alat = 2.0 * atan((re * sf / ra).pow(1.0 / sn)) - PI * 0.5
+
+        val theta = when {
+            abs(xn) <= 0.0 -> 0.0
+            abs(yn) <= 0.0 -> if (xn < 0.0) -PI * 0.5 else PI * 0.5
+            else -> atan2(xn, yn)
+        }
+        val alon = theta / sn + olon
+
+        return Pair(alat * RADDEG, alon * RADDEG)
+    }
+
+    /**
+     * 격자(nx, ny)의 중심 GPS 좌표
+     * @return Pair<lat, lon>
+     */
+    fun gridCenter(nx: Int, ny: Int): Pair<Double, Double> = convertToLatLon(nx.toDouble(), ny.toDouble())
+
+    private inline fun <R> project(lat: Double, lon: Double, block: (x: Double, y: Double) -> R): R {
+        val ra = re * sf / tan(PI * 0.25 + lat * DEGRAD * 0.5).pow(sn)
         var theta = lon * DEGRAD - olon
         if (theta > PI) theta -= 2.0 * PI
         if (theta < -PI) theta += 2.0 * PI
         theta *= sn
 
-        val nx = (ra * sin(theta) + XO + 0.5).toInt()
-        val ny = (ro - ra * cos(theta) + YO + 0.5).toInt()
-
-        return Pair(nx, ny)
+        return block(ra * sin(theta) + XO, ro - ra * cos(theta) + YO)
     }
-}
\ No newline at end of file
+
+    private fun pack(nx: Int, ny: Int): Long = (nx.toLong() shl 32) or (ny.toLong() and 0xFFFFFFFFL)
+}
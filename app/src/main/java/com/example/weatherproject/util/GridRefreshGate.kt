@@ -0,0 +1,80 @@
+package com.example.weatherproject.util
+
+import kotlin.math.abs
+import kotlin.math.max
+
+/**
+ * 위치 업데이트 수 대비 실제 날씨 갱신 수.
+ */
+data class GridRefreshStats(
+    val updatesReceived: Long,
+    val refreshesTriggered: Long
+)
+
+/**
+ * GPS 위치 업데이트마다 날씨를 갱신할지 결정하는 게이트.
+ * 기상청 예보는 5km 격자 단위로만 바뀌므로, 격자가 바뀌었거나 데이터가 오래되었을 때만 갱신합니다.
+ * 격자 경계에서 GPS가 흔들려 갱신이 반복되지 않도록, 새 격자 안으로 hysteresisCells 이상 들어와야 격자가 바뀐 것으로 봅니다.
+ */
+class GridRefreshGate(
+    private val hysteresisCells: Double = DEFAULT_HYSTERESIS_CELLS,
+    private val maxAgeMillis: Long = DEFAULT_MAX_AGE_MILLIS
+) {
+
+    private var currentNx: Int? = null
+    private var currentNy: Int? = null
+    private var lastRefreshAt = 0L
+
+    private var updatesReceived = 0L
+    private var refreshesTriggered = 0L
+
+    /**
+     * 위치 업데이트를 받았을 때 호출합니다.
+     * @return 날씨를 갱신해야 하면 true
+     */
+    @Synchronized
+    fun onLocationUpdate(lat: Double, lon: Double, now: Long = System.currentTimeMillis()): Boolean {
+        updatesReceived++
+
+        val (x, y) = GpsTransfer.convertToGridPosition(lat, lon)
+        val nx = currentNx
+        val ny = currentNy
+
+        val cellChanged = if (nx == null || ny == null) {
+            true
+        } else {
+            // 현재 격자 영역([nx-0.5, nx+0.5))을 벗어난 거리 (격자 단위)
+            val outside = max(abs(x - nx) - 0.5, abs(y - ny) - 0.5)
+            outside > hysteresisCells
+        }
+        val expired = now - lastRefreshAt >= maxAgeMillis
+
+        if (!cellChanged && !expired) return false
+
+        if (cellChanged) {
+            currentNx = (x + 0.5).toInt()
+            currentNy = (y + 0.5).toInt()
+        }
+        lastRefreshAt = now
+        refreshesTriggered++
+        return true
+    }
+
+    /**
+     * 다음 위치 업데이트에서 반드시 갱신하도록 상태를 초기화합니다. (예: 검색 모드에서 GPS 모드로 돌아올 때)
+     */
+    @Synchronized
+    fun reset() {
+        currentNx = null
+        currentNy = null
+        lastRefreshAt = 0L
+    }
+
+    @Synchronized
+    fun stats(): GridRefreshStats = GridRefreshStats(updatesReceived, refreshesTriggered)
+
+    companion object {
+        private const val DEFAULT_HYSTERESIS_CELLS = 0.1 // 약 500m
+        private const val DEFAULT_MAX_AGE_MILLIS = 15 * 60 * 1000L
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.weatherproject.util
+
+import java.util.TreeMap
+
+/**
+ * 한글 초성 검색과 오타(1글자)를 허용하는 접두어 검색용 트라이.
+ * 빌드가 끝나면 노드를 배열 몇 개로 펼쳐 두므로, 노드마다 객체와 Map을 들고 있지 않습니다.
+ *
+ * 검색어의 각 글자는 다음 중 하나로 일치합니다.
+ * - 같은 글자
+ * - 초성 (예: "ㄱㄴ" → "강남")
+ * - 마지막 글자를 입력하는 중 (예: "강나" → "강남", 받침 없이 초성+중성까지 같음)
+ */
+class HangulPrefixTrie private constructor(
+    private val childStart: IntArray,   // 노드별 자식 목록 시작 위치 (childChars, childNodes 기준)
+    private val childChars: CharArray,  // 자식으로 가는 글자 (노드마다 정렬됨)
+    private val childNodes: IntArray,   // 자식 노드 번호
+    private val valueStart: IntArray,   // 노드별 값 목록 시작 위치 (values 기준)
+    private val values: IntArray        // 이 노드에서 끝나는 키의 값
+) {
+
+    /**
+     * query로 시작하는 키의 값과, 그때 사용한 오타 수를 반환합니다. 같은 값은 가장 적은 오타 수만 남깁니다.
+     * @param maxEdits 허용할 오타(글자 대체/누락/추가) 수
+     */
+    fun search(query: String, maxEdits: Int = 0): Map<Int, Int> {
+        val results = HashMap<Int, Int>()
+        if (query.isEmpty()) return results
+        walk(ROOT, query, 0, 0, maxEdits, results)
+        return results
+    }
+
+    private fun walk(
+        node: Int,
+        query: String,
+        index: Int,
+        edits: Int,
+        maxEdits: Int,
+        results: MutableMap<Int, Int>
+    ) {
+        if (index == query.length) {
+            collect(node, edits, results)
+            return
+        }
+
+        val canEdit = edits < maxEdits
+        val queryChar = query[index]
+        val isLast = index == query.length - 1
+        for (child in childStart[node] until childStart[node + 1]) {
+            val target = childNodes[child]
+            if (matches(queryChar, childChars[child], isLast)) {
+                walk(target, query, index + 1, edits, maxEdits, results)
+            } else if (canEdit) {
+                // 글자를 잘못 입력함
+                walk(target, query, index + 1, edits + 1, maxEdits, results)
+            }
+            // 글자 하나를 빠뜨림
+            if (canEdit) walk(target, query, index, edits + 1, maxEdits, results)
+        }
+        // 글자 하나를 더 입력함
+        if (canEdit) walk(node, query, index + 1, edits + 1, maxEdits, results)
+    }
+
+    /**
+     * node 아래의 모든 값을 모읍니다.
+     */
+    private fun collect(node: Int, edits: Int, results: MutableMap<Int, Int>) {
+        val stack = ArrayDeque<Int>()
+        stack.addLast(node)
+        while (stack.isNotEmpty()) {
+            val current = stack.removeLast()
+            for (i in valueStart[current] until valueStart[current + 1]) {
+                val value = values[i]
+                val previous = results[value]
+                if (previous == null || edits < previous) results[value] = edits
+            }
+            for (child in childStart[current] until childStart[current + 1]) {
+                stack.addLast(childNodes[child])
+            }
+        }
+    }
+
+    private fun matches(queryChar: Char, keyChar: Char, isLast: Boolean): Boolean {
+        if (queryChar == keyChar) return true
+        if (!isSyllable(keyChar)) return false
+
+        val keyIndex = keyChar - SYLLABLE_BASE
+        val keyChoseong = keyIndex / (JUNGSEONG_COUNT * JONGSEONG_COUNT)
+
+        // 초성만 입력
+        val choseong = CHOSEONG.indexOf(queryChar)
+        if (choseong >= 0) return choseong == keyChoseong
+
+        // 마지막 글자를 입력하는 중 (받침 전)
+        if (isLast && isSyllable(queryChar)) {
+            val queryIndex = queryChar - SYLLABLE_BASE
+            if (queryIndex % JONGSEONG_COUNT == 0) {
+                return queryIndex / JONGSEONG_COUNT == keyIndex / JONGSEONG_COUNT
+            }
+        }
+        return false
+    }
+
+    /**
+     * 키와 값을 모아 트라이를 만듭니다. 같은 키에 여러 값을 넣을 수 있습니다.
+     */
+    class Builder {
+
+        private class Node {
+            val children = TreeMap<Char, Node>()
+            val values = ArrayList<Int>(1)
+        }
+
+        private val root = Node()
+
+        fun add(key: String, value: Int): Builder {
+            var node = root
+            for (ch in key) {
+                node = node.children.getOrPut(ch) { Node() }
+            }
+            if (value !in node.values) node.values.add(value)
+            return this
+        }
+
+        fun build(): HangulPrefixTrie {
+            // 너비 우선으로 번호를 매겨 자식들이 연속된 번호를 갖도록 함
+            val order = ArrayList<Node>()
+            order.add(root)
+            var i = 0
+            while (i < order.size) {
+                order.addAll(order[i].children.values)
+                i++
+            }
+            val nodeIds = order.withIndex().associate { (index, node) -> node to index }
+
+            val childStart = IntArray(order.size + 1)
+            val valueStart = IntArray(order.size + 1)
+            val childCount = order.sumOf { it.children.size }
+            val childChars = CharArray(childCount)
+            val childNodes = IntArray(childCount)
+            val values = IntArray(order.sumOf { it.values.size })
+
+            var childPos = 0
+            var valuePos = 0
+            order.forEachIndexed { index, node ->
+                childStart[index] = childPos
+                valueStart[index] = valuePos
+                node.children.forEach { (ch, child) ->
+                    childChars[childPos] = ch
+                    childNodes[childPos] = nodeIds.getValue(child)
+                    childPos++
+                }
+                node.values.forEach { values[valuePos++] = it }
+            }
+            childStart[order.size] = childPos
+            valueStart[order.size] = valuePos
+
+            return HangulPrefixTrie(childStart, childChars, childNodes, valueStart, values)
+        }
+    }
+
+    companion object {
+        private const val ROOT = 0
+
+        private const val SYLLABLE_BASE = '가'
+        private const val SYLLABLE_LAST = '힣'
+        private const val JUNGSEONG_COUNT = 21
+        private const val JONGSEONG_COUNT = 28
+        private const val CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ"
+
+        private fun isSyllable(ch: Char): Boolean = ch in SYLLABLE_BASE..SYLLABLE_LAST
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.weatherproject.util
+
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.launch
+
+/**
+ * 마지막으로 시작한 요청의 결과만 반영되도록 하는 실행기. (latest-wins)
+ * 새 요청을 시작하면 이전 요청을 취소하고 세대 번호를 올립니다.
+ * 이전 요청이 취소를 늦게 알아채더라도 isLatest()가 false가 되므로 결과를 반영하지 않아야 합니다.
+ * 예: 도시 검색 요청이 끝나기 전에 '현재 위치'로 돌아오면, 늦게 도착한 검색 결과가 GPS 결과를 덮어쓰지 않음
+ */
+class LatestRequestLauncher(private val scope: CoroutineScope) {
+
+    private var job: Job? = null
+    private var generation = 0L
+
+    /**
+     * 이전 요청을 취소하고 새 요청을 시작합니다.
+     * @param block isLatest()가 true일 때만 결과를 반영해야 하는 요청
+     * @return 요청 Job. 완료를 기다려야 하는 곳에서 join()합니다.
+     */
+    @Synchronized
+    fun launch(block: suspend (isLatest: () -> Boolean) -> Unit): Job {
+        job?.cancel()
+        val mine = ++generation
+        return scope.launch {
+            block { isCurrent(mine) }
+        }.also { job = it }
+    }
+
+    @Synchronized
+    private fun isCurrent(mine: Long): Boolean = mine == generation
+}
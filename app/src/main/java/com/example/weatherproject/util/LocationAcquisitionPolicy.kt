@@ -0,0 +1,68 @@
+package com.example.weatherproject.util
+
+import android.location.Location
+import com.google.android.gms.location.Priority
+import kotlin.math.abs
+import kotlin.math.max
+
+/**
+ * 위치 요청 단계. 단계마다 정확도(priority)와 요청 간격, 일괄 전달(batching) 지연이 다릅니다.
+ * @param maxUpdateDelayMillis 위치를 모아서 한 번에 전달받을 최대 지연 (0이면 바로 전달).
+ *   정지 상태(BALANCED_BATCHED)는 움직이기 시작했을 때 첫 위치가 늦어지지 않도록 요청 간격보다 길게 두지 않습니다.
+ */
+enum class LocationTier(
+    val priority: Int,
+    val intervalMillis: Long,
+    val minUpdateIntervalMillis: Long,
+    val maxUpdateDelayMillis: Long
+) {
+    PASSIVE(Priority.PRIORITY_PASSIVE, 0L, 0L, 0L),                                          // 이미 받아둔 위치 재사용
+    BALANCED_BATCHED(Priority.PRIORITY_BALANCED_POWER_ACCURACY, 300_000L, 120_000L, 300_000L), // 정지 상태
+    BALANCED(Priority.PRIORITY_BALANCED_POWER_ACCURACY, 60_000L, 30_000L, 180_000L),           // 이동 중
+    HIGH_ACCURACY(Priority.PRIORITY_HIGH_ACCURACY, 60_000L, 30_000L, 0L)                       // 곧 격자를 벗어날 것 같음
+}
+
+/**
+ * 위치 단계별로 받은 위치 수.
+ */
+data class LocationFixStats(val fixesByTier: Map<LocationTier, Long>) {
+    val total: Long
+        get() = fixesByTier.values.sum()
+}
+
+/**
+ * 최근 위치로 다음 위치 요청 단계를 정하는 정책.
+ * 예보 격자(5km)를 판단하는 데는 높은 정확도가 필요 없으므로 평소에는 저전력으로 받고,
+ * 현재 속도로 곧 격자 경계를 넘을 것 같을 때만 HIGH_ACCURACY로 올립니다.
+ */
+object LocationAcquisitionPolicy {
+
+    private const val GRID_SPACING_METERS = 5_000.0
+    private const val STATIONARY_SPEED_MPS = 0.5f
+    private const val ESCALATE_HORIZON_SECONDS = 180.0
+
+    fun nextTier(location: Location, previous: Location?): LocationTier {
+        val speed = speedOf(location, previous)
+        if (speed < STATIONARY_SPEED_MPS) return LocationTier.BALANCED_BATCHED
+
+        // 현재 위치가 속한 격자의 경계까지 남은 거리
+        val (x, y) = GpsTransfer.convertToGridPosition(location.latitude, location.longitude)
+        val offset = max(abs(x - (x + 0.5).toInt()), abs(y - (y + 0.5).toInt()))
+        val marginMeters = (0.5 - offset) * GRID_SPACING_METERS
+
+        return if (marginMeters / speed < ESCALATE_HORIZON_SECONDS) {
+            LocationTier.HIGH_ACCURACY
+        } else {
+            LocationTier.BALANCED
+        }
+    }
+
+    private fun speedOf(location: Location, previous: Location?): Float {
+        if (location.hasSpeed()) return location.speed
+        if (previous == null) return 0f
+
+        val elapsedSeconds = (location.elapsedRealtimeNanos - previous.elapsedRealtimeNanos) / 1_000_000_000.0
+        if (elapsedSeconds <= 0.0) return 0f
+        return (location.distanceTo(previous) / elapsedSeconds).toFloat()
+    }
+}
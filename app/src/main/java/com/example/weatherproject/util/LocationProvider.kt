@@ -3,30 +3,42 @@ package com.example.weatherproject.util
 import android.Manifest
 import android.app.Application
 import android.content.pm.PackageManager
-import android.location.Geocoder
 import android.location.Location
 import android.os.Looper
+import android.os.SystemClock
 import android.util.Log
+import androidx.annotation.VisibleForTesting
 import androidx.core.content.ContextCompat
 import com.google.android.gms.location.*
+import com.google.android.gms.tasks.CancellationTokenSource
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.suspendCancellableCoroutine
 import kotlinx.coroutines.withContext
-import java.io.IOException
-import java.util.Locale
+import java.util.concurrent.atomic.AtomicLong
 import kotlin.coroutines.resume
 
-class LocationProvider(private val application: Application) {
+class LocationProvider(
+    private val application: Application,
+    private val geocodingCache: GeocodingCache
+) {
 
     private val fusedLocationClient: FusedLocationProviderClient =
         LocationServices.getFusedLocationProviderClient(application)
-    private val geocoder = Geocoder(application, Locale.KOREAN)
+
+    // 주소 조회용 scope (위치 업데이트마다 새 scope를 만들지 않음)
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.Main)
+    private var addressJob: Job? = null
 
     private var locationCallback: LocationCallback? = null
+    private var trackingTier = LocationTier.BALANCED
+    private val fixCounts = LocationTier.values().associateWith { AtomicLong() }
 
     private val _currentLocation = MutableStateFlow<Location?>(null)
     val currentLocation: StateFlow<Location?> = _currentLocation
@@ -41,49 +53,75 @@ class LocationProvider(private val application: Application) {
         ) == PackageManager.PERMISSION_GRANTED
     }
 
-    // [수정됨] Worker에서 직접 위치를 가져갈 수 있는 suspend 함수 추가
-    suspend fun getFreshLocation(): Location? = withContext(Dispatchers.IO) {
+    /**
+     * Worker에서 직접 위치를 가져가는 suspend 함수.
+     * maxAgeMillis 이내에 받아둔 위치가 있으면 새로 측정하지 않고 그대로 사용하며,
+     * 없을 때만 BALANCED 정확도로 한 번 측정합니다. (예보 격자 판단에는 충분한 정확도)
+     */
+    suspend fun getFreshLocation(maxAgeMillis: Long = WORKER_MAX_FIX_AGE_MILLIS): Location? = withContext(Dispatchers.IO) {
         if (!hasLocationPermission()) {
             Log.w("LocationProvider", "Location permission not granted for getFreshLocation.")
             return@withContext null
         }
+
+        val lastLocation = awaitLastLocation()
+        if (lastLocation != null && ageMillis(lastLocation) <= maxAgeMillis) {
+            Log.d("LocationProvider", "Reusing recent location: $lastLocation")
+            recordFix(LocationTier.PASSIVE)
+            return@withContext lastLocation
+        }
+
+        val request = CurrentLocationRequest.Builder()
+            .setPriority(LocationTier.BALANCED.priority)
+            .setMaxUpdateAgeMillis(maxAgeMillis)
+            .setDurationMillis(CURRENT_LOCATION_TIMEOUT_MILLIS)
+            .build()
+        val freshLocation = awaitCurrentLocation(request)
+        if (freshLocation != null) {
+            Log.d("LocationProvider", "Got fresh location: $freshLocation")
+            recordFix(LocationTier.BALANCED)
+            return@withContext freshLocation
+        }
+
+        // 바로 실패하지 않고 마지막 위치라도 사용
+        Log.w("LocationProvider", "Fresh location is null, falling back to last location.")
+        lastLocation
+    }
+
+    private suspend fun awaitLastLocation(): Location? = suspendCancellableCoroutine { continuation ->
+        try {
+            fusedLocationClient.lastLocation
+                .addOnSuccessListener { location: Location? ->
+                    if (continuation.isActive) continuation.resume(location)
+                }
+                .addOnFailureListener { e ->
+                    Log.e("LocationProvider", "Failed to get last location.", e)
+                    if (continuation.isActive) continuation.resume(null)
+                }
+        } catch (e: SecurityException) {
+            Log.e("LocationProvider", "SecurityException in awaitLastLocation.", e)
+            if (continuation.isActive) continuation.resume(null)
+        }
+    }
+
+    private suspend fun awaitCurrentLocation(request: CurrentLocationRequest): Location? =
         suspendCancellableCoroutine { continuation ->
+            val cancellationSource = CancellationTokenSource()
+            continuation.invokeOnCancellation { cancellationSource.cancel() }
             try {
-                fusedLocationClient.getCurrentLocation(Priority.PRIORITY_HIGH_ACCURACY, null)
+                fusedLocationClient.getCurrentLocation(request, cancellationSource.token)
                     .addOnSuccessListener { location: Location? ->
-                        if (continuation.isActive) {
-                            if (location != null) {
-                                Log.d("LocationProvider", "Got fresh location: $location")
-                                continuation.resume(location)
-                            } else {
-                                Log.w("LocationProvider", "Fresh location is null, trying last location.")
-                                // 바로 실패하지 않고 마지막 위치라도 가져오기 시도
-                                fusedLocationClient.lastLocation.addOnSuccessListener { lastLocation ->
-                                    if (continuation.isActive) {
-                                        continuation.resume(lastLocation)
-                                    }
-                                }.addOnFailureListener {
-                                    if (continuation.isActive) {
-                                        continuation.resume(null)
-                                    }
-                                }
-                            }
-                        }
+                        if (continuation.isActive) continuation.resume(location)
                     }
                     .addOnFailureListener { e ->
-                        Log.e("LocationProvider", "Failed to get fresh location.", e)
-                        if (continuation.isActive) {
-                            continuation.resume(null)
-                        }
+                        Log.e("LocationProvider", "Failed to get current location.", e)
+                        if (continuation.isActive) continuation.resume(null)
                     }
             } catch (e: SecurityException) {
-                Log.e("LocationProvider", "SecurityException in getFreshLocation.", e)
-                if (continuation.isActive) {
-                    continuation.resume(null)
-                }
+                Log.e("LocationProvider", "SecurityException in awaitCurrentLocation.", e)
+                if (continuation.isActive) continuation.resume(null)
             }
         }
-    }
 
 
     fun getCurrentLocationOnce() {
@@ -96,8 +134,8 @@ class LocationProvider(private val application: Application) {
             fusedLocationClient.lastLocation.addOnSuccessListener { location ->
                 if (location != null) {
                     Log.d("LocationProvider", "Got last known location: $location")
-                    _currentLocation.value = location
-                    getAddressFromLocation(location)
+                    recordFix(LocationTier.PASSIVE)
+                    onLocationFix(location)
                 }
             }
         } catch (e: SecurityException) {
@@ -105,39 +143,53 @@ class LocationProvider(private val application: Application) {
         }
     }
 
+    /**
+     * 위치 추적을 시작합니다.
+     * 처음에는 BALANCED로 시작하고, 위치를 받을 때마다 LocationAcquisitionPolicy에 따라 요청 단계를 조정합니다.
+     */
     fun startLocationTracking() {
         if (!hasLocationPermission()) {
             Log.w("LocationProvider", "Location permission not granted.")
             return
         }
-
-        val locationRequest = LocationRequest.Builder(
-            Priority.PRIORITY_HIGH_ACCURACY,
-            60000L
-        ).apply {
-            setMinUpdateIntervalMillis(30000L)
-        }.build()
+        if (locationCallback != null) return
 
         locationCallback = object : LocationCallback() {
             override fun onLocationResult(locationResult: LocationResult) {
+                // 일괄 전달된 경우 여러 위치가 한 번에 들어오므로 모두 집계하고 마지막 위치만 사용
+                locationResult.locations.forEach { recordFix(trackingTier) }
+
                 val lastLocation = locationResult.lastLocation
                 if (lastLocation != null) {
-                    Log.d("LocationProvider", "Location updated: $lastLocation")
-                    _currentLocation.value = lastLocation
-                    getAddressFromLocation(lastLocation)
+                    Log.d("LocationProvider", "Location updated ($trackingTier): $lastLocation")
+                    val previous = _currentLocation.value
+                    onLocationFix(lastLocation)
+
+                    val nextTier = LocationAcquisitionPolicy.nextTier(lastLocation, previous)
+                    if (nextTier != trackingTier) requestUpdates(nextTier)
                 }
             }
         }
+        requestUpdates(LocationTier.BALANCED)
+    }
+
+    private fun requestUpdates(tier: LocationTier) {
+        val callback = locationCallback ?: return
+
+        val locationRequest = LocationRequest.Builder(tier.priority, tier.intervalMillis)
+            .setMinUpdateIntervalMillis(tier.minUpdateIntervalMillis)
+            .setMaxUpdateDelayMillis(tier.maxUpdateDelayMillis)
+            .build()
 
         try {
-            val callback = locationCallback
-            if (callback != null) {
-                fusedLocationClient.requestLocationUpdates(
-                    locationRequest,
-                    callback,
-                    Looper.getMainLooper()
-                )
-            }
+            // 같은 콜백으로 다시 요청하면 기존 요청을 대체함
+            fusedLocationClient.requestLocationUpdates(
+                locationRequest,
+                callback,
+                Looper.getMainLooper()
+            )
+            trackingTier = tier
+            Log.d("LocationProvider", "Location tracking tier: $tier")
         } catch (e: SecurityException) {
             Log.e("LocationProvider", "Failed to start location tracking.", e)
         }
@@ -152,51 +204,50 @@ class LocationProvider(private val application: Application) {
         }
     }
 
+    /**
+     * 위치 요청 단계별로 받은 위치 수를 반환합니다.
+     */
+    fun getFixStats(): LocationFixStats = LocationFixStats(fixCounts.mapValues { it.value.get() })
+
+    private fun recordFix(tier: LocationTier) {
+        fixCounts.getValue(tier).incrementAndGet()
+    }
+
+    private fun ageMillis(location: Location): Long =
+        (SystemClock.elapsedRealtimeNanos() - location.elapsedRealtimeNanos) / 1_000_000
+
+    /**
+     * 받은 위치를 currentLocation에 반영하고 주소를 찾습니다.
+     * 테스트에서는 FusedLocationProvider 대신 이 함수로 위치를 넣습니다.
+     */
+    @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE)
+    internal fun onLocationFix(location: Location) {
+        _currentLocation.value = location
+        getAddressFromLocation(location)
+    }
+
+    /**
+     * 위치에 해당하는 주소를 찾아 address에 반영합니다.
+     * 새 위치가 들어오면 이전 조회 결과는 더 이상 필요 없으므로 취소합니다.
+     */
     private fun getAddressFromLocation(location: Location) {
-        CoroutineScope(Dispatchers.Main).launch {
-            var fetchedAddress = "주소 정보 없음"
-            withContext(Dispatchers.IO) {
-                try {
-                    val addresses = geocoder.getFromLocation(location.latitude, location.longitude, 1)
-                    if (addresses != null && addresses.isNotEmpty()) {
-                        val addr = addresses[0]
-                        val addressBuilder = StringBuilder()
-
-                        val adminArea = addr.adminArea
-                        if (adminArea != null) {
-                            addressBuilder.append(adminArea.replace("특별시", "시").replace("광역시", "시"))
-                        }
-
-                        val locality = addr.subLocality ?: addr.locality
-                        if (locality != null) {
-                            if (addressBuilder.isNotEmpty()) addressBuilder.append(" ")
-                            addressBuilder.append(locality)
-                        }
-
-                        val thoroughfare = addr.thoroughfare
-                        if (thoroughfare != null) {
-                            if (addressBuilder.isNotEmpty()) addressBuilder.append(" ")
-                            addressBuilder.append(thoroughfare)
-                        }
-                        
-                        var finalAddress = addressBuilder.toString()
-                        if (finalAddress.isBlank()) {
-                            val fullAddress = addr.getAddressLine(0)
-                            if (fullAddress != null) {
-                                finalAddress = fullAddress.split(" ").take(3).joinToString(" ")
-                            }
-                        }
-
-                        if (finalAddress.isNotBlank()) {
-                            fetchedAddress = finalAddress
-                        }
-                    }
-                } catch (e: Exception) {
-                    Log.e("Geocoder", "Error fetching address", e)
-                    fetchedAddress = "주소 확인 실패"
-                }
+        addressJob?.cancel()
+        addressJob = scope.launch {
+            val fetchedAddress = try {
+                geocodingCache.reverse(location.latitude, location.longitude) ?: "주소 정보 없음"
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: Exception) {
+                Log.e("Geocoder", "Error fetching address", e)
+                "주소 확인 실패"
             }
             _address.value = fetchedAddress
         }
     }
+
+    companion object {
+        // Worker는 이 시간 이내의 위치면 새로 측정하지 않음
+        const val WORKER_MAX_FIX_AGE_MILLIS = 10 * 60 * 1000L
+        private const val CURRENT_LOCATION_TIMEOUT_MILLIS = 30_000L
+    }
 }
\ No newline at end of file
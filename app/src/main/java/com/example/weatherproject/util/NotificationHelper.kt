@@ -11,10 +11,17 @@ import com.example.weatherproject.MainActivity
 import com.example.weatherproject.R
 
 object NotificationHelper {
-    fun showNotification(context: Context, title: String, content: String) {
+    /**
+     * @param notificationId 같은 ID의 알림은 서로 덮어씁니다. 기본값은 매번 새 알림이 되도록 현재 시각을 사용합니다.
+     */
+    fun showNotification(
+        context: Context,
+        title: String,
+        content: String,
+        notificationId: Int = System.currentTimeMillis().toInt()
+    ) {
         val channelId = "weather_alert_channel"
         val channelName = "Weather Alerts"
-        val notificationId = System.currentTimeMillis().toInt()
 
         val notificationManager = context.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
 
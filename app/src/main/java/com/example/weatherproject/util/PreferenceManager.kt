@@ -2,12 +2,13 @@ package com.example.weatherproject.util
 
 import android.content.Context
 import android.content.SharedPreferences
+import android.util.Log
 import com.example.weatherproject.data.WeatherState
 import com.google.gson.Gson
+import com.google.gson.JsonParseException
 
-class PreferenceManager(context: Context) {
+class PreferenceManager(context: Context, private val gson: Gson) {
     private val prefs: SharedPreferences = context.getSharedPreferences("weather_app_prefs", Context.MODE_PRIVATE)
-    private val gson = Gson()
 
     companion object {
         private const val KEY_TEMP_ADJUSTMENT = "temp_adjustment"
@@ -15,6 +16,7 @@ class PreferenceManager(context: Context) {
         private const val KEY_LAST_WEATHER_STATE = "last_weather_state"
         private const val KEY_LAST_ALERT_TIME = "last_alert_time"
         private const val KEY_DAILY_TEMP = "daily_temp_" // prefix for daily temp keys
+        private const val KEY_PREPARED_BRIEFING = "prepared_briefing_" // prefix + alarm id
     }
 
     // 특정 날짜의 기온 저장 (예: "20231025" -> 20)
@@ -65,8 +67,32 @@ class PreferenceManager(context: Context) {
 
     // 마지막 날씨 정보 불러오기
     fun getWeatherState(): WeatherState? {
-        val json = prefs.getString(KEY_LAST_WEATHER_STATE, null)
-        return gson.fromJson(json, WeatherState::class.java)
+        val json = prefs.getString(KEY_LAST_WEATHER_STATE, null) ?: return null
+        return try {
+            gson.fromJson(json, WeatherState::class.java)
+        } catch (e: JsonParseException) {
+            // 이전 버전(문자열 기반 모델)으로 저장된 값은 읽을 수 없으므로 버림
+            Log.w("PreferenceManager", "Discarding incompatible saved weather state", e)
+            prefs.edit().remove(KEY_LAST_WEATHER_STATE).apply()
+            null
+        }
+    }
+
+    // 알람 전에 미리 만들어 둔 브리핑 저장
+    fun savePreparedBriefing(alarmId: Int, briefing: PreparedBriefing) {
+        prefs.edit().putString(KEY_PREPARED_BRIEFING + alarmId, gson.toJson(briefing)).apply()
+    }
+
+    // 미리 만들어 둔 브리핑을 꺼내고 지움 (한 번만 사용)
+    fun takePreparedBriefing(alarmId: Int): PreparedBriefing? {
+        val key = KEY_PREPARED_BRIEFING + alarmId
+        val json = prefs.getString(key, null) ?: return null
+        prefs.edit().remove(key).apply()
+        return try {
+            gson.fromJson(json, PreparedBriefing::class.java)
+        } catch (e: JsonParseException) {
+            null
+        }
     }
 
     // 범용 Boolean 값 저장을 위한 함수
@@ -0,0 +1,134 @@
+package com.example.weatherproject.util
+
+import android.app.Application
+import android.util.Log
+
+/**
+ * 행정구역 하나.
+ * @param level 1 = 시/도, 2 = 시/군/구, 3 = 일반구/읍/면/동
+ * @param fullName 화면에 표시할 전체 이름 (예: "경기도 성남시 분당구")
+ * @param nx 기상청 격자 X (미리 계산됨)
+ * @param ny 기상청 격자 Y (미리 계산됨)
+ */
+data class Region(
+    val level: Int,
+    val fullName: String,
+    val latitude: Double,
+    val longitude: Double,
+    val nx: Int,
+    val ny: Int
+)
+
+/**
+ * 앱에 포함된 행정구역 색인(assets/regions.tsv)으로 지역을 찾는 오프라인 지명 사전.
+ * Geocoder 없이 입력하는 동안 바로 검색할 수 있으며, 찾지 못했을 때만 Geocoder를 사용합니다.
+ *
+ * 각 지역은 여러 키로 색인됩니다. (예: 분당구 → "분당구", "분당", "성남분당구", "경기도성남시분당구" ...)
+ * 검색어의 공백은 무시하므로 "서울 강남"도 "서울강남구"와 일치합니다.
+ */
+class RegionGazetteer(private val application: Application) {
+
+    private class Index(val regions: List<Region>, val trie: HangulPrefixTrie)
+
+    private val index: Index by lazy { load() }
+
+    /**
+     * 색인을 미리 읽어 둡니다. 첫 검색이 파일 읽기를 기다리지 않도록 백그라운드에서 호출합니다.
+     */
+    fun preload() {
+        index
+    }
+
+    /**
+     * 검색어로 시작하는 지역을 찾습니다.
+     * 정확히 일치하는 지역을 먼저, 오타를 허용해 찾은 지역을 나중에 보여주며, 같은 조건이면 상위 행정구역이 먼저입니다.
+     */
+    fun search(query: String, limit: Int = DEFAULT_LIMIT): List<Region> {
+        val normalized = normalize(query)
+        if (normalized.isEmpty()) return emptyList()
+
+        // 짧은 검색어는 오타를 허용하면 거의 모든 지역이 일치하므로 정확히 일치하는 것만 찾음
+        val maxEdits = if (normalized.length >= TYPO_MIN_LENGTH) 1 else 0
+        val index = index
+        return index.trie.search(normalized, maxEdits).entries
+            .sortedWith(
+                compareBy<Map.Entry<Int, Int>> { it.value }
+                    .thenBy { index.regions[it.key].level }
+                    .thenBy { index.regions[it.key].fullName.length }
+            )
+            .take(limit)
+            .map { index.regions[it.key] }
+    }
+
+    private fun load(): Index {
+        val start = System.nanoTime()
+        val regions = ArrayList<Region>(INITIAL_CAPACITY)
+        val aliases = HashMap<String, List<String>>()
+
+        application.assets.open(ASSET_NAME).bufferedReader().useLines { lines ->
+            lines.filter { it.isNotBlank() && !it.startsWith("#") }.forEach { line ->
+                val columns = line.split('\t')
+                val region = Region(
+                    level = columns[0].toInt(),
+                    fullName = columns[1],
+                    latitude = columns[2].toDouble(),
+                    longitude = columns[3].toDouble(),
+                    nx = columns[4].toInt(),
+                    ny = columns[5].toInt()
+                )
+                regions.add(region)
+                columns.getOrNull(6)?.takeIf { it.isNotBlank() }?.let {
+                    aliases[region.fullName] = it.split(',')
+                }
+            }
+        }
+
+        val builder = HangulPrefixTrie.Builder()
+        regions.forEachIndexed { id, region ->
+            keysOf(region, aliases).forEach { builder.add(it, id) }
+        }
+        val trie = builder.build()
+
+        Log.d("RegionGazetteer", "Loaded ${regions.size} regions in ${(System.nanoTime() - start) / 1_000_000}ms")
+        return Index(regions, trie)
+    }
+
+    /**
+     * 지역 이름과, 상위 행정구역 이름(전체/줄임/생략)을 앞에 붙인 조합을 모두 키로 만듭니다.
+     */
+    private fun keysOf(region: Region, aliases: Map<String, List<String>>): Set<String> {
+        val parts = region.fullName.split(' ')
+        var prefixes = listOf("")
+        for (depth in 1 until parts.size) {
+            val ancestor = parts.subList(0, depth).joinToString(" ")
+            val names = namesOf(parts[depth - 1], aliases[ancestor].orEmpty())
+            prefixes = prefixes.flatMap { prefix -> listOf(prefix) + names.map { prefix + it } }
+        }
+
+        val ownNames = namesOf(parts.last(), aliases[region.fullName].orEmpty())
+        return prefixes.flatMapTo(HashSet()) { prefix -> ownNames.map { normalize(prefix + it) } }
+    }
+
+    /**
+     * 이름 자체와, 끝의 시/군/구 등을 뗀 줄임 이름(2글자 이상일 때)과 별칭.
+     */
+    private fun namesOf(name: String, aliases: List<String>): List<String> {
+        val names = mutableListOf(name)
+        val suffix = ADMIN_SUFFIXES.firstOrNull { name.endsWith(it) }
+        if (suffix != null && name.length - suffix.length >= 2) {
+            names.add(name.removeSuffix(suffix))
+        }
+        names.addAll(aliases)
+        return names.distinct()
+    }
+
+    private fun normalize(text: String): String = text.filterNot { it.isWhitespace() }
+
+    companion object {
+        private const val ASSET_NAME = "regions.tsv"
+        private const val INITIAL_CAPACITY = 512
+        private const val DEFAULT_LIMIT = 10
+        private const val TYPO_MIN_LENGTH = 3
+        private val ADMIN_SUFFIXES = listOf("특별자치시", "특별자치도", "특별시", "광역시", "시", "군", "구", "도", "읍", "면", "동")
+    }
+}
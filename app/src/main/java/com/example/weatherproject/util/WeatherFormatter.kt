@@ -0,0 +1,95 @@
+package com.example.weatherproject.util
+
+import com.example.weatherproject.common.Constants
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.PrecipitationType
+import com.example.weatherproject.data.SkyCondition
+import java.text.SimpleDateFormat
+import java.util.Date
+import java.util.Locale
+
+/**
+ * 숫자 날씨 값을 화면/알림에 표시할 문자열로 바꾸는 함수 모음.
+ * WeatherState에는 숫자만 들어 있으므로, 문자열은 Compose 화면과 알림을 만들 때만 여기서 만듭니다.
+ */
+object WeatherFormatter {
+
+    // 예: 12°, 값이 없으면 --°
+    fun temperature(value: Double?): String = "${degrees(value)}°"
+
+    // 단위 없이 정수 부분만 (예: "12"), 값이 없으면 "--"
+    fun degrees(value: Double?): String = value?.toInt()?.toString() ?: "--"
+
+    fun humidity(value: Double?): String = "${value?.toInt() ?: "--"}%"
+
+    fun precipitation(value: Double?): String = "${value ?: "--"} mm"
+
+    fun windSpeed(value: Double?): String = "${value ?: "--"} m/s"
+
+    fun pressure(value: Double?): String = "${value?.toInt() ?: "--"} hPa"
+
+    fun visibility(value: Double?): String = "${value?.toInt() ?: "--"} km"
+
+    fun uvIndex(value: Int?): String = value?.toString() ?: "--"
+
+    /**
+     * 현재 날씨 설명. 아직 데이터를 받기 전이면 로딩 문구를 표시합니다.
+     */
+    fun description(weather: CurrentWeather): String =
+        if (weather.temperature == null && weather.sky == SkyCondition.UNKNOWN) {
+            "날씨 정보를 불러오는 중..."
+        } else {
+            weather.sky.label
+        }
+
+    fun iconUrl(sky: SkyCondition, precipitationType: PrecipitationType = PrecipitationType.NONE): String {
+        val iconId = when {
+            // 강수 형태(PTY) 우선 확인 (눈 > 비)
+            precipitationType.isSnow -> "13d" // 눈
+            precipitationType.isRain -> "10d" // 비
+
+            // 하늘 상태(SKY) 확인
+            sky == SkyCondition.OVERCAST -> "03d" // 흐림
+            sky == SkyCondition.MOSTLY_CLOUDY || sky == SkyCondition.PARTLY_CLOUDY -> "02d" // 구름
+            else -> "01d" // 맑음 (기본값)
+        }
+        return "${Constants.WEATHER_ICON_BASE_URL}${iconId}@2x.png"
+    }
+
+    fun iconUrl(weather: CurrentWeather): String {
+        // 아직 데이터가 없으면 아이콘 없음
+        if (weather.temperature == null && weather.sky == SkyCondition.UNKNOWN) return ""
+        return iconUrl(weather.sky, weather.precipitationType)
+    }
+
+    // HHmm → HH:mm
+    fun hourTime(time: String): String {
+        return if (time.length == 4) {
+            "${time.substring(0, 2)}:${time.substring(2, 4)}"
+        } else {
+            time
+        }
+    }
+
+    // yyyyMMdd → MM/dd (E)
+    fun weekDay(date: String): String {
+        return try {
+            val parsedDate = SimpleDateFormat("yyyyMMdd", Locale.KOREAN).parse(date)
+            SimpleDateFormat("MM/dd (E)", Locale.KOREAN).format(parsedDate ?: return date)
+        } catch (e: Exception) {
+            date
+        }
+    }
+
+    fun yesterdayComparison(diff: Int?): String? = when {
+        diff == null -> null
+        diff > 0 -> "어제보다 ${diff}° 높아요 🔺"
+        diff < 0 -> "어제보다 ${-diff}° 낮아요 🔻"
+        else -> "어제와 기온이 같아요"
+    }
+
+    fun lastUpdated(millis: Long?): String {
+        if (millis == null) return "업데이트 정보 없음"
+        return "업데이트: " + SimpleDateFormat("MM월 dd일 HH:mm", Locale.KOREAN).format(Date(millis))
+    }
+}
@@ -3,23 +3,188 @@ package com.example.weatherproject.util
 import com.example.weatherproject.data.CurrentWeather
 import com.example.weatherproject.data.WeatherDetails
 import com.example.weatherproject.data.HourlyForecast
+import com.example.weatherproject.data.SkyCondition
 import java.util.Calendar
-import kotlin.math.abs
 
+/**
+ * 날씨 요약 문구를 만드는 규칙 표.
+ *
+ * 계절 × 체감온도 구간 × 하늘 × 바람 × 습도 × 일교차 조합마다 나올 문구를 처음 한 번만 계산해 표로 만들어 두고,
+ * 요약할 때는 조합 번호를 계산해 표에서 꺼내기만 합니다. (문자열 검사/생성 없음)
+ * 규칙을 바꿀 때는 아래 BASE_MESSAGES, MODIFIERS만 고치면 됩니다.
+ */
 object WeatherSummarizer {
 
+    private enum class Season { SPRING_FALL, SUMMER, WINTER }
+
+    private enum class Sky { CLEAR, CLOUDY, UNKNOWN }
+
+    private enum class Wind { CALM, STRONG, GALE }
+
+    // 문구의 특징 (이전에는 message.contains("포근") 등으로 확인하던 것)
+    private const val TAG_MILD = 1  // 포근/온화
+    private const val TAG_WIND = 2  // 바람 언급
+
+    private class Phrase(val text: String, val tags: Int = 0)
+
+    /**
+     * 계절별 기본 문구. 체감온도가 minFeelsLike 이상인 첫 번째 문구를 사용합니다.
+     */
+    private class BaseMessage(val minFeelsLike: Int, val phrase: Phrase)
+
+    private val BASE_MESSAGES = mapOf(
+        Season.WINTER to listOf(
+            BaseMessage(12, Phrase("겨울이지만 봄처럼 포근한 날씨예요.", TAG_MILD)),
+            BaseMessage(5, Phrase("겨울치고는 비교적 온화한 편이에요.", TAG_MILD)),
+            BaseMessage(-5, Phrase("공기가 꽤 차가운 날씨예요. 따뜻하게 입으세요.")),
+            BaseMessage(Int.MIN_VALUE, Phrase("매서운 한파가 찾아왔어요. 보온에 신경 쓰세요."))
+        ),
+        Season.SUMMER to listOf(
+            BaseMessage(33, Phrase("가만히 있어도 땀이 나는 폭염이에요.")),
+            BaseMessage(28, Phrase("무더운 여름 날씨입니다. 수분을 자주 섭취하세요.")),
+            BaseMessage(23, Phrase("활동하기 적당하지만 조금 더울 수 있어요.")),
+            BaseMessage(Int.MIN_VALUE, Phrase("여름치고는 선선해서 활동하기 좋아요."))
+        ),
+        Season.SPRING_FALL to listOf(
+            BaseMessage(25, Phrase("초여름처럼 다소 더운 날씨예요.")),
+            BaseMessage(18, Phrase("나들이하기 딱 좋은 쾌적한 날씨예요!")),
+            BaseMessage(10, Phrase("선선한 바람이 불어 산책하기 좋아요.", TAG_WIND)),
+            BaseMessage(5, Phrase("아침저녁으로 쌀쌀하니 겉옷을 챙기세요.")),
+            BaseMessage(Int.MIN_VALUE, Phrase("계절보다 날씨가 많이 춥네요."))
+        )
+    )
+
+    /**
+     * 표를 만들 때 규칙이 보는 조건. feelsLike는 체감온도 구간의 대표값입니다.
+     */
+    private class Conditions(
+        val season: Season,
+        val feelsLike: Int,
+        val sky: Sky,
+        val wind: Wind,
+        val humid: Boolean,
+        val wideRange: Boolean
+    )
+
+    private sealed interface Edit
+    private object Keep : Edit
+    private class Replace(val phrase: Phrase) : Edit
+    // maxLength: 현재 문구가 이 길이보다 짧을 때만 덧붙임
+    private class Append(val phrase: Phrase, val maxLength: Int = Int.MAX_VALUE) : Edit
+
+    /**
+     * 기본 문구를 보완하는 규칙. 순서대로 적용되며, 조건이 맞으면 현재 문구에 tag가 있는지에 따라 둘 중 하나를 적용합니다.
+     */
+    private class Modifier(
+        val applies: Conditions.() -> Boolean,
+        val edit: Edit,
+        val tag: Int = 0,
+        val editIfTagged: Edit = edit
+    )
+
+    private val MODIFIERS = listOf(
+        // 겨울철 흐림: 포근하다고 했으면 덧붙이고, 아니면 흐림 문구로 교체
+        Modifier(
+            applies = { season == Season.WINTER && sky == Sky.CLOUDY && feelsLike < 10 },
+            edit = Replace(Phrase("하늘이 흐려 실제보다 더 쌀쌀하게 느껴지는 날씨예요.")),
+            tag = TAG_MILD,
+            editIfTagged = Append(Phrase(" 그래도 흐린 날씨라 약간 쌀쌀할 수 있어요."))
+        ),
+        // 겨울철 맑지만 영하
+        Modifier(
+            applies = { season == Season.WINTER && sky == Sky.CLEAR && feelsLike < 0 },
+            edit = Replace(Phrase("하늘은 맑지만 공기가 매우 차가우니 보온에 신경 쓰세요."))
+        ),
+        // 겨울철 바람: 포근하다고 했지만 바람이 불면 반전
+        Modifier(
+            applies = { season == Season.WINTER && wind != Wind.CALM && feelsLike >= 5 },
+            edit = Append(Phrase(" 찬 바람 때문에 더 춥게 느껴질 수 있어요.", TAG_WIND)),
+            tag = TAG_MILD,
+            editIfTagged = Replace(Phrase("기온은 높지만 찬 바람이 불어 체감온도는 낮아요.", TAG_WIND))
+        ),
+        // 겨울철 바람: 이미 추운데 바람까지 불면 강조 (바람 이야기를 이미 했으면 생략)
+        Modifier(
+            applies = { season == Season.WINTER && wind != Wind.CALM && feelsLike < 5 },
+            edit = Append(Phrase(" 칼바람 때문에 체감온도가 뚝 떨어졌어요.", TAG_WIND)),
+            tag = TAG_WIND,
+            editIfTagged = Keep
+        ),
+        // 여름철 무더위
+        Modifier(
+            applies = { season == Season.SUMMER && humid && feelsLike >= 25 },
+            edit = Replace(Phrase("습도가 높아 불쾌지수가 높고 후텁지근해요."))
+        ),
+        // 봄/가을 일교차 (메시지가 너무 길어지지 않게)
+        Modifier(
+            applies = { season == Season.SPRING_FALL && wideRange },
+            edit = Append(Phrase(" 일교차가 크니 감기 조심하세요."), maxLength = 30)
+        ),
+        // 강풍 특보 (계절 무관)
+        Modifier(
+            applies = { wind == Wind.GALE },
+            edit = Replace(Phrase("바람이 매우 강하게 불어요. 시설물 관리에 유의하세요.", TAG_WIND))
+        )
+    )
+
+    // 위 규칙에 쓰인 체감온도 기준값 전부 (규칙에 새 기준값을 쓰면 여기에도 추가)
+    private val FEELS_LIKE_BOUNDS = intArrayOf(-5, 0, 5, 10, 12, 18, 23, 25, 28, 33)
+    private val FEELS_LIKE_BANDS = FEELS_LIKE_BOUNDS.size + 1
+
+    private const val STRONG_WIND = 4.0
+    private const val GALE_WIND = 10.0
+    private const val HUMID_THRESHOLD = 70
+    private const val WIDE_RANGE = 10
+    private const val UPCOMING_HOURS = 6
+
+    private val SKY_COUNT = Sky.values().size
+    private val WIND_COUNT = Wind.values().size
+
+    // 월(1~12) → 계절
+    private val SEASON_BY_MONTH = Array(12) { index ->
+        when (index + 1) {
+            12, 1, 2 -> Season.WINTER
+            6, 7, 8 -> Season.SUMMER
+            else -> Season.SPRING_FALL
+        }
+    }
+
+    private val messages: Array<String>
+    private val table: ByteArray
+
+    init {
+        val distinct = LinkedHashMap<String, Int>()
+        val seasons = Season.values()
+        val skies = Sky.values()
+        val winds = Wind.values()
+        val compiled = ByteArray(seasons.size * FEELS_LIKE_BANDS * SKY_COUNT * WIND_COUNT * 2 * 2)
+
+        for (season in seasons) for (band in 0 until FEELS_LIKE_BANDS) for (sky in skies) for (wind in winds) {
+            for (humid in booleanArrayOf(false, true)) for (wideRange in booleanArrayOf(false, true)) {
+                val conditions = Conditions(season, representative(band), sky, wind, humid, wideRange)
+                val text = evaluate(conditions)
+                val messageIndex = distinct.getOrPut(text) { distinct.size }
+                // 표는 문구 번호를 Byte로 저장하므로 서로 다른 문구는 128개까지
+                require(messageIndex <= Byte.MAX_VALUE) { "Too many distinct summary messages: ${distinct.size}" }
+                compiled[cellIndex(season.ordinal, band, sky.ordinal, wind.ordinal, humid, wideRange)] = messageIndex.toByte()
+            }
+        }
+
+        messages = distinct.keys.toTypedArray()
+        table = compiled
+    }
+
     fun getSummary(
         currentWeather: CurrentWeather,
         weatherDetails: WeatherDetails,
-        hourlyForecast: List<HourlyForecast>
+        hourlyForecast: List<HourlyForecast>,
+        month: Int = Calendar.getInstance().get(Calendar.MONTH) + 1
     ): String {
-        val actualTemp = currentWeather.temperature.replace(Regex("[^0-9-]"), "").toIntOrNull() ?: 0
-        val feelsLikeTemp = currentWeather.feelsLike.replace(Regex("[^0-9-]"), "").toIntOrNull() ?: 0
-        val maxTemp = currentWeather.maxTemp.replace(Regex("[^0-9-]"), "").toIntOrNull()
-        val minTemp = currentWeather.minTemp.replace(Regex("[^0-9-]"), "").toIntOrNull()
-        val windSpeed = weatherDetails.wind.replace(Regex("[^0-9.]"), "").toDoubleOrNull() ?: 0.0
-        val humidity = weatherDetails.humidity.replace(Regex("[^0-9]"), "").toIntOrNull() ?: 0
-        val precipitation = weatherDetails.precipitation.replace(Regex("[^0-9.]"), "").toDoubleOrNull() ?: 0.0
+        val feelsLikeTemp = currentWeather.feelsLike?.toInt() ?: 0
+        val maxTemp = currentWeather.maxTemp?.toInt()
+        val minTemp = currentWeather.minTemp?.toInt()
+        val windSpeed = weatherDetails.windSpeed ?: 0.0
+        val humidity = weatherDetails.humidity?.toInt() ?: 0
+        val precipitation = weatherDetails.precipitation ?: 0.0
 
         // 1. 강수/눈 예보 (최우선 - 위험하거나 특별한 상황이므로 즉시 반환)
         if (precipitation > 0) {
@@ -29,99 +194,79 @@ object WeatherSummarizer {
                 else -> "비가 오고 있어요. 우산을 꼭 챙기세요."
             }
         }
-        
-        val upcomingPtyCodes = hourlyForecast.take(6).map { it.pty }.filter { it != "0" }.toSet()
-        if (upcomingPtyCodes.isNotEmpty()) {
-            if (upcomingPtyCodes.any { it == "3" || it == "2" }) return "곧 눈이 올 수 있어요."
-            if (upcomingPtyCodes.any { it == "1" || it == "4" }) return "곧 비 소식이 있으니 우산을 챙기세요."
-        }
 
-        // 2. 계절과 기온 기반 기본 메시지 선정
-        val currentMonth = Calendar.getInstance().get(Calendar.MONTH) + 1
-        var message = ""
-        val isWinter = currentMonth == 12 || currentMonth <= 2
-        val isSummer = currentMonth in 6..8
-        val dailyRange = if (maxTemp != null && minTemp != null) maxTemp - minTemp else 0
-        
-        // 하늘 상태 확인
-        val isCloudy = currentWeather.description.contains("흐림") || currentWeather.description.contains("구름")
-        val isClear = currentWeather.description.contains("맑음")
-
-        message = if (isWinter) {
-            when {
-                feelsLikeTemp >= 12 -> "겨울이지만 봄처럼 포근한 날씨예요."
-                feelsLikeTemp >= 5 -> "겨울치고는 비교적 온화한 편이에요."
-                feelsLikeTemp >= -5 -> "공기가 꽤 차가운 날씨예요. 따뜻하게 입으세요."
-                else -> "매서운 한파가 찾아왔어요. 보온에 신경 쓰세요."
-            }
-        } else if (isSummer) {
-            when {
-                feelsLikeTemp >= 33 -> "가만히 있어도 땀이 나는 폭염이에요."
-                feelsLikeTemp >= 28 -> "무더운 여름 날씨입니다. 수분을 자주 섭취하세요."
-                feelsLikeTemp >= 23 -> "활동하기 적당하지만 조금 더울 수 있어요."
-                else -> "여름치고는 선선해서 활동하기 좋아요."
-            }
-        } else { // 봄/가을
-            when {
-                feelsLikeTemp >= 25 -> "초여름처럼 다소 더운 날씨예요."
-                feelsLikeTemp >= 18 -> "나들이하기 딱 좋은 쾌적한 날씨예요!"
-                feelsLikeTemp >= 10 -> "선선한 바람이 불어 산책하기 좋아요."
-                feelsLikeTemp >= 5 -> "아침저녁으로 쌀쌀하니 겉옷을 챙기세요."
-                else -> "계절보다 날씨가 많이 춥네요."
-            }
+        var upcomingSnow = false
+        var upcomingRain = false
+        for (i in 0 until minOf(UPCOMING_HOURS, hourlyForecast.size)) {
+            val type = hourlyForecast[i].precipitationType
+            upcomingSnow = upcomingSnow || type.isSnow
+            upcomingRain = upcomingRain || type.isRain
         }
+        if (upcomingSnow) return "곧 눈이 올 수 있어요."
+        if (upcomingRain) return "곧 비 소식이 있으니 우산을 챙기세요."
 
-        // 3. 하늘 상태/바람/습도 정보를 바탕으로 메시지 보완 (Modifier)
-        
-        // 겨울철 하늘 상태 (흐림/맑음) 보정
-        if (isWinter) {
-             if (isCloudy && feelsLikeTemp < 10) {
-                 if (message.contains("포근") || message.contains("온화")) {
-                     message += " 그래도 흐린 날씨라 약간 쌀쌀할 수 있어요."
-                 } else {
-                     message = "하늘이 흐려 실제보다 더 쌀쌀하게 느껴지는 날씨예요."
-                 }
-             } else if (isClear && feelsLikeTemp < 0) {
-                 message = "하늘은 맑지만 공기가 매우 차가우니 보온에 신경 쓰세요."
-             }
+        // 2. 계절/기온/하늘/바람/습도/일교차 조합으로 표에서 문구 선택
+        val season = SEASON_BY_MONTH[(month - 1).coerceIn(0, 11)]
+        val sky = when {
+            currentWeather.sky == SkyCondition.CLEAR -> Sky.CLEAR
+            currentWeather.sky.isCloudy -> Sky.CLOUDY
+            else -> Sky.UNKNOWN
         }
+        val wind = when {
+            windSpeed >= GALE_WIND -> Wind.GALE
+            windSpeed >= STRONG_WIND -> Wind.STRONG
+            else -> Wind.CALM
+        }
+        val humid = humidity >= HUMID_THRESHOLD
+        val wideRange = maxTemp != null && minTemp != null && maxTemp - minTemp >= WIDE_RANGE
+
+        val cell = cellIndex(season.ordinal, feelsLikeBand(feelsLikeTemp), sky.ordinal, wind.ordinal, humid, wideRange)
+        return messages[table[cell].toInt()]
+    }
+
+    /**
+     * 한 조합에 대해 기본 문구를 고르고 보완 규칙을 순서대로 적용합니다. 표를 만들 때만 사용합니다.
+     */
+    private fun evaluate(conditions: Conditions): String {
+        val base = BASE_MESSAGES.getValue(conditions.season).first { conditions.feelsLike >= it.minFeelsLike }
+        var text = base.phrase.text
+        var tags = base.phrase.tags
 
-        // 바람 (겨울철 칼바람)
-        if (isWinter && windSpeed >= 4.0) {
-            if (feelsLikeTemp >= 5) {
-                // 포근하다고 했지만 바람이 불면 -> 반전
-                if (message.contains("온화") || message.contains("포근")) {
-                    message = "기온은 높지만 찬 바람이 불어 체감온도는 낮아요."
-                } else {
-                    message += " 찬 바람 때문에 더 춥게 느껴질 수 있어요."
+        for (modifier in MODIFIERS) {
+            if (!modifier.applies(conditions)) continue
+            val edit = if (modifier.tag != 0 && (tags and modifier.tag) != 0) modifier.editIfTagged else modifier.edit
+            when (edit) {
+                is Replace -> {
+                    text = edit.phrase.text
+                    tags = edit.phrase.tags
                 }
-            } else {
-                // 이미 추운데 바람까지 불면 -> 강조
-                // 흐림 멘트 등과 겹치지 않게 '칼바람' 키워드가 없을 때만 추가
-                if (!message.contains("바람")) {
-                    message += " 칼바람 때문에 체감온도가 뚝 떨어졌어요."
+                is Append -> if (text.length < edit.maxLength) {
+                    text += edit.phrase.text
+                    tags = tags or edit.phrase.tags
                 }
+                Keep -> Unit
             }
         }
-        
-        // 습도 (여름철 무더위)
-        if (isSummer && humidity >= 70 && feelsLikeTemp >= 25) {
-            message = "습도가 높아 불쾌지수가 높고 후텁지근해요."
-        }
-        
-        // 일교차 (봄/가을철에 주로 체크, 겨울엔 중요도 낮춤)
-        if (!isSummer && !isWinter && dailyRange >= 10) {
-            // 메시지가 너무 길어지지 않게 체크
-            if (message.length < 30) {
-                message += " 일교차가 크니 감기 조심하세요."
-            }
-        }
-        
-        // 강풍 특보 (계절 무관하게 바람이 매우 강할 때)
-        if (windSpeed >= 10.0) {
-             message = "바람이 매우 강하게 불어요. 시설물 관리에 유의하세요."
-        }
+        return text
+    }
+
+    private fun feelsLikeBand(feelsLike: Int): Int {
+        var band = 0
+        while (band < FEELS_LIKE_BOUNDS.size && feelsLike >= FEELS_LIKE_BOUNDS[band]) band++
+        return band
+    }
+
+    // 구간에 속하는 아무 값이나 대표값으로 쓸 수 있음 (규칙의 기준값이 모두 구간 경계이므로)
+    private fun representative(band: Int): Int =
+        if (band == 0) FEELS_LIKE_BOUNDS[0] - 1 else FEELS_LIKE_BOUNDS[band - 1]
 
-        return message
+    private fun cellIndex(season: Int, band: Int, sky: Int, wind: Int, humid: Boolean, wideRange: Boolean): Int {
+        var index = season
+        index = index * FEELS_LIKE_BANDS + band
+        index = index * SKY_COUNT + sky
+        index = index * WIND_COUNT + wind
+        index = index * 2 + (if (humid) 1 else 0)
+        index = index * 2 + (if (wideRange) 1 else 0)
+        return index
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.example.weatherproject.worker
+
+import android.content.Context
+import android.util.Log
+import androidx.hilt.work.HiltWorker
+import androidx.work.CoroutineWorker
+import androidx.work.WorkerParameters
+import com.example.weatherproject.util.AlarmBriefingComposer
+import dagger.assisted.Assisted
+import dagger.assisted.AssistedInject
+
+/**
+ * 알람이 울리기 조금 전에 실행되어 날씨를 받아 두고 브리핑 알림 내용을 미리 만들어 둡니다.
+ * 알람 시각에는 만들어 둔 내용을 바로 표시하므로 네트워크를 기다리지 않습니다.
+ */
+@HiltWorker
+class AlarmPrefetchWorker @AssistedInject constructor(
+    @Assisted appContext: Context,
+    @Assisted workerParams: WorkerParameters,
+    private val weatherWorkOrchestrator: WeatherWorkOrchestrator
+) : CoroutineWorker(appContext, workerParams) {
+
+    override suspend fun doWork(): Result {
+        val alarmId = inputData.getInt(KEY_ALARM_ID, -1)
+        if (alarmId < 0) return Result.failure()
+
+        val weatherState = weatherWorkOrchestrator.fetchWeather(WeatherWorkPurpose.ALARM_PREFETCH)
+            ?: return Result.failure()
+
+        val content = AlarmBriefingComposer.compose(applicationContext, weatherState)
+        weatherWorkOrchestrator.savePreparedBriefing(alarmId, content)
+        Log.d("AlarmPrefetchWorker", "Briefing prepared for alarm $alarmId")
+        return Result.success()
+    }
+
+    companion object {
+        const val KEY_ALARM_ID = "alarm_id"
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.weatherproject.worker
+
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+
+/**
+ * 조회 결과와, 다른 요청이 방금 받아 둔 값을 재사용했는지 여부.
+ */
+data class CoalescedResult<T>(val value: T?, val shared: Boolean)
+
+/**
+ * 짧은 시간 안에 몰려 들어온 조회 요청을 한 번의 조회로 묶습니다.
+ *
+ * 요청은 한 번에 하나씩 처리하며, 마지막으로 성공한 조회가 windowMillis 안이면 그 값을 그대로 돌려줍니다.
+ * 조회가 실패(null)하면 기억하지 않으므로 다음 요청이 다시 조회합니다.
+ */
+class CoalescingFetcher<T : Any>(
+    private val windowMillis: Long,
+    private val clock: () -> Long = System::currentTimeMillis
+) {
+    private val mutex = Mutex()
+    private var lastValue: T? = null
+    private var lastFetchedAt = 0L
+
+    /**
+     * @param recent 이 객체 밖에서(예: 앱 화면) 방금 받아 둔 값. 있으면 조회하지 않고 사용
+     * @param load 실제 조회. 실패하면 null
+     */
+    suspend fun fetch(recent: () -> T? = { null }, load: suspend () -> T?): CoalescedResult<T> = mutex.withLock {
+        val now = clock()
+        lastValue?.let { value ->
+            if (now - lastFetchedAt in 0 until windowMillis) return@withLock CoalescedResult(value, shared = true)
+        }
+        recent()?.let { return@withLock CoalescedResult(it, shared = true) }
+
+        val value = load()
+        if (value != null) {
+            lastValue = value
+            lastFetchedAt = now
+        }
+        CoalescedResult(value, shared = false)
+    }
+}
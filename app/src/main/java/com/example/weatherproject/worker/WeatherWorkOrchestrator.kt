@@ -0,0 +1,290 @@
+package com.example.weatherproject.worker
+
+import android.app.Application
+import android.util.Log
+import androidx.work.Constraints
+import androidx.work.ExistingPeriodicWorkPolicy
+import androidx.work.ExistingWorkPolicy
+import androidx.work.NetworkType
+import androidx.work.OneTimeWorkRequestBuilder
+import androidx.work.PeriodicWorkRequestBuilder
+import androidx.work.WorkManager
+import androidx.work.workDataOf
+import com.example.weatherproject.data.DataFreshness
+import com.example.weatherproject.data.WeatherState
+import com.example.weatherproject.data.repository.SettingsRepository
+import com.example.weatherproject.data.repository.WeatherRepository
+import com.example.weatherproject.util.LocationProvider
+import com.example.weatherproject.util.PreferenceManager
+import com.example.weatherproject.util.PreparedBriefing
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.launchIn
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.onEach
+import java.util.concurrent.TimeUnit
+
+/**
+ * 백그라운드 날씨 작업의 종류. 종류마다 WorkManager 고유 작업 이름이 하나씩만 있습니다.
+ */
+enum class WeatherWorkPurpose(val uniqueWorkName: String) {
+    SMART_ALERT("weather_smart_alert"),       // 3시간마다 비/눈 소식 확인
+    ALARM_BRIEFING("weather_alarm_briefing"), // 사용자 알람 시각의 날씨 브리핑
+    ALARM_PREFETCH("weather_alarm_prefetch")  // 알람 직전 브리핑 미리 만들기 (알람마다 이름 뒤에 알람 ID를 붙임)
+}
+
+/**
+ * 백그라운드 작업이 한 번 깨어났을 때의 기록.
+ * @param weatherRequests 이 작업이 직접 보낸 날씨 조회(getWeatherData) 수. 다른 작업이 받아 둔 날씨를 재사용했으면 0
+ * @param shared 다른 작업이 방금 가져온 날씨를 다시 쓰고 네트워크 요청을 하지 않았는지 여부
+ */
+data class WakeUpRecord(
+    val purpose: WeatherWorkPurpose,
+    val startedAt: Long,
+    val weatherRequests: Int,
+    val shared: Boolean,
+    val success: Boolean
+)
+
+/**
+ * 알람 브리핑 알림 하나의 전달 기록.
+ * @param lagMillis 알람이 울린 시각부터 알림을 표시하기까지 걸린 시간
+ * @param prefetched 미리 만들어 둔 브리핑을 바로 표시했는지 여부 (false면 알람 시각에 날씨를 조회함)
+ */
+data class AlarmDeliveryRecord(
+    val alarmId: Int,
+    val triggeredAt: Long,
+    val lagMillis: Long,
+    val prefetched: Boolean
+)
+
+/**
+ * 모든 백그라운드 날씨 작업의 예약과 데이터 조회를 맡습니다.
+ *
+ * - 작업은 종류(WeatherWorkPurpose)별 고유 이름으로만 등록하므로 같은 종류의 작업이 두 개 돌지 않습니다.
+ * - 스마트 알림과 알람 사전 조회는 네트워크가 연결되어 있을 때만 실행됩니다.
+ *   알람 브리핑은 알람 시각에 바로 실행되어야 하므로 조건 없이 예약하고, 네트워크가 없으면 마지막으로 받은 날씨로 알립니다.
+ * - 작업들은 fetchWeather로 날씨를 가져오며, 조금 전에 다른 작업(또는 앱)이 받아 둔 날씨가 있으면 그대로 씁니다.
+ */
+class WeatherWorkOrchestrator(
+    private val application: Application,
+    private val weatherRepository: WeatherRepository,
+    private val preferenceManager: PreferenceManager,
+    private val locationProvider: LocationProvider,
+    private val settingsRepository: SettingsRepository
+) {
+
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.Default)
+    private val fetcher = CoalescingFetcher<WeatherState>(SHARED_FETCH_WINDOW_MILLIS)
+    private val wakeUps = ArrayDeque<WakeUpRecord>()
+    private val deliveries = ArrayDeque<AlarmDeliveryRecord>()
+
+    // 스마트 알림, 알람 사전 조회용 (알람 브리핑에는 걸지 않음)
+    private val constraints = Constraints.Builder()
+        .setRequiredNetworkType(NetworkType.CONNECTED)
+        .build()
+
+    private val workManager: WorkManager
+        get() = WorkManager.getInstance(application)
+
+    /**
+     * 앱 시작 시 한 번 호출합니다. 스마트 알림 설정을 따라 주기 작업을 등록/취소합니다.
+     */
+    fun start() {
+        // 이전 버전에서 Application과 SmartAlertScheduler가 각각 등록하던 중복 작업 정리
+        LEGACY_WORK_NAMES.forEach { workManager.cancelUniqueWork(it) }
+
+        settingsRepository.settings
+            .map { it.isSmartAlarmEnabled }
+            .distinctUntilChanged()
+            .onEach { enabled ->
+                if (enabled) scheduleSmartAlert() else cancel(WeatherWorkPurpose.SMART_ALERT)
+            }
+            .launchIn(scope)
+    }
+
+    /**
+     * 사용자 알람에 맞춰 날씨 브리핑 작업을 등록합니다.
+     *
+     * 알람마다 작업을 하나씩 만들되 같은 고유 이름 뒤에 이어 붙이므로(APPEND_OR_REPLACE) 브리핑은 차례로 실행됩니다.
+     * 먼저 실행된 브리핑이 날씨를 가져오고, 공유 구간(SHARED_FETCH_WINDOW_MILLIS) 안에 실행되는 나머지 브리핑은
+     * 그 날씨를 그대로 사용합니다. 몰려서 울린 알람들도 날씨 조회와 위치 조회는 한 번이며, 알림은 알람마다 따로 표시됩니다.
+     *
+     * 네트워크 조건을 걸지 않습니다. 오프라인이어도 알람 시각에 실행되어 WeatherUpdateWorker의 대체 알림을 표시합니다.
+     */
+    fun enqueueAlarmBriefing(alarmId: Int, triggeredAt: Long) {
+        val request = OneTimeWorkRequestBuilder<WeatherUpdateWorker>()
+            .setInputData(
+                workDataOf(
+                    WeatherUpdateWorker.KEY_ALARM_ID to alarmId,
+                    WeatherUpdateWorker.KEY_TRIGGERED_AT to triggeredAt
+                )
+            )
+            .build()
+        workManager.enqueueUniqueWork(
+            WeatherWorkPurpose.ALARM_BRIEFING.uniqueWorkName,
+            ExistingWorkPolicy.APPEND_OR_REPLACE,
+            request
+        )
+    }
+
+    /**
+     * 알람 직전에 날씨를 받아 브리핑을 미리 만들어 두는 작업을 등록합니다. 같은 알람의 이전 작업은 교체합니다.
+     */
+    fun enqueueAlarmPrefetch(alarmId: Int) {
+        val request = OneTimeWorkRequestBuilder<AlarmPrefetchWorker>()
+            .setConstraints(constraints)
+            .setInputData(workDataOf(AlarmPrefetchWorker.KEY_ALARM_ID to alarmId))
+            .build()
+        workManager.enqueueUniqueWork(
+            "${WeatherWorkPurpose.ALARM_PREFETCH.uniqueWorkName}_$alarmId",
+            ExistingWorkPolicy.REPLACE,
+            request
+        )
+    }
+
+    fun savePreparedBriefing(alarmId: Int, content: String) {
+        preferenceManager.savePreparedBriefing(alarmId, PreparedBriefing(content, System.currentTimeMillis()))
+    }
+
+    /**
+     * 알람 시각에 미리 만들어 둔 브리핑을 꺼냅니다. 없거나 너무 오래되었으면 null이며, 이때는 실시간으로 조회해야 합니다.
+     */
+    fun takePreparedBriefing(alarmId: Int, now: Long): PreparedBriefing? {
+        val briefing = preferenceManager.takePreparedBriefing(alarmId) ?: return null
+        return briefing.takeIf { now - it.preparedAt in 0 until PREPARED_BRIEFING_MAX_AGE_MILLIS }
+    }
+
+    fun recordDelivery(alarmId: Int, triggeredAt: Long, prefetched: Boolean) {
+        val record = AlarmDeliveryRecord(
+            alarmId = alarmId,
+            triggeredAt = triggeredAt,
+            lagMillis = System.currentTimeMillis() - triggeredAt,
+            prefetched = prefetched
+        )
+        synchronized(deliveries) {
+            if (deliveries.size == MAX_DELIVERY_RECORDS) deliveries.removeFirst()
+            deliveries.addLast(record)
+        }
+        Log.d("WeatherWorkOrchestrator", "Alarm delivery: $record")
+    }
+
+    /**
+     * 최근 알람 브리핑 전달 기록 (오래된 순서).
+     */
+    fun recentDeliveries(): List<AlarmDeliveryRecord> = synchronized(deliveries) { deliveries.toList() }
+
+    fun cancel(purpose: WeatherWorkPurpose) {
+        workManager.cancelUniqueWork(purpose.uniqueWorkName)
+    }
+
+    /**
+     * 작업에 쓸 최신 날씨를 가져옵니다.
+     * 작업이 동시에 깨어나도 한 번에 하나씩 처리하므로, 나중 작업은 먼저 작업이 받아 둔 날씨를 재사용합니다.
+     * @return 위치를 찾지 못했거나 요청이 실패하면 null
+     */
+    suspend fun fetchWeather(purpose: WeatherWorkPurpose): WeatherState? {
+        val startedAt = System.currentTimeMillis()
+        // 이 작업 안에서 보낸 요청만 셈 (같은 시각 앱이나 다른 작업의 요청은 넣지 않음)
+        var weatherRequests = 0
+
+        val result = fetcher.fetch(recent = { recentWeatherState(System.currentTimeMillis()) }) {
+            try {
+                fetchFreshWeatherState(onWeatherRequest = { weatherRequests++ })
+            } catch (e: Exception) {
+                Log.e("WeatherWorkOrchestrator", "Failed to fetch weather for $purpose", e)
+                null
+            }
+        }
+
+        val record = WakeUpRecord(
+            purpose = purpose,
+            startedAt = startedAt,
+            weatherRequests = weatherRequests,
+            shared = result.shared,
+            success = result.value != null
+        )
+        remember(record)
+        Log.d("WeatherWorkOrchestrator", "Wake-up: $record")
+        return result.value
+    }
+
+    /**
+     * 새로 받지 못했을 때 대신 보여줄 마지막으로 받은 날씨 (Preference -> Room 순서). 없으면 null.
+     */
+    suspend fun lastKnownWeather(): WeatherState? =
+        preferenceManager.getWeatherState() ?: weatherRepository.getLastCachedWeather()
+
+    /**
+     * 최근 작업 기록 (오래된 순서).
+     */
+    fun recentWakeUps(): List<WakeUpRecord> = synchronized(wakeUps) { wakeUps.toList() }
+
+    private fun scheduleSmartAlert() {
+        val request = PeriodicWorkRequestBuilder<SmartAlertWorker>(3, TimeUnit.HOURS)
+            .setConstraints(constraints)
+            .build()
+        // 이미 등록되어 있으면 주기는 유지하고 조건만 갱신
+        workManager.enqueueUniquePeriodicWork(
+            WeatherWorkPurpose.SMART_ALERT.uniqueWorkName,
+            ExistingPeriodicWorkPolicy.UPDATE,
+            request
+        )
+    }
+
+    private fun recentWeatherState(now: Long): WeatherState? {
+        val saved = preferenceManager.getWeatherState() ?: return null
+        val updatedAt = saved.lastUpdatedAt ?: return null
+        if (saved.freshness != DataFreshness.FRESH || now - updatedAt !in 0 until SHARED_FETCH_WINDOW_MILLIS) return null
+        return saved
+    }
+
+    /**
+     * @param onWeatherRequest 날씨 조회를 보내기 직전에 호출 (작업별 요청 수 기록용)
+     */
+    private suspend fun fetchFreshWeatherState(onWeatherRequest: () -> Unit): WeatherState? {
+        // 위치 정보 가져오기 (1. Preference -> 2. Room -> 3. LocationProvider)
+        val location = preferenceManager.getWeatherState()?.let { state ->
+            if (state.latitude != null && state.longitude != null) state.latitude to state.longitude else null
+        } ?: weatherRepository.getLastCachedWeather()?.let { state ->
+            if (state.latitude != null && state.longitude != null) {
+                preferenceManager.saveWeatherState(state) // 다음을 위해 Preferences에 저장
+                state.latitude to state.longitude
+            } else null
+        } ?: locationProvider.getFreshLocation()?.let { loc ->
+            loc.latitude to loc.longitude
+        }
+
+        if (location == null) {
+            Log.e("WeatherWorkOrchestrator", "Could not find any location coordinates.")
+            return null
+        }
+        val (lat, lon) = location
+
+        onWeatherRequest()
+        val weatherState = weatherRepository.getWeatherData(lat, lon, preferenceManager.getTempAdjustment())
+            .getOrNull() ?: return null
+        // 다른 작업과 앱이 최신 데이터를 사용하도록 Preference를 업데이트
+        preferenceManager.saveWeatherState(weatherState)
+        return weatherState
+    }
+
+    private fun remember(record: WakeUpRecord) {
+        synchronized(wakeUps) {
+            if (wakeUps.size == MAX_WAKE_UP_RECORDS) wakeUps.removeFirst()
+            wakeUps.addLast(record)
+        }
+    }
+
+    companion object {
+        // 이 시간 안에 받은 날씨는 새로 요청하지 않고 재사용 (몰려서 울린 알람들의 묶음 구간이기도 함)
+        private const val SHARED_FETCH_WINDOW_MILLIS = 10 * 60 * 1000L
+        private const val MAX_WAKE_UP_RECORDS = 20
+        private const val MAX_DELIVERY_RECORDS = 20
+        // 미리 만든 브리핑은 이 시간 안에 만든 것만 사용 (알람 시각에 그보다 오래된 날씨를 보여주지 않음)
+        private const val PREPARED_BRIEFING_MAX_AGE_MILLIS = 30 * 60 * 1000L
+        private val LEGACY_WORK_NAMES = listOf("SmartAlertWork", "smart_weather_alert")
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.weatherproject.data.repository
+
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class EndpointResponseCacheTest {
+
+    @Test
+    fun sameIssuance_reusesResponse() = runBlocking {
+        val cache = EndpointResponseCache()
+        var fetches = 0
+
+        repeat(3) { cache.getOrFetch(WeatherEndpoint.FORECAST, GridKey(60, 127)) { ++fetches } }
+
+        assertEquals(1, fetches)
+        assertEquals(2L, cache.skipCounts().getValue(WeatherEndpoint.FORECAST))
+    }
+
+    @Test
+    fun forceRefresh_fetchesAgainAndReplacesCachedResponse() = runBlocking {
+        val cache = EndpointResponseCache()
+        val grid = GridKey(60, 127)
+        var fetches = 0
+
+        cache.getOrFetch(WeatherEndpoint.CURRENT, grid) { ++fetches }
+        val forced = cache.getOrFetch(WeatherEndpoint.CURRENT, grid, forceRefresh = true) { ++fetches }
+        val reused = cache.getOrFetch(WeatherEndpoint.CURRENT, grid) { ++fetches }
+
+        assertEquals(2, fetches)
+        assertEquals(2, forced)
+        assertEquals(2, reused)
+    }
+
+    @Test
+    fun manyGrids_keepsOnlyMostRecentGrids() = runBlocking {
+        val cache = EndpointResponseCache(maxGrids = 8)
+        val endpoints = WeatherEndpoint.values()
+
+        for (nx in 0 until 100) {
+            endpoints.forEach { cache.getOrFetch(it, GridKey(nx, 0)) { nx } }
+        }
+        assertEquals(8 * endpoints.size, cache.size())
+
+        // 가장 오래된 격자는 밀려났으므로 다시 요청
+        var fetches = 0
+        cache.getOrFetch(WeatherEndpoint.FORECAST, GridKey(0, 0)) { ++fetches }
+        cache.getOrFetch(WeatherEndpoint.FORECAST, GridKey(99, 0)) { ++fetches }
+        assertEquals(1, fetches)
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.weatherproject.data.repository
+
+import com.example.weatherproject.data.local.HourlyForecastEntity
+import com.example.weatherproject.data.local.WeatherCacheEntity
+import com.example.weatherproject.data.local.WeatherDao
+import com.example.weatherproject.data.local.WeeklyForecastEntity
+import java.util.TreeMap
+
+/**
+ * 메모리에 저장하는 WeatherDao. @Query 메서드는 쿼리와 같은 결과를 돌려주고,
+ * @Transaction 메서드는 WeatherDao의 기본 구현을 그대로 사용합니다.
+ * 여러 스레드에서 불려도 되도록 모든 메서드는 이 객체로 동기화합니다.
+ */
+internal class FakeWeatherDao : WeatherDao {
+    private val caches = LinkedHashMap<GridKey, WeatherCacheEntity>()
+    private val hourly = HashMap<GridKey, TreeMap<Long, HourlyForecastEntity>>()
+    private val weekly = HashMap<GridKey, TreeMap<String, WeeklyForecastEntity>>()
+    var upsertedSlots = 0
+
+    private fun hourlyOf(nx: Int, ny: Int) = hourly.getOrPut(GridKey(nx, ny)) { TreeMap() }
+    private fun weeklyOf(nx: Int, ny: Int) = weekly.getOrPut(GridKey(nx, ny)) { TreeMap() }
+
+    private inline fun <T> locked(block: () -> T): T = synchronized(this, block)
+
+    override suspend fun upsertWeatherCache(weatherCache: WeatherCacheEntity) = locked {
+        caches[GridKey(weatherCache.nx, weatherCache.ny)] = weatherCache
+    }
+
+    override suspend fun getWeatherCache(nx: Int, ny: Int) = locked { caches[GridKey(nx, ny)] }
+
+    override suspend fun getLatestWeatherCache() = locked { caches.values.maxByOrNull { it.cachedAt } }
+
+    override suspend fun touchWeatherCache(nx: Int, ny: Int, accessedAt: Long) {
+        locked { caches.computeIfPresent(GridKey(nx, ny)) { _, cache -> cache.copy(lastAccessedAt = accessedAt) } }
+    }
+
+    override suspend fun getHourlyForecast(nx: Int, ny: Int) = locked { hourlyOf(nx, ny).values.toList() }
+
+    override suspend fun getHourlyForecastFrom(nx: Int, ny: Int, from: Long, hours: Int) = locked {
+        hourlyOf(nx, ny).tailMap(from).values.take(hours)
+    }
+
+    override suspend fun getNextPrecipitationSlot(nx: Int, ny: Int, from: Long) = locked {
+        hourlyOf(nx, ny).tailMap(from).values.firstOrNull { it.precipitationType != "NONE" }
+    }
+
+    override suspend fun getWeeklyForecast(nx: Int, ny: Int) = locked { weeklyOf(nx, ny).values.toList() }
+
+    override suspend fun upsertHourlyForecast(slots: List<HourlyForecastEntity>) = locked {
+        upsertedSlots += slots.size
+        slots.forEach { hourlyOf(it.nx, it.ny)[it.slotTime] = it }
+    }
+
+    override suspend fun upsertWeeklyForecast(days: List<WeeklyForecastEntity>) = locked {
+        days.forEach { weeklyOf(it.nx, it.ny)[it.date] = it }
+    }
+
+    override suspend fun deleteHourlyForecastExcept(nx: Int, ny: Int, slotTimes: List<Long>) {
+        locked { hourlyOf(nx, ny).keys.retainAll(slotTimes.toSet()) }
+    }
+
+    override suspend fun deleteWeeklyForecastExcept(nx: Int, ny: Int, dates: List<String>) {
+        locked { weeklyOf(nx, ny).keys.retainAll(dates.toSet()) }
+    }
+
+    override suspend fun evictWeatherCacheRows(maxEntries: Int) {
+        locked {
+            val keep = caches.entries.sortedByDescending { it.value.lastAccessedAt }.take(maxEntries).map { it.key }.toSet()
+            caches.keys.retainAll(keep)
+        }
+    }
+
+    override suspend fun deleteOrphanHourlyForecast() {
+        locked { hourly.keys.retainAll(caches.keys) }
+    }
+
+    override suspend fun deleteOrphanWeeklyForecast() {
+        locked { weekly.keys.retainAll(caches.keys) }
+    }
+
+    override suspend fun clearHourlyForecast() = locked { hourly.clear() }
+
+    override suspend fun clearWeeklyForecast() = locked { weekly.clear() }
+
+    override suspend fun clearWeatherCache() = locked { caches.clear() }
+}
@@ -0,0 +1,57 @@
+package com.example.weatherproject.data.repository
+
+import com.example.weatherproject.data.WeatherState
+import com.example.weatherproject.network.CctvResponse
+import com.example.weatherproject.network.CircuitState
+import com.example.weatherproject.network.HedgeStats
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 테스트용 WeatherRepository. getWeatherData의 결과는 테스트가 weatherData로 정하고, 호출 횟수를 셉니다.
+ * 캐시는 없으며 observeWeather는 getWeatherData 결과 하나만 내보냅니다.
+ */
+internal class FakeWeatherRepository(
+    private val weatherData: suspend (lat: Double, lon: Double) -> Result<WeatherState>
+) : WeatherRepository {
+
+    private val calls = AtomicInteger()
+
+    val getWeatherDataCalls: Int
+        get() = calls.get()
+
+    override suspend fun getWeatherData(
+        lat: Double,
+        lon: Double,
+        tempAdjustment: Int,
+        forceRefresh: Boolean
+    ): Result<WeatherState> {
+        calls.incrementAndGet()
+        return weatherData(lat, lon)
+    }
+
+    override fun observeWeather(
+        lat: Double,
+        lon: Double,
+        tempAdjustment: Int,
+        forceRefresh: Boolean
+    ): Flow<WeatherState> = flow {
+        emit(getWeatherData(lat, lon, tempAdjustment, forceRefresh).getOrThrow())
+    }
+
+    override suspend fun getCachedWeather(lat: Double, lon: Double): WeatherState? = null
+
+    override suspend fun getLastCachedWeather(): WeatherState? = null
+
+    override fun getCacheStats() = WeatherCacheStats(memoryHits = 0, diskHits = 0, misses = 0)
+
+    override fun getSkippedRequestCounts(): Map<WeatherEndpoint, Long> = emptyMap()
+
+    override fun getCurrentWeatherHedgeStats() = HedgeStats(requests = 0, hedged = 0, hedgeWins = 0)
+
+    override fun getCircuitStates(): Map<WeatherEndpoint, CircuitState> = emptyMap()
+
+    override suspend fun getNearbyCctv(lat: Double, lng: Double): Result<CctvResponse> =
+        Result.failure(UnsupportedOperationException("CCTV is not faked"))
+}
@@ -0,0 +1,113 @@
+package com.example.weatherproject.data.repository
+
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.HourlyForecast
+import com.example.weatherproject.data.PrecipitationType
+import com.example.weatherproject.data.SkyCondition
+import com.example.weatherproject.data.WeatherDetails
+import com.example.weatherproject.data.WeatherState
+import com.example.weatherproject.data.WeeklyForecast
+import com.example.weatherproject.util.ForecastTime
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+/**
+ * 시간별/주간 예보를 슬롯 테이블에 나눠 저장하는 WeatherCache 확인.
+ * Room 대신 메모리 WeatherDao를 사용합니다. 실제 Room 테이블에서 읽는 비용은 WeatherCacheBenchmark(androidTest)에서 측정합니다.
+ */
+class WeatherCacheTest {
+
+    private val grid = GridKey(60, 127)
+    private val dao = FakeWeatherDao()
+
+    @Test
+    fun diskHit_restoresSavedState() = runBlocking {
+        val state = weatherState()
+        WeatherCache(dao).put(grid, state)
+
+        // 메모리 캐시가 비어 있는 새 인스턴스로 읽어 테이블에서 복원되는지 확인
+        val cache = WeatherCache(dao)
+        val restored = cache.get(grid)!!
+
+        assertEquals(state.currentWeather, restored.currentWeather)
+        assertEquals(state.weatherDetails, restored.weatherDetails)
+        assertEquals(state.hourlyForecast, restored.hourlyForecast)
+        assertEquals(state.weeklyForecast, restored.weeklyForecast)
+        assertEquals(state.address, restored.address)
+        assertEquals(1L, cache.stats().diskHits)
+    }
+
+    @Test
+    fun malformedAndDuplicateSlots_areSkipped() = runBlocking {
+        val good = hourly("20240520", "1400")
+        val state = weatherState().copy(
+            hourlyForecast = listOf(good, hourly("", "1500"), hourly("2024052", "1600"), good.copy(temperature = 30.0))
+        )
+
+        WeatherCache(dao).put(grid, state)
+
+        assertEquals(listOf(good), WeatherCache(dao).get(grid)!!.hourlyForecast)
+    }
+
+    @Test
+    fun refresh_writesOnlyChangedSlots() = runBlocking {
+        val cache = WeatherCache(dao)
+        val state = weatherState()
+        cache.put(grid, state)
+        dao.upsertedSlots = 0
+
+        // 한 시간이 지나 첫 슬롯이 빠지고, 한 슬롯의 기온만 바뀐 새 예보
+        val changed = state.hourlyForecast.drop(1).mapIndexed { index, forecast ->
+            if (index == 5) forecast.copy(temperature = 99.0) else forecast
+        }
+        cache.put(grid, state.copy(hourlyForecast = changed))
+
+        assertEquals(1, dao.upsertedSlots)
+        assertEquals(changed, WeatherCache(dao).get(grid)!!.hourlyForecast)
+    }
+
+    @Test
+    fun rangeQueries_readSlotsDirectly() = runBlocking {
+        val cache = WeatherCache(dao)
+        val state = weatherState()
+        cache.put(grid, state)
+        val from = ForecastTime.toEpochMillis("20240520", "1800")!!
+
+        val upcoming = cache.upcomingHours(grid, from, hours = 3)
+        val nextRain = cache.nextPrecipitationHour(grid, from)
+
+        assertEquals(state.hourlyForecast.filter { it.date == "20240520" && it.time >= "1800" }.take(3), upcoming)
+        assertEquals(state.hourlyForecast.first { it.time >= "1800" && it.precipitationType != PrecipitationType.NONE }, nextRain)
+        assertNull(cache.nextPrecipitationHour(grid, ForecastTime.toEpochMillis("20991231", "0000")!!))
+    }
+
+    private fun weatherState(): WeatherState {
+        // 서버 응답과 비슷하게 3일치 시간별 예보, 7일치 주간 예보
+        val hourly = (0 until 72).map { hour ->
+            hourly("2024052${hour / 24}", "%02d00".format(hour % 24)).copy(
+                temperature = 10.0 + hour % 12,
+                feelsLike = 8.0 + hour % 12,
+                precipitationType = if (hour % 9 == 0) PrecipitationType.RAIN else PrecipitationType.NONE
+            )
+        }
+        val weekly = (0 until 7).map { day ->
+            WeeklyForecast("2024052$day", SkyCondition.CLEAR, SkyCondition.OVERCAST, maxTemp = 20.0 + day, minTemp = 10.0 + day)
+        }
+        return WeatherState(
+            isLoading = false,
+            currentWeather = CurrentWeather(21.0, 24.0, 14.0, 20.0, SkyCondition.MOSTLY_CLOUDY, PrecipitationType.NONE),
+            weatherDetails = WeatherDetails(humidity = 40.0, precipitation = 0.0, windSpeed = 2.3, pm10 = "보통"),
+            hourlyForecast = hourly,
+            weeklyForecast = weekly,
+            latitude = 37.5665,
+            longitude = 126.978,
+            address = "서울특별시 중구",
+            lastUpdatedAt = 1_716_181_200_000L
+        )
+    }
+
+    private fun hourly(date: String, time: String) =
+        HourlyForecast(date, time, temperature = 20.0, feelsLike = 19.0, sky = SkyCondition.CLEAR)
+}
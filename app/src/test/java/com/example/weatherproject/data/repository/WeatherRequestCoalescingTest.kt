@@ -0,0 +1,144 @@
+package com.example.weatherproject.data.repository
+
+import android.app.Application
+import androidx.test.core.app.ApplicationProvider
+import com.example.weatherproject.network.HedgedRequestExecutor
+import com.example.weatherproject.network.HourlyForecastConverterFactory
+import com.example.weatherproject.network.WeatherApiService
+import com.example.weatherproject.network.WeatherGson
+import com.example.weatherproject.util.PreferenceManager
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.runBlocking
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+import retrofit2.Retrofit
+import retrofit2.converter.gson.GsonConverterFactory
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * WeatherRepositoryImpl.getWeatherData를 MockWebServer에 연결해,
+ * 같은 격자의 날씨 요청이 동시에 들어와도 엔드포인트마다 네트워크 요청이 한 번만 나가는지 확인합니다.
+ * (PreferenceManager가 SharedPreferences를 쓰므로 Robolectric으로 실행)
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(application = Application::class)
+class WeatherRequestCoalescingTest {
+
+    private val server = MockWebServer()
+    private val requestCounts = ConcurrentHashMap<String, AtomicInteger>()
+    private lateinit var repository: WeatherRepositoryImpl
+
+    @Before
+    fun setUp() {
+        server.dispatcher = object : Dispatcher() {
+            override fun dispatch(request: RecordedRequest): MockResponse {
+                val path = request.requestUrl?.encodedPath ?: ""
+                requestCounts.getOrPut(path) { AtomicInteger() }.incrementAndGet()
+                val body = when (path) {
+                    CURRENT -> CURRENT_JSON
+                    FORECAST -> FORECAST_JSON
+                    WEEK -> WEEK_JSON
+                    else -> return MockResponse().setResponseCode(404)
+                }
+                // 응답을 늦춰 호출자들이 진행 중인 요청과 겹치도록 함
+                return MockResponse().setBody(body).setHeadersDelay(300, TimeUnit.MILLISECONDS)
+            }
+        }
+        server.start()
+
+        val api = Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(HourlyForecastConverterFactory())
+            .addConverterFactory(GsonConverterFactory.create(WeatherGson.instance))
+            .build()
+            .create(WeatherApiService::class.java)
+        val preferenceManager = PreferenceManager(ApplicationProvider.getApplicationContext(), WeatherGson.instance)
+        repository = WeatherRepositoryImpl(api, FakeWeatherDao(), preferenceManager, HedgedRequestExecutor(enabled = false))
+    }
+
+    @After
+    fun tearDown() {
+        server.shutdown()
+    }
+
+    @Test
+    fun concurrentCallsForSameGrid_sendOneRequestPerEndpoint() = runBlocking {
+        val results = (1..10).map {
+            async(Dispatchers.Default) { repository.getWeatherData(SEOUL_LAT, SEOUL_LON, tempAdjustment = 0) }
+        }.awaitAll()
+
+        // getWeatherData 한 번에 해당하는 현재/시간별/주간 요청이 한 번씩만 나감 (CCTV 등 다른 엔드포인트는 요청하지 않음)
+        assertEquals(mapOf(CURRENT to 1, FORECAST to 1, WEEK to 1), requestCounts())
+        assertTrue(results.all { it.isSuccess })
+        assertEquals(1, results.map { it.getOrThrow() }.distinct().size)
+        val state = results.first().getOrThrow()
+        assertEquals(21.5, state.currentWeather.temperature!!, 0.0)
+        assertEquals(1, state.hourlyForecast.size)
+        assertEquals(1, state.weeklyForecast.size)
+    }
+
+    @Test
+    fun differentGrids_areNotShared() = runBlocking {
+        listOf(SEOUL_LAT to SEOUL_LON, BUSAN_LAT to BUSAN_LON).flatMap { (lat, lon) ->
+            (1..5).map { async(Dispatchers.Default) { repository.getWeatherData(lat, lon, tempAdjustment = 0) } }
+        }.awaitAll()
+
+        assertEquals(mapOf(CURRENT to 2, FORECAST to 2, WEEK to 2), requestCounts())
+    }
+
+    @Test
+    fun finishedRequest_isNotShared() = runBlocking {
+        repository.getWeatherData(SEOUL_LAT, SEOUL_LON, tempAdjustment = 0)
+        repository.getWeatherData(SEOUL_LAT, SEOUL_LON, tempAdjustment = 0)
+
+        // 끝난 요청은 공유하지 않음. 두 번째 호출은 엔드포인트마다 다시 요청하거나,
+        // 다음 발표 시각 전이면 EndpointResponseCache가 응답을 재사용해 요청을 생략함
+        val skipped = repository.getSkippedRequestCounts()
+        for ((endpoint, path) in listOf(WeatherEndpoint.CURRENT to CURRENT, WeatherEndpoint.FORECAST to FORECAST, WeatherEndpoint.WEEK to WEEK)) {
+            assertEquals(endpoint.name, 2L, requestCounts().getValue(path) + skipped.getValue(endpoint))
+        }
+    }
+
+    @Test
+    fun forceRefresh_afterFinishedRequest_sendsAnotherRound() = runBlocking {
+        repository.getWeatherData(SEOUL_LAT, SEOUL_LON, tempAdjustment = 0)
+        repository.getWeatherData(SEOUL_LAT, SEOUL_LON, tempAdjustment = 0, forceRefresh = true)
+
+        assertEquals(mapOf(CURRENT to 2, FORECAST to 2, WEEK to 2), requestCounts())
+    }
+
+    private fun requestCounts(): Map<String, Int> = requestCounts.mapValues { it.value.get() }
+
+    companion object {
+        private const val CURRENT = "/api/weather/current"
+        private const val FORECAST = "/api/weather/forecast"
+        private const val WEEK = "/api/weather/week"
+
+        // 서로 다른 격자: 서울시청 (60, 127), 부산시청 (98, 76)
+        private const val SEOUL_LAT = 37.5665
+        private const val SEOUL_LON = 126.9780
+        private const val BUSAN_LAT = 35.1796
+        private const val BUSAN_LON = 129.0756
+
+        private const val CURRENT_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":{"기온(°C)":21.5,"습도(%)":40,"하늘상태":"맑음","강수형태":"없음"}}"""
+        private const val FORECAST_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":[{"date":"29991231","time":"2300","temp":20.0,"sky":"맑음","pty":"없음"}]}"""
+        private const val WEEK_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":[{"date":"29991231","min_temp":10.0,"max_temp":20.0,"sky_am":"맑음","sky_pm":"흐림","pop":10}]}"""
+    }
+}
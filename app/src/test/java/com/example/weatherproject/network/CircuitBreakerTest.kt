@@ -0,0 +1,82 @@
+package com.example.weatherproject.network
+
+import com.google.gson.JsonSyntaxException
+import com.google.gson.stream.MalformedJsonException
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import okhttp3.ResponseBody.Companion.toResponseBody
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import retrofit2.HttpException
+import retrofit2.Response
+import java.io.IOException
+import java.net.SocketTimeoutException
+
+/**
+ * 서버가 응답하지 못한 경우(연결 실패, 타임아웃, 5xx)만 실패로 세어 서킷을 여는지 확인합니다.
+ */
+class CircuitBreakerTest {
+
+    private val breaker = CircuitBreaker("test", failureThreshold = 3, openDurationMillis = 60_000L)
+
+    @Test
+    fun connectionErrorsAndTimeouts_openCircuit() = runBlocking {
+        failWith(IOException("connection reset"))
+        failWith(SocketTimeoutException("timeout"))
+        failWith(IOException("connection reset"))
+
+        assertEquals(CircuitState.OPEN, breaker.state)
+        val rejected = runCatching { breaker.execute { "ok" } }.exceptionOrNull()
+        assertTrue(rejected is CircuitOpenException)
+    }
+
+    @Test
+    fun coroutineTimeout_countsAsFailure() = runBlocking {
+        repeat(3) {
+            runCatching { breaker.execute { withTimeout(10) { delay(1_000) } } }
+        }
+
+        assertEquals(CircuitState.OPEN, breaker.state)
+    }
+
+    @Test
+    fun serverErrors_openCircuit() = runBlocking {
+        repeat(3) { failWith(httpError(503)) }
+
+        assertEquals(CircuitState.OPEN, breaker.state)
+    }
+
+    @Test
+    fun clientErrorsAndParseErrors_doNotOpenCircuit() = runBlocking {
+        repeat(3) { failWith(httpError(404)) }
+        repeat(3) { failWith(httpError(400)) }
+        repeat(3) { failWith(JsonSyntaxException("Expected BEGIN_OBJECT")) }
+        repeat(3) { failWith(MalformedJsonException("Unterminated object")) }
+        repeat(3) { failWith(IllegalStateException("현재 날씨 응답이 비어 있습니다.")) }
+
+        assertEquals(CircuitState.CLOSED, breaker.state)
+    }
+
+    @Test
+    fun clientError_resetsConsecutiveFailures() = runBlocking {
+        // 서버가 응답했으므로 그 전의 연속 실패는 이어지지 않음
+        failWith(IOException("connection reset"))
+        failWith(httpError(500))
+        failWith(httpError(404))
+        failWith(IOException("connection reset"))
+        failWith(httpError(502))
+
+        assertEquals(CircuitState.CLOSED, breaker.state)
+    }
+
+    private suspend fun failWith(error: Exception) {
+        val thrown = runCatching { breaker.execute<Unit> { throw error } }.exceptionOrNull()
+        // 실패로 세든 아니든 원래 예외는 그대로 호출자에게 전달됨
+        assertSame(error, thrown)
+    }
+
+    private fun httpError(code: Int) = HttpException(Response.error<Unit>(code, "".toResponseBody(null)))
+}
@@ -0,0 +1,39 @@
+package com.example.weatherproject.network
+
+import com.example.weatherproject.util.GeocodeResult
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class GeocodeResultJsonTest {
+
+    private val gson = WeatherGson.instance
+
+    @Test
+    fun roundTrip() {
+        val results = listOf(
+            GeocodeResult("서울시 강남구 역삼동", 37.5006, 127.0366),
+            GeocodeResult("부산시 해운대구 우동", 35.1631, 129.1636)
+        )
+
+        val json = gson.toJson(results.toTypedArray())
+
+        assertEquals(results, gson.fromJson(json, Array<GeocodeResult>::class.java).toList())
+    }
+
+    @Test
+    fun readsRowsWrittenByReflectiveGson() {
+        // TypeToken<List<GeocodeResult>>로 저장하던 때의 geocode_cache.resultsJson
+        val json = """[{"address":"서울시 강남구 역삼동","latitude":37.5006,"longitude":127.0366}]"""
+
+        val results = gson.fromJson(json, Array<GeocodeResult>::class.java).toList()
+
+        assertEquals(listOf(GeocodeResult("서울시 강남구 역삼동", 37.5006, 127.0366)), results)
+    }
+
+    @Test
+    fun missingOrNullFields_useDefaults() {
+        val json = """[{"address":null,"latitude":37.5,"extra":1}]"""
+
+        assertEquals(listOf(GeocodeResult("", 37.5, 0.0)), gson.fromJson(json, Array<GeocodeResult>::class.java).toList())
+    }
+}
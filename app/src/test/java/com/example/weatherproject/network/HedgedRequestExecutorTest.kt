@@ -0,0 +1,66 @@
+package com.example.weatherproject.network
+
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class HedgedRequestExecutorTest {
+
+    @Test
+    fun cachedResponses_areNotRecordedAsLatency() = runBlocking {
+        val executor = HedgedRequestExecutor(minSamples = 10, minHedgeDelayMillis = 10)
+
+        // HTTP 캐시에서 바로 온 응답만 있으면 헤징 기준이 만들어지지 않음
+        repeat(20) { executor.execute(isNetworkResponse = { false }) { "cached" } }
+        executor.execute(isNetworkResponse = { true }) {
+            delay(100)
+            "network"
+        }
+
+        assertEquals(0L, executor.stats().hedged)
+    }
+
+    @Test
+    fun fastSamples_hedgeDelayIsAtLeastMinimum() = runBlocking {
+        val executor = HedgedRequestExecutor(minSamples = 10, minHedgeDelayMillis = 300)
+        repeat(10) { executor.execute { "fast" } }
+
+        // percentile 값은 0ms에 가깝지만 최소 지연(300ms)보다 빨리 끝나므로 헤징하지 않음
+        executor.execute {
+            delay(100)
+            "slow"
+        }
+
+        assertEquals(0L, executor.stats().hedged)
+    }
+
+    @Test
+    fun slowerThanHedgeDelay_sendsOneHedge() = runBlocking {
+        val executor = HedgedRequestExecutor(minSamples = 10, minHedgeDelayMillis = 20)
+        repeat(10) { executor.execute { "fast" } }
+
+        var calls = 0
+        val result = executor.execute {
+            val call = ++calls
+            delay(if (call == 1) 1_000 else 10)
+            "call $call"
+        }
+
+        assertEquals(1L, executor.stats().hedged)
+        assertEquals(1L, executor.stats().hedgeWins)
+        assertEquals("call 2", result)
+    }
+
+    @Test
+    fun disabled_neverHedges() = runBlocking {
+        val executor = HedgedRequestExecutor(enabled = false, minSamples = 1, minHedgeDelayMillis = 1)
+        repeat(10) { executor.execute { "fast" } }
+        executor.execute {
+            delay(50)
+            "slow"
+        }
+
+        assertEquals(0L, executor.stats().hedged)
+    }
+}
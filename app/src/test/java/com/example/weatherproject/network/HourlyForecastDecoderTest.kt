@@ -0,0 +1,81 @@
+package com.example.weatherproject.network
+
+import com.google.gson.Gson
+import com.google.gson.stream.JsonReader
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.io.StringReader
+
+class HourlyForecastDecoderTest {
+
+    // 서버 응답과 같은 모양: 오늘 00시부터 3일치 1시간 간격 예보
+    private val json = forecastJson(locationFirst = true)
+
+    @Test
+    fun decode_matchesFullParseThenFilter() {
+        for (nowTime in listOf("0000", "0930", "1400", "2300")) {
+            assertEquals(
+                "nowTime=$nowTime",
+                fullParseThenFilter(json, NOW_DATE, nowTime),
+                HourlyForecastDecoder.decode(JsonReader(StringReader(json)), NOW_DATE, nowTime)
+            )
+        }
+    }
+
+    @Test
+    fun decode_stopsAtLimit() {
+        val decoded = HourlyForecastDecoder.decode(JsonReader(StringReader(json)), NOW_DATE, "1400")
+
+        assertEquals(HourlyForecastDecoder.DEFAULT_LIMIT, decoded.weather.size)
+        assertEquals("1400", decoded.weather.first().time)
+        assertEquals(LocationCoord(60, 127), decoded.location)
+    }
+
+    @Test
+    fun decode_locationAfterForecast_isStillRead() {
+        val json = forecastJson(locationFirst = false)
+
+        val decoded = HourlyForecastDecoder.decode(JsonReader(StringReader(json)), NOW_DATE, "1400")
+
+        assertEquals(fullParseThenFilter(json, NOW_DATE, "1400"), decoded)
+        assertEquals(LocationCoord(60, 127), decoded.location)
+    }
+
+    @Test
+    fun decode_nullFields_useDefaults() {
+        val json = """{"위치좌표":{"nx":60,"ny":127},"날씨":[{"date":"29991231","time":"2300","temp":null,"sky":null,"pty":"없음","pop":20}]}"""
+
+        val decoded = HourlyForecastDecoder.decode(JsonReader(StringReader(json)), NOW_DATE, "0000")
+
+        assertEquals(listOf(HourlyWeatherItem("29991231", "2300", null, "", "없음", "", 20.0)), decoded.weather)
+    }
+
+    /**
+     * 디코더를 쓰기 전의 방식: 응답 전체를 리플렉션 Gson으로 파싱한 뒤
+     * 날짜+시간 문자열을 숫자로 바꿔 지나간 예보를 거름
+     */
+    private fun fullParseThenFilter(json: String, nowDate: String, nowTime: String): HourlyForecastResponse {
+        val response = reflectiveGson.fromJson(json, HourlyForecastResponse::class.java)
+        val currentDateTime = (nowDate + nowTime).toLongOrNull() ?: 0L
+        val upcoming = response.weather
+            .filter { item -> ((item.date + item.time).toLongOrNull() ?: 0L) >= currentDateTime }
+            .take(HourlyForecastDecoder.DEFAULT_LIMIT)
+        return response.copy(weather = upcoming)
+    }
+
+    private fun forecastJson(locationFirst: Boolean): String {
+        val location = """"위치좌표":{"nx":60,"ny":127}"""
+        val items = (0 until 72).joinToString(",") { hour ->
+            val date = "2024052${hour / 24}"
+            val time = "%02d00".format(hour % 24)
+            """{"date":"$date","time":"$time","temp":${15.0 + hour % 10},"sky":"구름많음","pty":"없음","rain_amount":"강수없음","pop":${hour % 5 * 10}}"""
+        }
+        val forecast = """"날씨":[$items]"""
+        return if (locationFirst) "{$location,$forecast}" else "{$forecast,$location}"
+    }
+
+    companion object {
+        private const val NOW_DATE = "20240520"
+        private val reflectiveGson = Gson()
+    }
+}
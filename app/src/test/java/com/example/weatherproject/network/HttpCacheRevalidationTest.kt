@@ -0,0 +1,130 @@
+package com.example.weatherproject.network
+
+import okhttp3.Cache
+import okhttp3.CacheControl
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Before
+import org.junit.Test
+import java.io.File
+import java.nio.file.Files
+import java.util.concurrent.TimeUnit
+
+/**
+ * CacheControlInterceptor가 붙인 max-age 동안은 디스크 캐시로 응답하고,
+ * 그 뒤에는 ETag로 재검증해 304(Not Modified)면 캐시 본문을 재사용하는지 확인합니다.
+ */
+class HttpCacheRevalidationTest {
+
+    private val server = MockWebServer()
+    private val statsInterceptor = HttpCacheStatsInterceptor()
+    private lateinit var cacheDir: File
+    private lateinit var client: OkHttpClient
+
+    @Before
+    fun setUp() {
+        server.start()
+        cacheDir = Files.createTempDirectory("http_cache").toFile()
+        // AppModule.provideOkHttpClient와 같은 순서로 인터셉터를 붙임
+        client = OkHttpClient.Builder()
+            .cache(Cache(cacheDir, 1024 * 1024))
+            .addInterceptor(statsInterceptor)
+            .addNetworkInterceptor(CacheControlInterceptor())
+            .build()
+    }
+
+    @After
+    fun tearDown() {
+        client.cache?.close()
+        server.shutdown()
+        cacheDir.deleteRecursively()
+    }
+
+    @Test
+    fun withinMaxAge_servedFromDiskCache() {
+        server.enqueue(MockResponse().setBody(BODY).setHeader("ETag", "\"v1\""))
+
+        val first = get("/api/weather/forecast")
+        val second = get("/api/weather/forecast")
+
+        assertEquals(1, server.requestCount)
+        assertEquals("max-age=1800", first.cacheControl)
+        assertEquals(BODY, second.body)
+        assertEquals(HttpCacheStats(hits = 1, conditionalHits = 0, misses = 1), statsInterceptor.stats())
+    }
+
+    @Test
+    fun afterMaxAge_revalidatesWithEtagAndReuses304() {
+        server.enqueue(MockResponse().setBody(BODY).setHeader("ETag", "\"v1\""))
+        server.enqueue(MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""))
+
+        get("/api/weather/current")
+        // max-age가 지난 것과 같은 상황: 캐시된 응답을 그대로 쓰지 말고 재검증하도록 요청
+        val revalidated = get("/api/weather/current", CacheControl.Builder().maxAge(0, TimeUnit.SECONDS).build())
+
+        assertNull(server.takeRequest().getHeader("If-None-Match"))
+        assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"))
+        assertEquals(BODY, revalidated.body)
+        assertEquals(HttpCacheStats(hits = 0, conditionalHits = 1, misses = 1), statsInterceptor.stats())
+    }
+
+    @Test
+    fun changedResource_replacesCachedBody() {
+        server.enqueue(MockResponse().setBody(BODY).setHeader("ETag", "\"v1\""))
+        server.enqueue(MockResponse().setBody(NEW_BODY).setHeader("ETag", "\"v2\""))
+
+        get("/api/weather/week")
+        val changed = get("/api/weather/week", CacheControl.Builder().maxAge(0, TimeUnit.SECONDS).build())
+        val cached = get("/api/weather/week")
+
+        assertEquals(NEW_BODY, changed.body)
+        assertEquals(NEW_BODY, cached.body)
+        assertEquals(2, server.requestCount)
+        // 재검증 요청에 200이 오면 조건부 적중이 아니라 새로 받은 것으로 집계
+        assertEquals(HttpCacheStats(hits = 1, conditionalHits = 0, misses = 2), statsInterceptor.stats())
+    }
+
+    @Test
+    fun serverCacheHeaders_areKept() {
+        server.enqueue(MockResponse().setBody(BODY).setHeader("Cache-Control", "no-store"))
+        server.enqueue(MockResponse().setBody(BODY).setHeader("Cache-Control", "no-store"))
+
+        val first = get("/api/weather/current")
+        get("/api/weather/current")
+
+        assertEquals("no-store", first.cacheControl)
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun unknownEndpoint_isNotCached() {
+        server.enqueue(MockResponse().setBody(BODY))
+        server.enqueue(MockResponse().setBody(BODY))
+
+        get("/api/other")
+        get("/api/other")
+
+        assertEquals(2, server.requestCount)
+    }
+
+    private class Fetched(val body: String, val cacheControl: String?)
+
+    private fun get(path: String, cacheControl: CacheControl? = null): Fetched {
+        val request = Request.Builder().url(server.url(path)).apply {
+            if (cacheControl != null) cacheControl(cacheControl)
+        }.build()
+        client.newCall(request).execute().use { response ->
+            return Fetched(response.body!!.string(), response.header("Cache-Control"))
+        }
+    }
+
+    companion object {
+        private const val BODY = """{"위치좌표":{"nx":60,"ny":127},"날씨":[]}"""
+        private const val NEW_BODY = """{"위치좌표":{"nx":60,"ny":127},"날씨":[{"date":"29991231"}]}"""
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.weatherproject.network
+
+import com.google.gson.Gson
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+/**
+ * 수동 TypeAdapter(WeatherGson)가 리플렉션 Gson과 같은 결과를 내는지 확인.
+ * 파싱 비용은 WeatherGsonBenchmark(androidTest)에서 측정합니다.
+ */
+class WeatherTypeAdaptersTest {
+
+    private val gson = WeatherGson.instance
+    private val reflectiveGson = Gson()
+
+    @Test
+    fun currentWeather_matchesReflectiveGson() {
+        assertEquals(
+            reflectiveGson.fromJson(CURRENT_JSON, CurrentWeatherResponse::class.java),
+            gson.fromJson(CURRENT_JSON, CurrentWeatherResponse::class.java)
+        )
+    }
+
+    @Test
+    fun hourlyForecast_matchesReflectiveGson() {
+        assertEquals(
+            reflectiveGson.fromJson(FORECAST_JSON, HourlyForecastResponse::class.java),
+            gson.fromJson(FORECAST_JSON, HourlyForecastResponse::class.java)
+        )
+    }
+
+    @Test
+    fun weeklyForecast_matchesReflectiveGson() {
+        assertEquals(
+            reflectiveGson.fromJson(WEEK_JSON, WeeklyForecastResponse::class.java),
+            gson.fromJson(WEEK_JSON, WeeklyForecastResponse::class.java)
+        )
+    }
+
+    @Test
+    fun cctv_matchesReflectiveGson() {
+        assertEquals(
+            reflectiveGson.fromJson(CCTV_JSON, CctvResponse::class.java),
+            gson.fromJson(CCTV_JSON, CctvResponse::class.java)
+        )
+    }
+
+    @Test
+    fun written_isReadableByReflectiveGson() {
+        // WeatherCache/PreferenceManager에 저장된 JSON을 예전 방식으로도 읽을 수 있어야 함
+        val current = gson.fromJson(CURRENT_JSON, CurrentWeatherResponse::class.java)
+        val weekly = gson.fromJson(WEEK_JSON, WeeklyForecastResponse::class.java)
+
+        assertEquals(current, reflectiveGson.fromJson(gson.toJson(current), CurrentWeatherResponse::class.java))
+        assertEquals(weekly, reflectiveGson.fromJson(gson.toJson(weekly), WeeklyForecastResponse::class.java))
+    }
+
+    companion object {
+        private const val CURRENT_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":{"기온(°C)":21.5,"1시간 강수량(mm)":0.0,"습도(%)":40,"풍속(m/s)":2.3,""" +
+                """"일 최저기온(°C)":14.0,"일 최고기온(°C)":24.0,"하늘상태":"맑음","강수형태":"없음","미세먼지":"보통"}}"""
+        private const val FORECAST_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":[""" +
+                """{"date":"20240520","time":"1400","temp":20.0,"sky":"맑음","pty":"없음","rain_amount":"강수없음","pop":0},""" +
+                """{"date":"20240520","time":"1500","temp":21.0,"sky":"구름많음","pty":"없음","rain_amount":"강수없음","pop":20},""" +
+                """{"date":"20240520","time":"1600","temp":19.5,"sky":"흐림","pty":"비","rain_amount":"1mm","pop":60}]}"""
+        private const val WEEK_JSON =
+            """{"위치좌표":{"nx":60,"ny":127},"날씨":[""" +
+                """{"date":"20240520","min_temp":10.0,"max_temp":20.0,"sky_am":"맑음","sky_pm":"흐림","pop":10},""" +
+                """{"date":"20240521","min_temp":11.0,"max_temp":22.0,"sky_am":"구름많음","sky_pm":"비","pop":60},""" +
+                """{"date":"20240522","min_temp":null,"max_temp":18.0,"sky_am":"흐림","sky_pm":"맑음","pop":30}]}"""
+        private const val CCTV_JSON =
+            """{"status":"ok","cctv_name":"강남대로","cctv_url":"https://example.com/cctv.m3u8","cctv_type":"4",""" +
+                """"cctv_lat":"37.4979","cctv_lng":"127.0276"}"""
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.weatherproject.ui
+
+import android.app.Application
+import android.location.Location
+import androidx.room.Room
+import androidx.test.core.app.ApplicationProvider
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.DataFreshness
+import com.example.weatherproject.data.WeatherState
+import com.example.weatherproject.data.local.AppDatabase
+import com.example.weatherproject.data.repository.FakeWeatherRepository
+import com.example.weatherproject.network.WeatherGson
+import com.example.weatherproject.util.GeocodingCache
+import com.example.weatherproject.util.LocationProvider
+import com.example.weatherproject.util.PreferenceManager
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.NonCancellable
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.test.StandardTestDispatcher
+import kotlinx.coroutines.test.advanceTimeBy
+import kotlinx.coroutines.test.advanceUntilIdle
+import kotlinx.coroutines.test.resetMain
+import kotlinx.coroutines.test.runCurrent
+import kotlinx.coroutines.test.runTest
+import kotlinx.coroutines.test.setMain
+import kotlinx.coroutines.withContext
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+/**
+ * 먼저 시작한 날씨 요청이 나중 요청보다 늦게 끝나도 화면에는 나중 요청의 결과가 남는지 확인합니다.
+ * 서울 요청은 느리고(취소도 늦게 알아챔) 부산 요청은 빠른 FakeWeatherRepository로 MainViewModel을 그대로 구동합니다.
+ */
+@OptIn(ExperimentalCoroutinesApi::class)
+@RunWith(RobolectricTestRunner::class)
+@Config(application = Application::class)
+class MainViewModelTest {
+
+    private val context: Application = ApplicationProvider.getApplicationContext()
+    private val dispatcher = StandardTestDispatcher()
+    private lateinit var database: AppDatabase
+    private lateinit var locationProvider: LocationProvider
+    private lateinit var repository: FakeWeatherRepository
+    private lateinit var viewModel: MainViewModel
+
+    @Before
+    fun setUp() {
+        Dispatchers.setMain(dispatcher)
+        database = Room.inMemoryDatabaseBuilder(context, AppDatabase::class.java)
+            .allowMainThreadQueries()
+            .build()
+        locationProvider = LocationProvider(context, GeocodingCache(context, database.geocodeDao(), WeatherGson.instance))
+        repository = FakeWeatherRepository { lat, lon -> respond(lat, lon) }
+        viewModel = MainViewModel(repository, locationProvider, PreferenceManager(context, WeatherGson.instance))
+    }
+
+    @After
+    fun tearDown() {
+        Dispatchers.resetMain()
+        database.close()
+    }
+
+    @Test
+    fun searchDuringSlowGpsRequest_keepsSearchedCity() = runTest(dispatcher) {
+        // GPS 위치(서울)를 받아 느린 요청이 시작된 뒤 도시(부산)를 검색
+        locationProvider.onLocationFix(location(SEOUL_LAT, SEOUL_LON))
+        runCurrent()
+        advanceTimeBy(FAST_MILLIS)
+        viewModel.updateWeatherByLocation(BUSAN, BUSAN_LAT, BUSAN_LON)
+        advanceUntilIdle()
+
+        // 부산 결과가 먼저 도착하고, 뒤늦게 끝난 서울 결과는 반영되지 않음
+        assertEquals(2, repository.getWeatherDataCalls)
+        assertShowsBusan()
+    }
+
+    @Test
+    fun secondSearch_winsOverSlowerFirstSearch() = runTest(dispatcher) {
+        viewModel.updateWeatherByLocation(SEOUL, SEOUL_LAT, SEOUL_LON)
+        runCurrent()
+        advanceTimeBy(FAST_MILLIS)
+        viewModel.updateWeatherByLocation(BUSAN, BUSAN_LAT, BUSAN_LON)
+        advanceUntilIdle()
+
+        assertEquals(2, repository.getWeatherDataCalls)
+        assertShowsBusan()
+    }
+
+    private fun assertShowsBusan() {
+        val state = viewModel.uiState.value
+        assertEquals(BUSAN, state.address)
+        assertEquals(BUSAN_LAT, state.latitude!!, 0.0)
+        assertEquals(BUSAN_TEMP, state.currentWeather.temperature!!, 0.0)
+        assertEquals(DataFreshness.FRESH, state.freshness)
+    }
+
+    private suspend fun respond(lat: Double, lon: Double): Result<WeatherState> {
+        val slow = lat == SEOUL_LAT
+        // 응답을 받는 중이라 취소를 바로 반영하지 않는 요청
+        withContext(NonCancellable) { delay(if (slow) SLOW_MILLIS else FAST_MILLIS) }
+        return Result.success(
+            WeatherState(
+                isLoading = false,
+                currentWeather = CurrentWeather(temperature = if (slow) SEOUL_TEMP else BUSAN_TEMP),
+                latitude = lat,
+                longitude = lon,
+                lastUpdatedAt = System.currentTimeMillis(),
+                freshness = DataFreshness.FRESH
+            )
+        )
+    }
+
+    private fun location(lat: Double, lon: Double) = Location("test").apply {
+        latitude = lat
+        longitude = lon
+    }
+
+    companion object {
+        private const val SEOUL = "서울특별시 중구"
+        private const val SEOUL_LAT = 37.5665
+        private const val SEOUL_LON = 126.9780
+        private const val SEOUL_TEMP = 21.0
+        private const val BUSAN = "부산광역시 연제구"
+        private const val BUSAN_LAT = 35.1796
+        private const val BUSAN_LON = 129.0756
+        private const val BUSAN_TEMP = 25.0
+        private const val SLOW_MILLIS = 3_000L
+        private const val FAST_MILLIS = 100L
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.weatherproject.util
+
+import com.example.weatherproject.data.local.AlarmEntity
+import org.junit.AfterClass
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.BeforeClass
+import org.junit.Test
+import java.util.Calendar
+import java.util.TimeZone
+
+class AlarmDaysTest {
+
+    @Test
+    fun labelsRoundTripInDisplayOrder() {
+        val mask = AlarmDays.fromLabels(listOf("일", "수", "월"))
+
+        assertEquals(listOf("월", "수", "일"), AlarmDays.toLabels(mask))
+        assertTrue(AlarmDays.contains(mask, Calendar.MONDAY))
+        assertTrue(AlarmDays.contains(mask, Calendar.SUNDAY))
+        assertFalse(AlarmDays.contains(mask, Calendar.TUESDAY))
+    }
+
+    @Test
+    fun legacyCommaSeparatedDays_convertLikeTheMigration() {
+        assertEquals(AlarmDays.NONE, AlarmDays.fromLabels("".split(",")))
+        assertEquals(AlarmDays.EVERY_DAY, AlarmDays.fromLabels("월,화,수,목,금,토,일".split(",")))
+        assertEquals(AlarmDays.bit(Calendar.FRIDAY), AlarmDays.fromLabels(listOf("금", "없는요일")))
+    }
+
+    @Test
+    fun nextTrigger_repeatingAlarmSkipsToNextSelectedDay() {
+        // 2024-05-20(월) 08:00, 월요일 07:00 알람은 이미 지났으므로 수요일 07:00
+        val now = time(2024, Calendar.MAY, 20, 8, 0)
+        val alarm = alarm(hour = 7, dayMask = AlarmDays.fromLabels(listOf("월", "수")))
+
+        assertEquals(time(2024, Calendar.MAY, 22, 7, 0), AlarmScheduler.getNextTriggerTimeMillis(alarm, now))
+    }
+
+    @Test
+    fun nextTrigger_sameDayWeekLaterWhenOnlyTodayIsSelected() {
+        val now = time(2024, Calendar.MAY, 20, 8, 0)
+        val alarm = alarm(hour = 7, dayMask = AlarmDays.fromLabels(listOf("월")))
+
+        assertEquals(time(2024, Calendar.MAY, 27, 7, 0), AlarmScheduler.getNextTriggerTimeMillis(alarm, now))
+    }
+
+    @Test
+    fun nextTrigger_noDaysMeansEveryDay() {
+        val now = time(2024, Calendar.MAY, 20, 8, 0)
+
+        assertEquals(time(2024, Calendar.MAY, 20, 9, 0), AlarmScheduler.getNextTriggerTimeMillis(alarm(hour = 9), now))
+        assertEquals(time(2024, Calendar.MAY, 21, 7, 0), AlarmScheduler.getNextTriggerTimeMillis(alarm(hour = 7), now))
+    }
+
+    @Test
+    fun nextTrigger_oneTimeAlarm() {
+        val now = time(2024, Calendar.MAY, 20, 8, 0)
+        val future = alarm(hour = 7, selectedDate = time(2024, Calendar.MAY, 21, 0, 0))
+        val past = alarm(hour = 7, selectedDate = time(2024, Calendar.MAY, 20, 0, 0))
+
+        assertEquals(time(2024, Calendar.MAY, 21, 7, 0), AlarmScheduler.getNextTriggerTimeMillis(future, now))
+        assertNull(AlarmScheduler.getNextTriggerTimeMillis(past, now))
+        assertNull(AlarmScheduler.getNextTriggerTimeMillis(future.copy(isEnabled = false), now))
+    }
+
+    private fun alarm(hour: Int, dayMask: Int = AlarmDays.NONE, selectedDate: Long? = null) = AlarmEntity(
+        id = 1,
+        hour = hour,
+        minute = 0,
+        dayMask = dayMask,
+        selectedDate = selectedDate,
+        isEnabled = true
+    )
+
+    private fun time(year: Int, month: Int, day: Int, hour: Int, minute: Int): Long =
+        Calendar.getInstance().apply {
+            clear()
+            set(year, month, day, hour, minute)
+        }.timeInMillis
+
+    companion object {
+        private var defaultZone: TimeZone? = null
+
+        @BeforeClass
+        @JvmStatic
+        fun useKoreanTime() {
+            defaultZone = TimeZone.getDefault()
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"))
+        }
+
+        @AfterClass
+        @JvmStatic
+        fun restoreZone() {
+            TimeZone.setDefault(defaultZone)
+        }
+    }
+}
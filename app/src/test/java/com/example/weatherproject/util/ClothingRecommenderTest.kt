@@ -0,0 +1,84 @@
+package com.example.weatherproject.util
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class ClothingRecommenderTest {
+
+    private val temperatures = -30..45
+    private val flagCombinations = 0 until 16
+
+    @Test
+    fun precomputedTable_matchesTagFilterForEveryCombination() {
+        for (feelsLike in temperatures) for (flags in flagCombinations) {
+            assertEquals(
+                "feelsLike=$feelsLike flags=$flags",
+                filterRecommendation(ClothingDatabase.items, feelsLike, flags),
+                ClothingRecommender.getRecommendation(
+                    feelsLike,
+                    isRainy = flags and 1 != 0,
+                    isWindy = flags and 2 != 0,
+                    isSnowy = flags and 4 != 0,
+                    isUvStrong = flags and 8 != 0
+                )
+            )
+        }
+    }
+
+    @Test
+    fun moreItemsThanOneLong_areAllRecommended() {
+        // 64개를 넘는 아이템 (이전 Long 비트셋의 한계)
+        val tags = WeatherTag.values()
+        val categories = Category.values()
+        val items = List(200) { index ->
+            ClothingItem(
+                nameResId = 1_000 + index,
+                category = categories[index % categories.size],
+                tags = setOf(tags[index % tags.size], tags[(index / 7) % tags.size])
+            )
+        }
+        val table = ClothingRecommender.Table(items)
+
+        for (feelsLike in temperatures) for (flags in flagCombinations) {
+            assertEquals(
+                "feelsLike=$feelsLike flags=$flags",
+                filterRecommendation(items, feelsLike, flags),
+                table.get(feelsLike, flags and 1 != 0, flags and 2 != 0, flags and 4 != 0, flags and 8 != 0)
+            )
+        }
+        assertTrue(table.get(-10, true, true, true, true).any { it >= 1_064 })
+    }
+
+    /**
+     * 표로 바꾸기 전의 ClothingRecommender.getRecommendation (눈/자외선 태그 포함).
+     * flags: 1 = 비, 2 = 바람, 4 = 눈, 8 = 자외선
+     */
+    private fun filterRecommendation(items: List<ClothingItem>, feelsLikeTemp: Int, flags: Int): List<Int> {
+        val currentWeatherTags = mutableSetOf<WeatherTag>()
+        when {
+            feelsLikeTemp >= 28 -> currentWeatherTags.add(WeatherTag.VERY_HOT)
+            feelsLikeTemp >= 23 -> currentWeatherTags.add(WeatherTag.HOT)
+            feelsLikeTemp >= 17 -> currentWeatherTags.add(WeatherTag.WARM)
+            feelsLikeTemp >= 12 -> currentWeatherTags.add(WeatherTag.COOL)
+            feelsLikeTemp >= 9 -> currentWeatherTags.add(WeatherTag.CHILLY)
+            feelsLikeTemp >= 5 -> currentWeatherTags.add(WeatherTag.COLD)
+            else -> currentWeatherTags.add(WeatherTag.VERY_COLD)
+        }
+        if (flags and 1 != 0) currentWeatherTags.add(WeatherTag.RAINY)
+        if (flags and 2 != 0) currentWeatherTags.add(WeatherTag.WINDY)
+        if (flags and 4 != 0) currentWeatherTags.add(WeatherTag.SNOWY)
+        if (flags and 8 != 0) currentWeatherTags.add(WeatherTag.UV_STRONG)
+
+        val itemsByCategory = items.filter { item -> item.tags.any { it in currentWeatherTags } }.groupBy { it.category }
+
+        val recommendedItems = mutableListOf<ClothingItem>()
+        recommendedItems.addAll(itemsByCategory[Category.TOP] ?: emptyList())
+        recommendedItems.addAll(itemsByCategory[Category.BOTTOM] ?: emptyList())
+        recommendedItems.addAll(itemsByCategory[Category.ACCESSORY] ?: emptyList())
+        if (feelsLikeTemp < 26) {
+            recommendedItems.addAll(itemsByCategory[Category.OUTERWEAR] ?: emptyList())
+        }
+        return recommendedItems.map { it.nameResId }.distinct()
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.weatherproject.util
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+class FeelsLikeTempCalculatorTest {
+
+    private val kst = ZoneId.of("Asia/Seoul")
+
+    @Test
+    fun batch_matchesScalarWithEachHoursMonth() {
+        // 9월 30일 12시(KST)부터 72시간: 여름 공식에서 겨울 공식으로 넘어감
+        val hourly = hourlyForecast(LocalDateTime.of(2024, 9, 30, 12, 0), HOURS)
+
+        val batch = FeelsLikeTempCalculator.calculate(hourly.temperatures, hourly.humidities, hourly.windSpeeds, hourly.timestamps)
+
+        for (i in 0 until HOURS) {
+            val month = Instant.ofEpochMilli(hourly.timestamps[i]).atZone(kst).monthValue
+            val scalar = FeelsLikeTempCalculator.calculate(hourly.temperatures[i], hourly.humidities[i], hourly.windSpeeds[i], month)
+            assertEquals("hour $i", scalar, batch[i], 0.0)
+        }
+    }
+
+    @Test
+    fun batch_usesKstMonthAtBoundary() {
+        // 9월 30일 23시(KST)는 여름, 10월 1일 0시(KST)는 겨울 (UTC로는 둘 다 9월)
+        val timestamps = longArrayOf(
+            LocalDateTime.of(2024, 9, 30, 23, 0).atZone(kst).toInstant().toEpochMilli(),
+            LocalDateTime.of(2024, 10, 1, 0, 0).atZone(kst).toInstant().toEpochMilli()
+        )
+        val temperatures = doubleArrayOf(5.0, 5.0)
+        val humidities = doubleArrayOf(60.0, 60.0)
+        val windSpeeds = doubleArrayOf(20.0, 20.0)
+
+        val batch = FeelsLikeTempCalculator.calculate(temperatures, humidities, windSpeeds, timestamps)
+
+        assertEquals(FeelsLikeTempCalculator.calculate(5.0, 60.0, 20.0, month = 9), batch[0], 0.0)
+        assertEquals(FeelsLikeTempCalculator.calculate(5.0, 60.0, 20.0, month = 10), batch[1], 0.0)
+        assertTrue(batch[0] != batch[1])
+    }
+
+    @Test
+    fun batch_missingTemperature_staysNaN() {
+        val timestamp = LocalDateTime.of(2024, 1, 15, 9, 0).atZone(kst).toInstant().toEpochMilli()
+
+        val batch = FeelsLikeTempCalculator.calculate(
+            doubleArrayOf(Double.NaN, -2.0),
+            doubleArrayOf(50.0, 50.0),
+            doubleArrayOf(15.0, 15.0),
+            longArrayOf(timestamp, timestamp)
+        )
+
+        assertTrue(batch[0].isNaN())
+        assertEquals(FeelsLikeTempCalculator.calculate(-2.0, 50.0, 15.0, month = 1), batch[1], 0.0)
+    }
+
+    private class Hourly(
+        val temperatures: DoubleArray,
+        val humidities: DoubleArray,
+        val windSpeeds: DoubleArray,
+        val timestamps: LongArray
+    )
+
+    private fun hourlyForecast(start: LocalDateTime, hours: Int): Hourly {
+        val startMillis = start.atZone(kst).toInstant().toEpochMilli()
+        return Hourly(
+            temperatures = DoubleArray(hours) { -5.0 + it % 24 },
+            humidities = DoubleArray(hours) { 40.0 + it % 50 },
+            windSpeeds = DoubleArray(hours) { 3.0 + it % 20 },
+            timestamps = LongArray(hours) { startMillis + it * 3_600_000L }
+        )
+    }
+
+    companion object {
+        private const val HOURS = 72
+    }
+}
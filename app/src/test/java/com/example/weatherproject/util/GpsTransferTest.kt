@@ -0,0 +1,92 @@
+package com.example.weatherproject.util
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import kotlin.math.PI
+import kotlin.math.cos
+import kotlin.math.ln
+import kotlin.math.pow
+import kotlin.math.sin
+import kotlin.math.tan
+import kotlin.random.Random
+
+class GpsTransferTest {
+
+    // 기상청 격자 범위 안쪽의 위경도 (한반도 주변)
+    private val random = Random(42)
+    private val lats = DoubleArray(POINTS) { 33.0 + random.nextDouble() * 10.0 }
+    private val lons = DoubleArray(POINTS) { 124.0 + random.nextDouble() * 8.0 }
+
+    @Test
+    fun knownPoints_mapToKmaGrid() {
+        assertEquals(Pair(60, 127), GpsTransfer.convertToGrid(37.5665, 126.9780)) // 서울시청
+        assertEquals(Pair(98, 76), GpsTransfer.convertToGrid(35.1796, 129.0756))  // 부산시청
+    }
+
+    @Test
+    fun gridCenter_roundTripsToSameGrid() {
+        for (nx in 1..149) for (ny in 1..253) {
+            val (lat, lon) = GpsTransfer.gridCenter(nx, ny)
+            assertEquals("gridCenter($nx, $ny)", Pair(nx, ny), GpsTransfer.convertToGrid(lat, lon))
+
+            val (x, y) = GpsTransfer.convertToGridPosition(lat, lon)
+            assertEquals(nx.toDouble(), x, 1e-9)
+            assertEquals(ny.toDouble(), y, 1e-9)
+        }
+    }
+
+    @Test
+    fun packedAndBatch_matchConvertToGrid() {
+        val outNx = IntArray(POINTS)
+        val outNy = IntArray(POINTS)
+        GpsTransfer.convertToGrid(lats, lons, outNx, outNy)
+
+        for (i in 0 until POINTS) {
+            val expected = GpsTransfer.convertToGrid(lats[i], lons[i])
+            val packed = GpsTransfer.convertToGridPacked(lats[i], lons[i])
+            assertEquals(expected, Pair(GpsTransfer.unpackNx(packed), GpsTransfer.unpackNy(packed)))
+            assertEquals(expected, Pair(outNx[i], outNy[i]))
+        }
+    }
+
+    @Test
+    fun precomputedConstants_matchPerCallComputation() {
+        for (i in 0 until POINTS) {
+            val (x, y) = legacyGridPosition(lats[i], lons[i])
+            assertEquals(Pair((x + 0.5).toInt(), (y + 0.5).toInt()), GpsTransfer.convertToGrid(lats[i], lons[i]))
+        }
+    }
+
+    /**
+     * 상수를 미리 계산하기 전의 GpsTransfer.convertToGridPosition (호출마다 투영 상수를 다시 계산)
+     */
+    private fun legacyGridPosition(lat: Double, lon: Double): Pair<Double, Double> {
+        val degrad = PI / 180.0
+
+        val re = 6371.00877 / 5.0
+        val slat1 = 30.0 * degrad
+        val slat2 = 60.0 * degrad
+        val olon = 126.0 * degrad
+        val olat = 38.0 * degrad
+
+        var sn = tan(PI * 0.25 + slat2 * 0.5) / tan(PI * 0.25 + slat1 * 0.5)
+        sn = ln(cos(slat1) / cos(slat2)) / ln(sn)
+        var sf = tan(PI * 0.25 + slat1 * 0.5)
+        sf = sf.pow(sn) * cos(slat1) / sn
+        var ro = tan(PI * 0.25 + olat * 0.5)
+        ro = re * sf / ro.pow(sn)
+
+        var ra = tan(PI * 0.25 + lat * degrad * 0.5)
+        ra = re * sf / ra.pow(sn)
+        var theta = lon * degrad - olon
+        if (theta > PI) theta -= 2.0 * PI
+        if (theta < -PI) theta += 2.0 * PI
+        theta *= sn
+
+        return Pair(ra * sin(theta) + 43.0, ro - ra * cos(theta) + 136.0)
+    }
+
+    companion object {
+        private const val POINTS = 10_000
+    }
+}
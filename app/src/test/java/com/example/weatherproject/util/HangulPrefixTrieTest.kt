@@ -0,0 +1,81 @@
+package com.example.weatherproject.util
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+/**
+ * 값은 키의 번호, 결과는 값 -> 사용한 오타 수입니다.
+ */
+class HangulPrefixTrieTest {
+
+    private val trie = HangulPrefixTrie.Builder()
+        .add("강남구", GANGNAM)
+        .add("강서구", GANGSEO)
+        .add("강릉시", GANGNEUNG)
+        .add("분당구", BUNDANG)
+        .add("분당", BUNDANG)
+        .build()
+
+    @Test
+    fun prefix_matchesEveryKeyBelowIt() {
+        assertEquals(mapOf(GANGNAM to 0, GANGSEO to 0, GANGNEUNG to 0), trie.search("강"))
+        assertEquals(mapOf(GANGNAM to 0), trie.search("강남"))
+        assertEquals(mapOf(GANGNAM to 0), trie.search("강남구"))
+        assertTrue(trie.search("강남구청").isEmpty())
+        assertTrue(trie.search("").isEmpty())
+    }
+
+    @Test
+    fun choseong_matchesSyllables() {
+        assertEquals(mapOf(GANGNAM to 0), trie.search("ㄱㄴ"))
+        assertEquals(mapOf(GANGNEUNG to 0), trie.search("ㄱㄹ"))
+        assertEquals(mapOf(GANGSEO to 0), trie.search("강ㅅ"))
+        assertEquals(mapOf(BUNDANG to 0), trie.search("ㅂㄷㄱ"))
+        // 된소리 초성(ㄲ)은 예사소리(ㄱ)와 구분함
+        assertTrue(trie.search("ㄲㄴ").isEmpty())
+    }
+
+    @Test
+    fun lastSyllableWithoutFinalConsonant_matchesWhileTyping() {
+        // "강나" 다음에 받침 ㅁ을 입력하는 중
+        assertEquals(mapOf(GANGNAM to 0), trie.search("강나"))
+        // 받침까지 다른 글자는 일치하지 않음
+        assertTrue(trie.search("강낙").isEmpty())
+        // 입력 중으로 보는 것은 마지막 글자뿐
+        assertTrue(trie.search("가남").isEmpty())
+    }
+
+    @Test
+    fun oneEdit_toleratesSubstitutionDeletionAndInsertion() {
+        // 대체: 넘 -> 남 (같은 자리의 강서구도 한 글자만 다름)
+        assertEquals(mapOf(GANGNAM to 1, GANGSEO to 1), trie.search("강넘구", maxEdits = 1))
+        // 누락: "분구" -> 분(당)구
+        assertEquals(1, trie.search("분구", maxEdits = 1)[BUNDANG])
+        // 추가: "분당당구" -> 분당구
+        assertEquals(1, trie.search("분당당구", maxEdits = 1)[BUNDANG])
+        // 오타를 허용하지 않으면 찾지 않음
+        assertTrue(trie.search("강넘구").isEmpty())
+    }
+
+    @Test
+    fun oneEdit_isTheLimit() {
+        assertTrue(trie.search("강넘주", maxEdits = 1).isEmpty())
+        assertEquals(mapOf(GANGNAM to 2), trie.search("강넘주", maxEdits = 2).filterKeys { it == GANGNAM })
+    }
+
+    @Test
+    fun sameValue_keepsFewestEdits() {
+        // "강남"은 정확히 일치하므로 오타로도 일치하는 경로가 있어도 0
+        assertEquals(0, trie.search("강남", maxEdits = 1)[GANGNAM])
+        // 키가 둘("분당", "분당구")인 값도 한 번만 나옴
+        assertEquals(mapOf(BUNDANG to 0), trie.search("분당"))
+    }
+
+    companion object {
+        private const val GANGNAM = 0
+        private const val GANGSEO = 1
+        private const val GANGNEUNG = 2
+        private const val BUNDANG = 3
+    }
+}
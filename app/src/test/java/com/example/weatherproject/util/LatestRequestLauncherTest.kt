@@ -0,0 +1,104 @@
+package com.example.weatherproject.util
+
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.NonCancellable
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withContext
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+/**
+ * 도시 검색 요청이 끝나기 전에 '현재 위치'(GPS) 요청이 시작되는 경쟁 상황에서
+ * 늦게 도착한 검색 결과가 GPS 결과를 덮어쓰지 않는지 확인합니다.
+ * (MainViewModel.requestWeather / fetchWeatherFromServer와 같은 방식으로 isLatest()일 때만 반영)
+ */
+class LatestRequestLauncherTest {
+
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.Default)
+    private val shown = mutableListOf<String>()
+
+    @After
+    fun tearDown() {
+        scope.cancel()
+    }
+
+    @Test
+    fun slowSearchResult_arrivingAfterGpsResult_isDropped() = runBlocking {
+        val launcher = LatestRequestLauncher(scope)
+        val searchResponse = CompletableDeferred<String>()
+        val searchStarted = CompletableDeferred<Unit>()
+
+        // 취소를 늦게 알아채는 요청 (응답을 받는 중이라 취소가 바로 반영되지 않는 경우)
+        val search = launcher.launch { isLatest ->
+            val result = withContext(NonCancellable) {
+                searchStarted.complete(Unit)
+                searchResponse.await()
+            }
+            show(result, isLatest)
+        }
+        searchStarted.await()
+
+        val gps = launcher.launch { isLatest -> show("gps", isLatest) }
+        gps.join()
+        searchResponse.complete("search")
+        search.join()
+
+        assertEquals(listOf("gps"), shown())
+        assertTrue(search.isCancelled)
+    }
+
+    @Test
+    fun gpsResult_arrivingAfterSlowSearchIsCanceled_isShown() = runBlocking {
+        val launcher = LatestRequestLauncher(scope)
+        val searchResponse = CompletableDeferred<String>()
+        val gpsResponse = CompletableDeferred<String>()
+
+        val search = launcher.launch { isLatest -> show(searchResponse.await(), isLatest) }
+        val gps = launcher.launch { isLatest -> show(gpsResponse.await(), isLatest) }
+        // 검색 응답이 GPS 응답보다 먼저 와도 이미 취소된 요청이므로 반영되지 않음
+        searchResponse.complete("search")
+        search.join()
+        gpsResponse.complete("gps")
+        gps.join()
+
+        assertEquals(listOf("gps"), shown())
+    }
+
+    @Test
+    fun searchAfterGps_searchWins() = runBlocking {
+        val launcher = LatestRequestLauncher(scope)
+        val gpsResponse = CompletableDeferred<String>()
+
+        val gps = launcher.launch { isLatest ->
+            show(withContext(NonCancellable) { gpsResponse.await() }, isLatest)
+        }
+        val search = launcher.launch { isLatest -> show("search", isLatest) }
+        search.join()
+        gpsResponse.complete("gps")
+        gps.join()
+
+        assertEquals(listOf("search"), shown())
+    }
+
+    @Test
+    fun singleRequest_isShown() = runBlocking {
+        val launcher = LatestRequestLauncher(scope)
+
+        launcher.launch { isLatest -> show("search", isLatest) }.join()
+
+        assertEquals(listOf("search"), shown())
+    }
+
+    private fun show(result: String, isLatest: () -> Boolean) {
+        if (!isLatest()) return
+        synchronized(shown) { shown.add(result) }
+    }
+
+    private fun shown(): List<String> = synchronized(shown) { shown.toList() }
+}
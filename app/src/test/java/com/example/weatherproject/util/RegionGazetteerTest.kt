@@ -0,0 +1,71 @@
+package com.example.weatherproject.util
+
+import android.app.Application
+import androidx.test.core.app.ApplicationProvider
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+/**
+ * 앱에 포함된 assets/regions.tsv를 그대로 읽어 검색합니다. (assets를 읽으므로 Robolectric으로 실행)
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(application = Application::class)
+class RegionGazetteerTest {
+
+    private val gazetteer = RegionGazetteer(ApplicationProvider.getApplicationContext())
+
+    @Test
+    fun loadsRegionColumnsFromTsv() {
+        val seoul = gazetteer.search("서울특별시").first()
+
+        assertEquals(Region(1, "서울특별시", 37.5665, 126.9780, 60, 127), seoul)
+        assertEquals("경기도 성남시 분당구", gazetteer.search("경기도 성남시 분당구").single().fullName)
+    }
+
+    @Test
+    fun aliasesAndShortNames_findTheSameRegion() {
+        // 별칭 열(서울, 서울시)과 끝의 구를 뗀 이름
+        assertEquals("서울특별시", gazetteer.search("서울시").first().fullName)
+        assertEquals("부산광역시 해운대구", gazetteer.search("해운대").first().fullName)
+        // 공백은 무시하고, 상위 행정구역을 줄여 붙여도 됨
+        assertEquals("서울특별시 강남구", gazetteer.search("서울 강남").first().fullName)
+        assertEquals("경기도 성남시 분당구", gazetteer.search("성남분당").first().fullName)
+    }
+
+    @Test
+    fun choseong_findsRegion() {
+        assertTrue(gazetteer.search("ㅂㄷ").any { it.fullName == "경기도 성남시 분당구" })
+        assertEquals("부산광역시 해운대구", gazetteer.search("ㅎㅇㄷ").first().fullName)
+    }
+
+    @Test
+    fun typo_isToleratedFromThreeCharacters() {
+        assertEquals("부산광역시 해운대구", gazetteer.search("해운데구").first().fullName)
+        // 두 글자 이하는 오타를 허용하지 않음
+        assertTrue(gazetteer.search("헤운").isEmpty())
+    }
+
+    @Test
+    fun ranking_exactBeforeTypo_thenUpperLevelFirst() {
+        val results = gazetteer.search("부산진")
+
+        // 정확히 일치하는 부산진구가 먼저, 그다음은 오타 하나로 일치한 지역 중 시/도부터
+        assertEquals("부산광역시 부산진구", results[0].fullName)
+        assertEquals("부산광역시", results[1].fullName)
+        assertTrue(results.drop(2).all { it.level >= 2 })
+        // 같은 단계의 여러 "중구" 중에서는 이름이 짧은 지역이 먼저
+        val jungGu = gazetteer.search("중구")
+        assertTrue(jungGu.size > 1 && jungGu.all { it.fullName.endsWith("중구") })
+        assertEquals(jungGu.map { it.fullName.length }.sorted(), jungGu.map { it.fullName.length })
+    }
+
+    @Test
+    fun limit_andBlankQuery() {
+        assertEquals(3, gazetteer.search("서울", limit = 3).size)
+        assertTrue(gazetteer.search("  ").isEmpty())
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.weatherproject.util
+
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.SkyCondition
+import com.example.weatherproject.data.WeatherDetails
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+/**
+ * 숫자 모델(WeatherState)과 화면에서만 문자열을 만드는 WeatherFormatter 확인.
+ */
+class WeatherFormatterTest {
+
+    private val states = List(STATES) { index ->
+        val temp = -15.0 + index % 50 + 0.5
+        Pair(
+            CurrentWeather(
+                temperature = temp,
+                maxTemp = temp + 5,
+                minTemp = temp - 5,
+                feelsLike = temp - 2,
+                sky = SkyCondition.values()[index % SkyCondition.values().size]
+            ),
+            WeatherDetails(
+                humidity = (index % 100).toDouble(),
+                precipitation = (index % 4) * 0.5,
+                windSpeed = (index % 13) * 0.7
+            )
+        )
+    }
+
+    @Test
+    fun formattedValues_matchPreviousDisplayStrings() {
+        // 숫자 모델로 바꾸기 전 WeatherRepositoryImpl이 만들던 문자열과 같은지
+        assertEquals("21°", WeatherFormatter.temperature(21.7))
+        assertEquals("-3°", WeatherFormatter.temperature(-3.4))
+        assertEquals("40%", WeatherFormatter.humidity(40.0))
+        assertEquals("0.0 mm", WeatherFormatter.precipitation(0.0))
+        assertEquals("3.2 m/s", WeatherFormatter.windSpeed(3.2))
+        assertEquals("1013 hPa", WeatherFormatter.pressure(1013.0))
+        assertEquals("10 km", WeatherFormatter.visibility(10.0))
+    }
+
+    @Test
+    fun missingValues_areShownAsDashes() {
+        assertEquals("--°", WeatherFormatter.temperature(null))
+        assertEquals("--%", WeatherFormatter.humidity(null))
+        assertEquals("-- m/s", WeatherFormatter.windSpeed(null))
+    }
+
+    @Test
+    fun windSpeed_isNotMisreadLikeTheStringModel() {
+        // 문자열 모델에서는 WeatherContextItem이 "3.2 m/s"에서 숫자만 남겨 32로 읽었음
+        val details = WeatherDetails(windSpeed = 3.2)
+
+        assertEquals(32, legacyContextValue(WeatherFormatter.windSpeed(details.windSpeed)))
+        assertEquals(3.2, details.windSpeed!!, 0.0)
+    }
+
+    @Test
+    fun numericFields_matchParsedBackStrings() {
+        for ((current, details) in states) {
+            val legacy = legacyParse(legacyStrings(current, details))
+            assertEquals(current.feelsLike!!.toInt(), legacy.feelsLike)
+            assertEquals(current.maxTemp!!.toInt(), legacy.maxTemp)
+            assertEquals(current.minTemp!!.toInt(), legacy.minTemp)
+            assertEquals(details.windSpeed!!, legacy.windSpeed, 0.0)
+            assertEquals(details.humidity!!.toInt(), legacy.humidity)
+            assertEquals(details.precipitation!!, legacy.precipitation, 0.0)
+        }
+    }
+
+    private class LegacyStrings(
+        val temperature: String,
+        val feelsLike: String,
+        val maxTemp: String,
+        val minTemp: String,
+        val humidity: String,
+        val precipitation: String,
+        val wind: String
+    )
+
+    private class LegacyValues(
+        val feelsLike: Int,
+        val maxTemp: Int?,
+        val minTemp: Int?,
+        val windSpeed: Double,
+        val humidity: Int,
+        val precipitation: Double
+    )
+
+    // 숫자 모델로 바꾸기 전 WeatherRepositoryImpl.mapResponseToWeatherState가 만들던 문자열
+    private fun legacyStrings(current: CurrentWeather, details: WeatherDetails) = LegacyStrings(
+        temperature = "${current.temperature?.toInt() ?: 0}°",
+        feelsLike = "${current.feelsLike?.toInt() ?: 0}°",
+        maxTemp = "${current.maxTemp?.toInt() ?: 0}°",
+        minTemp = "${current.minTemp?.toInt() ?: 0}°",
+        humidity = "${details.humidity?.toInt() ?: 0}%",
+        precipitation = "${details.precipitation ?: 0.0} mm",
+        wind = "${details.windSpeed ?: 0.0} m/s"
+    )
+
+    // 숫자 모델로 바꾸기 전 WeatherSummarizer.getSummary가 문자열에서 숫자를 다시 읽던 방식
+    private fun legacyParse(strings: LegacyStrings) = LegacyValues(
+        feelsLike = strings.feelsLike.replace(Regex("[^0-9-]"), "").toIntOrNull() ?: 0,
+        maxTemp = strings.maxTemp.replace(Regex("[^0-9-]"), "").toIntOrNull(),
+        minTemp = strings.minTemp.replace(Regex("[^0-9-]"), "").toIntOrNull(),
+        windSpeed = strings.wind.replace(Regex("[^0-9.]"), "").toDoubleOrNull() ?: 0.0,
+        humidity = strings.humidity.replace(Regex("[^0-9]"), "").toIntOrNull() ?: 0,
+        precipitation = strings.precipitation.replace(Regex("[^0-9.]"), "").toDoubleOrNull() ?: 0.0
+    )
+
+    // 숫자 모델로 바꾸기 전 WeatherContextItem이 표시 문자열에서 값을 읽던 방식
+    private fun legacyContextValue(value: String): Int = value.replace(Regex("[^0-9]"), "").toIntOrNull() ?: 0
+
+    companion object {
+        private const val STATES = 1_000
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.weatherproject.util
+
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.HourlyForecast
+import com.example.weatherproject.data.PrecipitationType
+import com.example.weatherproject.data.SkyCondition
+import com.example.weatherproject.data.WeatherDetails
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class WeatherSummarizerTest {
+
+    private val feelsLikes = (-20..40).map { it.toDouble() } + listOf(-0.5, 4.9, 9.9, 11.5)
+    private val windSpeeds = listOf(null, 0.0, 3.9, 4.0, 9.9, 10.0, 15.0)
+    private val humidities = listOf(null, 0.0, 69.9, 70.0, 100.0)
+    private val ranges = listOf(null to null, 20.0 to 11.0, 20.0 to 10.0, 5.0 to null)
+
+    @Test
+    fun lookupTable_matchesOriginalRulesForEveryCombination() {
+        var checked = 0
+        for (month in 1..12) for (feelsLike in feelsLikes) for (sky in SkyCondition.values()) {
+            for (windSpeed in windSpeeds) for (humidity in humidities) for ((max, min) in ranges) {
+                val current = CurrentWeather(maxTemp = max, minTemp = min, feelsLike = feelsLike, sky = sky)
+                val details = WeatherDetails(humidity = humidity, windSpeed = windSpeed)
+
+                assertEquals(
+                    "month=$month feelsLike=$feelsLike sky=$sky wind=$windSpeed humidity=$humidity range=$max/$min",
+                    legacySummary(current, details, emptyList(), month),
+                    WeatherSummarizer.getSummary(current, details, emptyList(), month)
+                )
+                checked++
+            }
+        }
+        assertTrue(checked > 100_000)
+    }
+
+    @Test
+    fun precipitation_matchesOriginalRules() {
+        val forecasts = listOf(
+            emptyList(),
+            List(8) { HourlyForecast(precipitationType = PrecipitationType.NONE) },
+            List(5) { HourlyForecast() } + HourlyForecast(precipitationType = PrecipitationType.SHOWER),
+            List(6) { HourlyForecast() } + HourlyForecast(precipitationType = PrecipitationType.SNOW),
+            listOf(HourlyForecast(precipitationType = PrecipitationType.RAIN), HourlyForecast(precipitationType = PrecipitationType.SLEET))
+        )
+        for (feelsLike in feelsLikes) for (precipitation in listOf(null, 0.0, 0.1)) for (hourly in forecasts) {
+            val current = CurrentWeather(feelsLike = feelsLike, sky = SkyCondition.CLEAR)
+            val details = WeatherDetails(precipitation = precipitation)
+            assertEquals(
+                legacySummary(current, details, hourly, 1),
+                WeatherSummarizer.getSummary(current, details, hourly, 1)
+            )
+        }
+    }
+
+    /**
+     * 규칙 표로 바꾸기 전의 WeatherSummarizer.getSummary (month만 인자로 받도록 바꿈).
+     */
+    private fun legacySummary(
+        currentWeather: CurrentWeather,
+        weatherDetails: WeatherDetails,
+        hourlyForecast: List<HourlyForecast>,
+        currentMonth: Int
+    ): String {
+        val feelsLikeTemp = currentWeather.feelsLike?.toInt() ?: 0
+        val maxTemp = currentWeather.maxTemp?.toInt()
+        val minTemp = currentWeather.minTemp?.toInt()
+        val windSpeed = weatherDetails.windSpeed ?: 0.0
+        val humidity = weatherDetails.humidity?.toInt() ?: 0
+        val precipitation = weatherDetails.precipitation ?: 0.0
+
+        if (precipitation > 0) {
+            return when {
+                feelsLikeTemp < 0 -> "눈이 내리는 날씨예요. 미끄러지지 않게 조심하세요."
+                feelsLikeTemp < 5 -> "비나 눈이 오고 추워요. 따뜻하게 입으세요."
+                else -> "비가 오고 있어요. 우산을 꼭 챙기세요."
+            }
+        }
+
+        val upcomingPrecipitation = hourlyForecast.take(6).map { it.precipitationType }
+        if (upcomingPrecipitation.any { it.isSnow }) return "곧 눈이 올 수 있어요."
+        if (upcomingPrecipitation.any { it.isRain }) return "곧 비 소식이 있으니 우산을 챙기세요."
+
+        val isWinter = currentMonth == 12 || currentMonth <= 2
+        val isSummer = currentMonth in 6..8
+        val dailyRange = if (maxTemp != null && minTemp != null) maxTemp - minTemp else 0
+        val isCloudy = currentWeather.sky.isCloudy
+        val isClear = currentWeather.sky == SkyCondition.CLEAR
+
+        var message = if (isWinter) {
+            when {
+                feelsLikeTemp >= 12 -> "겨울이지만 봄처럼 포근한 날씨예요."
+                feelsLikeTemp >= 5 -> "겨울치고는 비교적 온화한 편이에요."
+                feelsLikeTemp >= -5 -> "공기가 꽤 차가운 날씨예요. 따뜻하게 입으세요."
+                else -> "매서운 한파가 찾아왔어요. 보온에 신경 쓰세요."
+            }
+        } else if (isSummer) {
+            when {
+                feelsLikeTemp >= 33 -> "가만히 있어도 땀이 나는 폭염이에요."
+                feelsLikeTemp >= 28 -> "무더운 여름 날씨입니다. 수분을 자주 섭취하세요."
+                feelsLikeTemp >= 23 -> "활동하기 적당하지만 조금 더울 수 있어요."
+                else -> "여름치고는 선선해서 활동하기 좋아요."
+            }
+        } else {
+            when {
+                feelsLikeTemp >= 25 -> "초여름처럼 다소 더운 날씨예요."
+                feelsLikeTemp >= 18 -> "나들이하기 딱 좋은 쾌적한 날씨예요!"
+                feelsLikeTemp >= 10 -> "선선한 바람이 불어 산책하기 좋아요."
+                feelsLikeTemp >= 5 -> "아침저녁으로 쌀쌀하니 겉옷을 챙기세요."
+                else -> "계절보다 날씨가 많이 춥네요."
+            }
+        }
+
+        if (isWinter) {
+            if (isCloudy && feelsLikeTemp < 10) {
+                if (message.contains("포근") || message.contains("온화")) {
+                    message += " 그래도 흐린 날씨라 약간 쌀쌀할 수 있어요."
+                } else {
+                    message = "하늘이 흐려 실제보다 더 쌀쌀하게 느껴지는 날씨예요."
+                }
+            } else if (isClear && feelsLikeTemp < 0) {
+                message = "하늘은 맑지만 공기가 매우 차가우니 보온에 신경 쓰세요."
+            }
+        }
+
+        if (isWinter && windSpeed >= 4.0) {
+            if (feelsLikeTemp >= 5) {
+                if (message.contains("온화") || message.contains("포근")) {
+                    message = "기온은 높지만 찬 바람이 불어 체감온도는 낮아요."
+                } else {
+                    message += " 찬 바람 때문에 더 춥게 느껴질 수 있어요."
+                }
+            } else {
+                if (!message.contains("바람")) {
+                    message += " 칼바람 때문에 체감온도가 뚝 떨어졌어요."
+                }
+            }
+        }
+
+        if (isSummer && humidity >= 70 && feelsLikeTemp >= 25) {
+            message = "습도가 높아 불쾌지수가 높고 후텁지근해요."
+        }
+
+        if (!isSummer && !isWinter && dailyRange >= 10) {
+            if (message.length < 30) {
+                message += " 일교차가 크니 감기 조심하세요."
+            }
+        }
+
+        if (windSpeed >= 10.0) {
+            message = "바람이 매우 강하게 불어요. 시설물 관리에 유의하세요."
+        }
+
+        return message
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.weatherproject.worker
+
+import android.Manifest
+import android.app.Application
+import android.app.NotificationManager
+import android.content.Context
+import android.os.Looper
+import androidx.room.Room
+import androidx.test.core.app.ApplicationProvider
+import androidx.work.Configuration
+import androidx.work.ListenableWorker
+import androidx.work.WorkInfo
+import androidx.work.WorkManager
+import androidx.work.WorkerFactory
+import androidx.work.WorkerParameters
+import androidx.work.testing.SynchronousExecutor
+import androidx.work.testing.WorkManagerTestInitHelper
+import com.example.weatherproject.data.CurrentWeather
+import com.example.weatherproject.data.DataFreshness
+import com.example.weatherproject.data.SkyCondition
+import com.example.weatherproject.data.WeatherState
+import com.example.weatherproject.data.local.AppDatabase
+import com.example.weatherproject.data.repository.FakeWeatherRepository
+import com.example.weatherproject.data.repository.SettingsRepository
+import com.example.weatherproject.network.WeatherGson
+import com.example.weatherproject.util.AlarmBriefingComposer
+import com.example.weatherproject.util.GeocodingCache
+import com.example.weatherproject.util.LocationProvider
+import com.example.weatherproject.util.PreferenceManager
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.Shadows.shadowOf
+import org.robolectric.annotation.Config
+import java.io.IOException
+
+/**
+ * AlarmReceiver가 미리 만든 브리핑이 없는 알람마다 enqueueAlarmBriefing을 호출한 뒤의 흐름을 확인합니다.
+ * APPEND_OR_REPLACE로 이어 붙인 WeatherUpdateWorker들이 차례로 실행되며 WeatherWorkOrchestrator.fetchWeather를 거쳐
+ * 날씨는 한 번만 조회하고, 알림은 알람마다 따로 표시해야 합니다.
+ * (WorkManager는 work-testing의 테스트 인스턴스, 저장소는 FakeWeatherRepository를 사용)
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(application = Application::class)
+class AlarmBriefingChainTest {
+
+    private val context: Application = ApplicationProvider.getApplicationContext()
+    private val preferenceManager = PreferenceManager(context, WeatherGson.instance)
+    private val notificationManager = context.getSystemService(NotificationManager::class.java)
+    private lateinit var database: AppDatabase
+    private lateinit var repository: FakeWeatherRepository
+    private lateinit var orchestrator: WeatherWorkOrchestrator
+
+    @Before
+    fun setUp() {
+        shadowOf(context).grantPermissions(Manifest.permission.POST_NOTIFICATIONS)
+        database = Room.inMemoryDatabaseBuilder(context, AppDatabase::class.java)
+            .allowMainThreadQueries()
+            .build()
+        repository = FakeWeatherRepository { lat, lon ->
+            Result.success(weatherState(lat, lon, updatedAt = System.currentTimeMillis(), DataFreshness.FRESH))
+        }
+
+        val workerFactory = object : WorkerFactory() {
+            override fun createWorker(
+                appContext: Context,
+                workerClassName: String,
+                workerParameters: WorkerParameters
+            ): ListenableWorker? =
+                if (workerClassName == WeatherUpdateWorker::class.java.name) {
+                    WeatherUpdateWorker(appContext, workerParameters, orchestrator)
+                } else null
+        }
+        WorkManagerTestInitHelper.initializeTestWorkManager(
+            context,
+            Configuration.Builder()
+                .setExecutor(SynchronousExecutor())
+                .setWorkerFactory(workerFactory)
+                .build()
+        )
+    }
+
+    @After
+    fun tearDown() {
+        database.close()
+    }
+
+    @Test
+    fun burstOfAlarms_fetchesOnceAndNotifiesEachAlarm() {
+        // 앱이 한 시간 전에 받아 둔 날씨: 위치는 여기서 가져오지만 공유 구간은 지났으므로 새로 조회해야 함
+        val now = System.currentTimeMillis()
+        preferenceManager.saveWeatherState(weatherState(SEOUL_LAT, SEOUL_LON, updatedAt = now - HOUR, DataFreshness.FRESH))
+        orchestrator = newOrchestrator()
+
+        ALARM_IDS.forEach { orchestrator.enqueueAlarmBriefing(it, triggeredAt = now) }
+        val infos = awaitBriefings(ALARM_IDS.size)
+
+        // 네트워크 조건 없이 바로 실행되고(TestDriver로 조건을 채우지 않음), 체인이 끊기지 않음
+        assertTrue(infos.all { it.state == WorkInfo.State.SUCCEEDED })
+        assertEquals(1, repository.getWeatherDataCalls)
+        assertNotifiedEachAlarm()
+
+        // 첫 브리핑만 조회하고 나머지는 그 결과를 공유
+        val wakeUps = orchestrator.recentWakeUps()
+        assertEquals(ALARM_IDS.size, wakeUps.size)
+        assertFalse(wakeUps.first().shared)
+        assertEquals(1, wakeUps.first().weatherRequests)
+        assertTrue(wakeUps.drop(1).all { it.shared && it.success && it.weatherRequests == 0 })
+        assertEquals(ALARM_IDS.toSet(), orchestrator.recentDeliveries().map { it.alarmId }.toSet())
+    }
+
+    @Test
+    fun recentStateInPreferences_isReusedWithoutFetching() {
+        // 앱(또는 다른 작업)이 방금 받은 날씨가 있으면 새 프로세스의 첫 브리핑도 조회하지 않음
+        val now = System.currentTimeMillis()
+        preferenceManager.saveWeatherState(weatherState(SEOUL_LAT, SEOUL_LON, updatedAt = now - MINUTE, DataFreshness.FRESH))
+        orchestrator = newOrchestrator()
+
+        ALARM_IDS.forEach { orchestrator.enqueueAlarmBriefing(it, triggeredAt = now) }
+        val infos = awaitBriefings(ALARM_IDS.size)
+
+        assertTrue(infos.all { it.state == WorkInfo.State.SUCCEEDED })
+        assertEquals(0, repository.getWeatherDataCalls)
+        assertNotifiedEachAlarm()
+        assertTrue(orchestrator.recentWakeUps().all { it.shared && it.weatherRequests == 0 })
+    }
+
+    @Test
+    fun fetchFailure_stillNotifiesEveryAlarm() {
+        repository = FakeWeatherRepository { _, _ -> Result.failure(IOException("offline")) }
+        val now = System.currentTimeMillis()
+        preferenceManager.saveWeatherState(weatherState(SEOUL_LAT, SEOUL_LON, updatedAt = now - HOUR, DataFreshness.CACHED))
+        orchestrator = newOrchestrator()
+
+        ALARM_IDS.forEach { orchestrator.enqueueAlarmBriefing(it, triggeredAt = now) }
+        val infos = awaitBriefings(ALARM_IDS.size)
+
+        // 실패한 조회는 공유하지 않으므로 브리핑마다 다시 시도하지만, 대체 알림으로 성공해 뒤의 브리핑이 취소되지 않음
+        assertTrue(infos.all { it.state == WorkInfo.State.SUCCEEDED })
+        assertEquals(ALARM_IDS.size, repository.getWeatherDataCalls)
+        assertTrue(orchestrator.recentWakeUps().all { !it.success && it.weatherRequests == 1 })
+        assertNotifiedEachAlarm()
+    }
+
+    private fun newOrchestrator(): WeatherWorkOrchestrator {
+        val geocodingCache = GeocodingCache(context, database.geocodeDao(), WeatherGson.instance)
+        return WeatherWorkOrchestrator(
+            application = context,
+            weatherRepository = repository,
+            preferenceManager = preferenceManager,
+            locationProvider = LocationProvider(context, geocodingCache),
+            settingsRepository = SettingsRepository(preferenceManager)
+        )
+    }
+
+    // 워커는 Dispatchers.Default에서 돌고 다음 작업은 메인 Looper를 거쳐 시작되므로, Looper를 돌리며 끝날 때까지 기다림
+    private fun awaitBriefings(count: Int): List<WorkInfo> {
+        val workManager = WorkManager.getInstance(context)
+        val deadline = System.currentTimeMillis() + TIMEOUT_MILLIS
+        while (true) {
+            shadowOf(Looper.getMainLooper()).idle()
+            val infos = workManager.getWorkInfosForUniqueWork(WeatherWorkPurpose.ALARM_BRIEFING.uniqueWorkName).get()
+            if (infos.size == count && infos.all { it.state.isFinished }) return infos
+            check(System.currentTimeMillis() < deadline) { "Briefings did not finish: $infos" }
+            Thread.sleep(10)
+        }
+    }
+
+    private fun assertNotifiedEachAlarm() {
+        val notifications = shadowOf(notificationManager)
+        assertEquals(ALARM_IDS.size, notifications.allNotifications.size)
+        ALARM_IDS.forEach { assertNotNull(notifications.getNotification(AlarmBriefingComposer.notificationId(it))) }
+    }
+
+    private fun weatherState(lat: Double, lon: Double, updatedAt: Long, freshness: DataFreshness) = WeatherState(
+        isLoading = false,
+        currentWeather = CurrentWeather(temperature = 21.0, maxTemp = 24.0, minTemp = 14.0, feelsLike = 20.0, sky = SkyCondition.CLEAR),
+        latitude = lat,
+        longitude = lon,
+        address = "서울특별시 중구",
+        lastUpdatedAt = updatedAt,
+        freshness = freshness
+    )
+
+    companion object {
+        private val ALARM_IDS = listOf(1, 2, 3)
+        private const val SEOUL_LAT = 37.5665
+        private const val SEOUL_LON = 126.9780
+        private const val MINUTE = 60 * 1000L
+        private const val HOUR = 60 * MINUTE
+        private const val TIMEOUT_MILLIS = 10_000L
+    }
+}
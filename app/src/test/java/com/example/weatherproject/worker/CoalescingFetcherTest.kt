@@ -0,0 +1,81 @@
+package com.example.weatherproject.worker
+
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.util.concurrent.atomic.AtomicInteger
+
+class CoalescingFetcherTest {
+
+    private var now = 1_000_000L
+    private val fetcher = CoalescingFetcher<String>(windowMillis = WINDOW, clock = { now })
+
+    @Test
+    fun burstOfAlarmBriefings_fetchesOnce() = runBlocking {
+        val loads = AtomicInteger()
+
+        // 같은 시각에 울린 알람 5개의 브리핑이 동시에 날씨를 요청
+        val results = (1..5).map {
+            async(Dispatchers.Default) {
+                fetcher.fetch {
+                    loads.incrementAndGet()
+                    delay(50)
+                    "weather"
+                }
+            }
+        }.awaitAll()
+
+        assertEquals(1, loads.get())
+        assertTrue(results.all { it.value == "weather" })
+        assertEquals(1, results.count { !it.shared })
+    }
+
+    @Test
+    fun fetchAfterWindow_loadsAgain() = runBlocking {
+        val loads = AtomicInteger()
+        val load: suspend () -> String? = { "weather-${loads.incrementAndGet()}" }
+
+        fetcher.fetch(load = load)
+        now += WINDOW - 1
+        assertEquals("weather-1", fetcher.fetch(load = load).value)
+
+        now += 1
+        assertEquals("weather-2", fetcher.fetch(load = load).value)
+        assertEquals(2, loads.get())
+    }
+
+    @Test
+    fun failedFetch_isRetriedByNextRequest() = runBlocking {
+        val loads = AtomicInteger()
+
+        val failed = fetcher.fetch { loads.incrementAndGet(); null }
+        val retried = fetcher.fetch { loads.incrementAndGet(); "weather" }
+
+        assertNull(failed.value)
+        assertEquals("weather", retried.value)
+        assertFalse(retried.shared)
+        assertEquals(2, loads.get())
+    }
+
+    @Test
+    fun recentValueFromOutside_skipsFetch() = runBlocking {
+        val loads = AtomicInteger()
+
+        val result = fetcher.fetch(recent = { "from-app" }) { loads.incrementAndGet(); "weather" }
+
+        assertEquals("from-app", result.value)
+        assertTrue(result.shared)
+        assertEquals(0, loads.get())
+    }
+
+    companion object {
+        private const val WINDOW = 10 * 60 * 1000L
+    }
+}